@@ -11,8 +11,15 @@ plugins {
 group = "com.hexagonal"
 version = "0.0.1-SNAPSHOT"
 
+/**
+ * 빌드 대상 Java 버전 (기본 17)
+ * -PjavaVersion=21 로 빌드하면 가상 스레드 실행 모드(virtual 프로파일, spring.threads.virtual.enabled) 사용 가능
+ * 소스는 17 기준으로 작성하므로 두 버전 모두 빌드되며, 21 빌드는 JDK 21 이상으로 실행해야 함
+ */
+val javaVersion = JavaVersion.toVersion(findProperty("javaVersion") ?: "17")
+
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    sourceCompatibility = javaVersion
 }
 
 configurations {
@@ -34,6 +41,11 @@ subprojects {
         mavenCentral()
     }
 
+    configure<JavaPluginExtension> {
+        sourceCompatibility = javaVersion
+        targetCompatibility = javaVersion
+    }
+
     dependencies {
         implementation("io.micrometer:micrometer-registry-prometheus")
         implementation("org.springframework.boot:spring-boot-starter-actuator")
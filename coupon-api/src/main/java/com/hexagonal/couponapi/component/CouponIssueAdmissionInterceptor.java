@@ -0,0 +1,96 @@
+package com.hexagonal.couponapi.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponapi.dto.CouponIssueResponseDto;
+import com.hexagonal.couponcore.component.CouponIssueQueueMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.TOO_MANY_ISSUE_REQUESTS;
+
+/**
+ * 발급 요청 수락 제어 인터셉터
+ * 발급 Lua 스크립트를 실행하기 전에 아래 조건이면 429 Too Many Requests와 Retry-After 헤더로 즉시 거절
+ * 1. Queue 예상 대기 시간(Queue 길이 / Consumer 소진 속도)이 max-estimated-wait-millis 초과
+ *    - Consumer 처리 능력을 넘는 요청을 계속 적재하면 Redis 메모리와 발급 완료까지의 시간이 끝없이 늘어나므로 입구에서 차단
+ * 2. 동시 처리 요청 수가 적응형 한도(CouponIssueConcurrencyLimiter)에 도달
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueAdmissionInterceptor implements HandlerInterceptor {
+    private static final String STARTED_AT = CouponIssueAdmissionInterceptor.class.getName() + ".startedAt";
+
+    private final CouponIssueQueueMonitor couponIssueQueueMonitor;
+    private final CouponIssueConcurrencyLimiter couponIssueConcurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private byte[] rejectedBody;
+    private Counter queueRejectedCounter;
+    private Counter concurrencyRejectedCounter;
+
+    @Value("${coupon.api.admission.max-estimated-wait-millis:5000}")
+    private long maxEstimatedWaitMillis;
+
+    @PostConstruct
+    void init() throws JsonProcessingException {
+        rejectedBody = objectMapper.writeValueAsBytes(new CouponIssueResponseDto(false, TOO_MANY_ISSUE_REQUESTS.message));
+        queueRejectedCounter = meterRegistry.counter("coupon.api.admission.rejected", "reason", "queue");
+        concurrencyRejectedCounter = meterRegistry.counter("coupon.api.admission.rejected", "reason", "concurrency");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        // 비동기 처리 완료 후 재디스패치는 이미 수락된 요청
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        long estimatedWaitMillis = couponIssueQueueMonitor.estimatedWaitMillis();
+        if (estimatedWaitMillis > maxEstimatedWaitMillis) {
+            reject(response, queueRejectedCounter, retryAfterSeconds(estimatedWaitMillis - maxEstimatedWaitMillis));
+            return false;
+        }
+        if (!couponIssueConcurrencyLimiter.tryAcquire()) {
+            reject(response, concurrencyRejectedCounter, 1);
+            return false;
+        }
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            request.removeAttribute(STARTED_AT);
+            couponIssueConcurrencyLimiter.release(System.nanoTime() - startedAt, ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    private void reject(HttpServletResponse response, Counter rejectedCounter, long retryAfterSeconds) throws IOException {
+        rejectedCounter.increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(rejectedBody);
+    }
+
+    /**
+     * 예상 대기 시간이 기준 이하로 내려가기까지 필요한 시간(초), 최소 1초
+     */
+    private long retryAfterSeconds(long excessMillis) {
+        return Math.max(1, (excessMillis + 999) / 1000);
+    }
+}
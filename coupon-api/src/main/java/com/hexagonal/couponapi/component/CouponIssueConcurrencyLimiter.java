@@ -0,0 +1,109 @@
+package com.hexagonal.couponapi.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 발급 API 동시 처리 요청 수 제한 컴포넌트 (AIMD 방식의 적응형 한도)
+ * - 응답 시간이 기준 이하면 한도를 조금씩 늘리고(additive increase), 기준을 넘거나 실패하면 한도를 비율로 줄임(multiplicative decrease)
+ * - Redis 지연 등으로 응답이 느려지면 한도가 빠르게 줄어 Tomcat 스레드가 모두 Redis 대기에 묶이지 않도록 함
+ * - 한 번의 지연으로 한도가 최소치까지 떨어지지 않도록 감소는 decrease-interval 마다 최대 1회만 적용
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueConcurrencyLimiter {
+    private static final double DECREASE_RATIO = 0.9;
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecreasedAt;
+
+    @Value("${coupon.api.admission.concurrency.initial-limit:200}")
+    private int initialLimit;
+
+    @Value("${coupon.api.admission.concurrency.min-limit:20}")
+    private int minLimit;
+
+    @Value("${coupon.api.admission.concurrency.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${coupon.api.admission.concurrency.latency-threshold-millis:100}")
+    private long latencyThresholdMillis;
+
+    @Value("${coupon.api.admission.concurrency.decrease-interval-millis:1000}")
+    private long decreaseIntervalMillis;
+
+    @PostConstruct
+    void init() {
+        limit = initialLimit;
+        Gauge.builder("coupon.api.concurrency.limit", this, limiter -> limiter.limit)
+                .description("발급 API 동시 처리 한도")
+                .register(meterRegistry);
+        Gauge.builder("coupon.api.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("발급 API 처리 중인 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 슬롯 확보
+     * @return 한도 이내라면 true, 한도에 도달했다면 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 슬롯 반환 및 처리 결과로 한도 조정
+     * @param latencyNanos 요청 처리 시간
+     * @param failed 서버 오류 여부
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        if (failed || latencyNanos > TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis)) {
+            decrease();
+        } else if (current * 2 >= limit) {
+            increase();
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 한도의 절반 이상을 사용 중일 때만 증가시켜 유휴 상태에서 한도가 무한히 커지지 않도록 함
+     * 한도만큼의 요청이 완료될 때마다 약 1씩 증가
+     */
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+
+    private synchronized void decrease() {
+        long now = System.currentTimeMillis();
+        if (now - lastDecreasedAt < decreaseIntervalMillis) {
+            return;
+        }
+        lastDecreasedAt = now;
+        limit = Math.max(minLimit, limit * DECREASE_RATIO);
+    }
+}
@@ -0,0 +1,102 @@
+package com.hexagonal.couponapi.component;
+
+import com.hexagonal.couponapi.dto.CouponIssueStatusResponseDto;
+import com.hexagonal.couponcore.repository.redis.CouponIssueResultRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueResult;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueResultChannel;
+
+/**
+ * 발급 결과 long-poll 대기 관리 컴포넌트
+ * - 결과를 기다리는 요청은 서블릿 스레드를 점유하지 않고 DeferredResult로 보관 (async servlet)
+ * - Consumer가 결과를 기록하며 발행한 결과 채널 메시지를 받으면 대기 중인 요청만 결과를 조회해 응답
+ * - 결과가 오지 않으면 timeout 시 PENDING으로 응답
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueResultWaiter implements MessageListener {
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CouponIssueResultRepository couponIssueResultRepository;
+    private final Map<String, Set<DeferredResult<CouponIssueStatusResponseDto>>> waiters = new ConcurrentHashMap<>();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(getIssueResultChannel()));
+    }
+
+    /**
+     * 발급 결과 대기
+     * 대기 등록 후 결과를 한 번 더 조회하여 등록 직전에 기록된 결과를 놓치지 않도록 함
+     * @param timeoutMillis 최대 대기 시간
+     */
+    public DeferredResult<CouponIssueStatusResponseDto> await(long couponId, long userId, long timeoutMillis) {
+        DeferredResult<CouponIssueStatusResponseDto> deferredResult = new DeferredResult<>(timeoutMillis, CouponIssueStatusResponseDto.PENDING);
+        String key = waiterKey(couponId, userId);
+        waiters.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(deferredResult);
+        deferredResult.onCompletion(() -> remove(key, deferredResult));
+
+        CouponIssueResult result = couponIssueResultRepository.issueResult(couponId, userId);
+        if (result != null) {
+            deferredResult.setResult(CouponIssueStatusResponseDto.from(result));
+        }
+        return deferredResult;
+    }
+
+    /**
+     * 결과 채널 메시지 수신
+     * @param message 메시지 본문은 "쿠폰ID:사용자ID,사용자ID,..."
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 발급 결과 알림 메시지 body: %s".formatted(body));
+            return;
+        }
+        String couponId = body.substring(0, separator);
+        for (String userId : body.substring(separator + 1).split(",")) {
+            Set<DeferredResult<CouponIssueStatusResponseDto>> pending = waiters.remove(waiterKey(couponId, userId));
+            if (pending != null) {
+                complete(Long.parseLong(couponId), Long.parseLong(userId), pending);
+            }
+        }
+    }
+
+    private void complete(long couponId, long userId, Set<DeferredResult<CouponIssueStatusResponseDto>> pending) {
+        CouponIssueResult result = couponIssueResultRepository.issueResult(couponId, userId);
+        if (result == null) {
+            return;
+        }
+        CouponIssueStatusResponseDto response = CouponIssueStatusResponseDto.from(result);
+        pending.forEach(deferredResult -> deferredResult.setResult(response));
+    }
+
+    private void remove(String key, DeferredResult<CouponIssueStatusResponseDto> deferredResult) {
+        waiters.computeIfPresent(key, (k, pending) -> {
+            pending.remove(deferredResult);
+            return pending.isEmpty() ? null : pending;
+        });
+    }
+
+    private String waiterKey(Object couponId, Object userId) {
+        return couponId + ":" + userId;
+    }
+}
@@ -0,0 +1,29 @@
+package com.hexagonal.couponapi.configuration;
+
+import com.hexagonal.couponapi.component.CouponIssueAdmissionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 발급 요청 수락 제어 설정
+ * coupon.api.admission.enabled=true 이면 Redis Queue에 요청을 적재하는 비동기 발급 API에 수락 제어 인터셉터 적용
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+    private final CouponIssueAdmissionInterceptor couponIssueAdmissionInterceptor;
+
+    @Value("${coupon.api.admission.enabled:true}")
+    private boolean admissionEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (admissionEnabled) {
+            registry.addInterceptor(couponIssueAdmissionInterceptor)
+                    .addPathPatterns("/v1/issue-async", "/v2/issue-async", "/v2/issue-async/batch");
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.hexagonal.couponapi.controller;
 
+import com.hexagonal.couponapi.dto.CouponIssueBatchResultDto;
 import com.hexagonal.couponapi.dto.CouponIssueRequestDto;
 import com.hexagonal.couponapi.dto.CouponIssueResponseDto;
+import com.hexagonal.couponapi.dto.CouponIssueStatusResponseDto;
+import com.hexagonal.couponapi.dto.CouponWaitingResponseDto;
 import com.hexagonal.couponapi.service.CouponIssueRequestService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 쿠폰 발급 API를 제공하는 컨트롤러
@@ -34,27 +43,83 @@ public class CouponIssueController {
      * 쿠폰 발급 요청을 처리하는 V1 API 엔드포인트
      * Redis를 사용하여 발급 요청을 큐에 저장
      * 분산 락을 통한 동시성 제어
+     * 락 대기 동안 Tomcat Worker 스레드를 반환하고, 락 획득 후 처리가 끝나면 비동기로 응답
      *
      * @param body 쿠폰 발급 요청 정보 (사용자 ID, 쿠폰 ID)
      * @return 쿠폰 발급 결과 응답 (성공 여부, 실패시 메시지)
      */
     @PostMapping("/v1/issue-async")
-    public CouponIssueResponseDto asyncIssueV1(@RequestBody CouponIssueRequestDto body) {
-        couponIssueRequestService.asyncIssueRequestV1(body);
-        return new CouponIssueResponseDto(true, null);
+    public CompletableFuture<CouponIssueResponseDto> asyncIssueV1(@RequestBody CouponIssueRequestDto body) {
+        return couponIssueRequestService.asyncIssueRequestV1(body);
     }
 
     /**
      * V2 비동기식 쿠폰 발급 API
      * Redis Lua 스크립트를 사용한 원자적 발급 처리
      * 향상된 성능과 안정성 제공
+     * 발급 거절도 예외 처리 없이 결과 코드별로 미리 생성된 응답을 그대로 반환
      *
      * @param body 쿠폰 발급 요청 정보 (사용자 ID, 쿠폰 ID)
      * @return 쿠폰 발급 요청 접수 결과
      */
     @PostMapping("/v2/issue-async")
     public CouponIssueResponseDto asyncIssueV2(@RequestBody CouponIssueRequestDto body) {
-        couponIssueRequestService.asyncIssueRequestV2(body);
-        return new CouponIssueResponseDto(true, null);
+        return couponIssueRequestService.asyncIssueRequestV2(body);
+    }
+
+    /**
+     * V2 비동기식 일괄 쿠폰 발급 API
+     * 파트너 연동, 캠페인 일괄 발급처럼 많은 사용자의 발급 요청을 한 번의 HTTP 요청으로 처리
+     * 쿠폰별로 묶어 Lua 스크립트 한 번에 여러 요청을 처리하므로 요청당 Redis 왕복이 발생하지 않음
+     *
+     * @param body 쿠폰 발급 요청 목록 (사용자 ID, 쿠폰 ID)
+     * @return 요청 순서대로의 항목별 발급 결과 코드
+     */
+    @PostMapping("/v2/issue-async/batch")
+    public List<CouponIssueBatchResultDto> asyncIssueBatchV2(@RequestBody List<CouponIssueRequestDto> body) {
+        return couponIssueRequestService.asyncIssueRequestBatchV2(body);
+    }
+
+    /**
+     * 발급 요청 처리 결과 조회 API
+     * 비동기 발급 요청 접수 후 DB 발급 완료 여부를 Redis 결과 Hash에서 조회 (MySQL 조회 없음)
+     * waitMillis를 지정하면 결과가 기록될 때까지 최대 waitMillis 동안 응답을 보류 (long-poll)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param waitMillis 처리 대기 중일 때 최대 대기 시간 (기본 0: 즉시 응답)
+     * @return 처리 결과 (ISSUED, FAILED, PENDING, NOT_REQUESTED, UNKNOWN)
+     */
+    @GetMapping("/v2/issue-status")
+    public DeferredResult<CouponIssueStatusResponseDto> issueStatus(@RequestParam long couponId,
+                                                                    @RequestParam long userId,
+                                                                    @RequestParam(defaultValue = "0") long waitMillis) {
+        return couponIssueRequestService.issueStatus(couponId, userId, waitMillis);
+    }
+
+    /**
+     * 선착순 쿠폰 대기열 진입 API
+     * 도착 순서대로 대기표를 발급하고, 스케줄러가 일정한 속도로 입장시켜 발급 요청을 처리
+     * coupon.issue.waiting-room.enabled=true 일 때만 사용 가능
+     *
+     * @param body 쿠폰 발급 요청 정보 (사용자 ID, 쿠폰 ID)
+     * @return 대기 순번 또는 이미 입장 처리된 경우 발급 요청 결과
+     */
+    @PostMapping("/v2/waiting-room")
+    public CouponWaitingResponseDto enterWaitingRoom(@RequestBody CouponIssueRequestDto body) {
+        return couponIssueRequestService.enterWaitingRoom(body);
+    }
+
+    /**
+     * 선착순 쿠폰 대기 상태 조회 API
+     * 클라이언트는 입장 처리(ADMITTED, REJECTED)될 때까지 주기적으로 조회
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 대기 순번 또는 발급 요청 결과
+     */
+    @GetMapping("/v2/waiting-room/rank")
+    public CouponWaitingResponseDto waitingStatus(@RequestParam long couponId, @RequestParam long userId) {
+        return couponIssueRequestService.waitingStatus(couponId, userId);
     }
 }
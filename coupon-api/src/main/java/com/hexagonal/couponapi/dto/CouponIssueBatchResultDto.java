@@ -0,0 +1,12 @@
+package com.hexagonal.couponapi.dto;
+
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+
+/**
+ * 일괄 쿠폰 발급 요청의 항목별 결과 데이터 전송 객체
+ * @param userId 사용자 ID
+ * @param couponId 쿠폰 ID
+ * @param result 발급 결과 코드 (SUCCESS, DUPLICATED_COUPON_ISSUE, INVALID_COUPON_ISSUE_QUANTITY 등)
+ */
+public record CouponIssueBatchResultDto(long userId, long couponId, CouponIssueRequestCode result) {
+}
@@ -1,6 +1,10 @@
 package com.hexagonal.couponapi.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
@@ -12,4 +16,24 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
  */
 @JsonInclude(value = NON_NULL)
 public record CouponIssueResponseDto(boolean isSuccess, String comment) {
+    public static final CouponIssueResponseDto SUCCESS = new CouponIssueResponseDto(true, null);
+
+    /**
+     * 발급 결과 코드별로 미리 생성해 둔 응답 (불변 record이므로 요청 간 공유)
+     */
+    private static final Map<CouponIssueRequestCode, CouponIssueResponseDto> RESPONSES = new EnumMap<>(CouponIssueRequestCode.class);
+
+    static {
+        for (CouponIssueRequestCode code : CouponIssueRequestCode.values()) {
+            RESPONSES.put(code, code.isSuccess() ? SUCCESS : new CouponIssueResponseDto(false, code.errorCode.message));
+        }
+    }
+
+    /**
+     * 발급 결과 코드에 해당하는 응답 조회
+     * 실패 응답의 comment는 CouponControllerAdvice가 반환하는 ErrorCode 메시지와 동일
+     */
+    public static CouponIssueResponseDto from(CouponIssueRequestCode code) {
+        return RESPONSES.get(code);
+    }
 }
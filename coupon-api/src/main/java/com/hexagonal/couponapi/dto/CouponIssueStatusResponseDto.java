@@ -0,0 +1,20 @@
+package com.hexagonal.couponapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueResult;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * 발급 요청 처리 결과 응답 데이터 전송 객체
+ * @param status 처리 상태 (ISSUED, FAILED, PENDING, NOT_REQUESTED, UNKNOWN)
+ * @param reason 실패 사유 코드 (FAILED 일 때만 포함)
+ */
+@JsonInclude(value = NON_NULL)
+public record CouponIssueStatusResponseDto(CouponIssueResult.Status status, String reason) {
+    public static final CouponIssueStatusResponseDto PENDING = from(CouponIssueResult.PENDING);
+
+    public static CouponIssueStatusResponseDto from(CouponIssueResult result) {
+        return new CouponIssueStatusResponseDto(result.status(), result.reason());
+    }
+}
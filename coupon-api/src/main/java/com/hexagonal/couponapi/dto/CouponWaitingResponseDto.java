@@ -0,0 +1,20 @@
+package com.hexagonal.couponapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import com.hexagonal.couponcore.repository.redis.dto.CouponWaitingStatus;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * 쿠폰 대기열 상태 응답 데이터 전송 객체
+ * @param state 대기 상태 (WAITING, ADMITTED, REJECTED, NOT_FOUND)
+ * @param position 대기 순번 (대기 중일 때만 포함)
+ * @param result 발급 요청 결과 코드 (입장 처리 또는 거절된 경우만 포함)
+ */
+@JsonInclude(value = NON_NULL)
+public record CouponWaitingResponseDto(CouponWaitingStatus.State state, Long position, CouponIssueRequestCode result) {
+    public static CouponWaitingResponseDto from(CouponWaitingStatus status) {
+        return new CouponWaitingResponseDto(status.state(), status.position(), status.result());
+    }
+}
@@ -1,13 +1,37 @@
 package com.hexagonal.couponapi.service;
 
+import com.hexagonal.couponapi.component.CouponIssueResultWaiter;
+import com.hexagonal.couponapi.dto.CouponIssueBatchResultDto;
 import com.hexagonal.couponapi.dto.CouponIssueRequestDto;
+import com.hexagonal.couponapi.dto.CouponIssueStatusResponseDto;
+import com.hexagonal.couponapi.dto.CouponWaitingResponseDto;
+import com.hexagonal.couponcore.component.CouponWaitingRoom;
+import com.hexagonal.couponapi.dto.CouponIssueResponseDto;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import com.hexagonal.couponcore.repository.redis.CouponIssueResultRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueResult;
 import com.hexagonal.couponcore.service.AsyncCouponIssueServiceV1;
 import com.hexagonal.couponcore.service.AsyncCouponIssueServiceV2;
 import com.hexagonal.couponcore.service.CouponIssueService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.FAIL_COUPON_ISSUE_REQUEST;
+import static com.hexagonal.couponcore.exception.ErrorCode.WAITING_ROOM_REQUIRED;
 
 /**
  * 쿠폰 발급 요청을 처리하는 서비스
@@ -21,8 +45,17 @@ public class CouponIssueRequestService {  // 쿠폰 발급 요청을 처리하
     private final CouponIssueService couponIssueService;
     private final AsyncCouponIssueServiceV1 asyncCouponIssueServiceV1;
     private final AsyncCouponIssueServiceV2 asyncCouponIssueServiceV2;
+    private final Optional<CouponWaitingRoom> couponWaitingRoom;
+    private final CouponIssueResultWaiter couponIssueResultWaiter;
+    private final CouponIssueResultRepository couponIssueResultRepository;
     private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
 
+    @Value("${coupon.issue.batch.max-size:10000}")
+    private int batchMaxSize;
+
+    @Value("${coupon.api.issue-status.max-wait-millis:30000}")
+    private long issueStatusMaxWaitMillis;
+
     /**
      * V1 동기식 쿠폰 발급 처리
      * DB 락을 사용하여 동시성 제어
@@ -33,6 +66,7 @@ public class CouponIssueRequestService {  // 쿠폰 발급 요청을 처리하
      * 각 쿠폰별로 unique한 락을 생성하여 동시성 제어
      */
     public void issueRequestV1(CouponIssueRequestDto requestDto) {
+        checkWaitingRoom(requestDto.couponId());
         couponIssueService.issue(requestDto.couponId(), requestDto.userId());
         log.info("쿠폰 발급 완료. couponId: %s, userId: %s".formatted(requestDto.couponId(), requestDto.userId()));
     }
@@ -42,10 +76,15 @@ public class CouponIssueRequestService {  // 쿠폰 발급 요청을 처리하
      * Redis를 사용한 발급 요청 큐잉
      * 분산 락으로 동시성 제어
      *
+     * 락 대기 중 요청 스레드를 점유하지 않도록 분산 락을 비동기로 획득
+     *
      * @param requestDto 쿠폰 발급 요청 정보
+     * @return 발급 요청 접수 결과, 실패 시 CouponIssueException 등으로 완료
      */
-    public void asyncIssueRequestV1(CouponIssueRequestDto requestDto) {
-        asyncCouponIssueServiceV1.issue(requestDto.couponId(), requestDto.userId());
+    public CompletableFuture<CouponIssueResponseDto> asyncIssueRequestV1(CouponIssueRequestDto requestDto) {
+        checkWaitingRoom(requestDto.couponId());
+        return asyncCouponIssueServiceV1.issueAsync(requestDto.couponId(), requestDto.userId())
+                .thenApply(ignored -> CouponIssueResponseDto.SUCCESS);
     }
 
     /**
@@ -53,9 +92,105 @@ public class CouponIssueRequestService {  // 쿠폰 발급 요청을 처리하
      * Redis Lua 스크립트를 활용한 원자적 처리
      * 향상된 성능과 안정성
      *
+     * 발급 거절은 예외 없이 결과 코드로 받아 미리 생성된 응답으로 변환
+     *
+     * @param requestDto 쿠폰 발급 요청 정보
+     * @return 쿠폰 발급 요청 접수 결과
+     */
+    public CouponIssueResponseDto asyncIssueRequestV2(CouponIssueRequestDto requestDto) {
+        if (requiresWaitingRoom(requestDto.couponId())) {
+            return CouponIssueResponseDto.from(CouponIssueRequestCode.WAITING_ROOM_REQUIRED);
+        }
+        return CouponIssueResponseDto.from(asyncCouponIssueServiceV2.tryIssue(requestDto.couponId(), requestDto.userId()));
+    }
+
+    /**
+     * V2 비동기식 일괄 쿠폰 발급 처리
+     * 요청 순서를 유지한 채 쿠폰 ID별로 묶어 쿠폰당 일괄 발급하고, 결과를 요청과 같은 순서로 반환
+     *
+     * @param requestDtos 쿠폰 발급 요청 목록
+     * @return 요청 순서대로의 항목별 발급 결과
+     * @throws CouponIssueException 요청 수가 coupon.issue.batch.max-size를 초과하는 경우
+     */
+    public List<CouponIssueBatchResultDto> asyncIssueRequestBatchV2(List<CouponIssueRequestDto> requestDtos) {
+        if (requestDtos.size() > batchMaxSize) {
+            throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST,
+                    "일괄 발급 요청 수가 최대치를 초과합니다. size: %s, max: %s".formatted(requestDtos.size(), batchMaxSize));
+        }
+        Map<Long, List<Integer>> indexesByCouponId = new LinkedHashMap<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            indexesByCouponId.computeIfAbsent(requestDtos.get(i).couponId(), couponId -> new ArrayList<>()).add(i);
+        }
+
+        CouponIssueBatchResultDto[] results = new CouponIssueBatchResultDto[requestDtos.size()];
+        indexesByCouponId.forEach((couponId, indexes) -> {
+            List<Long> userIds = indexes.stream().map(index -> requestDtos.get(index).userId()).toList();
+            List<CouponIssueRequestCode> codes = requiresWaitingRoom(couponId)
+                    ? Collections.nCopies(userIds.size(), CouponIssueRequestCode.WAITING_ROOM_REQUIRED)
+                    : asyncCouponIssueServiceV2.tryIssueBatch(couponId, userIds);
+            for (int i = 0; i < indexes.size(); i++) {
+                results[indexes.get(i)] = new CouponIssueBatchResultDto(userIds.get(i), couponId, codes.get(i));
+            }
+        });
+        log.info("일괄 발급 요청 처리 size: %s, coupons: %s".formatted(requestDtos.size(), indexesByCouponId.size()));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 발급 요청 처리 결과 조회
+     * Consumer가 기록한 Redis 결과 Hash만 조회하므로 MySQL 조회가 발생하지 않음
+     * 결과 보관 기간이 지나 결과 Hash가 만료된 요청은 PENDING이 아닌 UNKNOWN으로 응답하여 대기를 끝내도록 함
+     * 처리 대기 중이고 waitMillis가 주어지면 결과가 기록되거나 timeout이 될 때까지 스레드 점유 없이 대기 (long-poll)
+     *
+     * @param waitMillis 최대 대기 시간 (0이면 즉시 응답, max-wait-millis로 제한)
+     * @return 처리 결과 (ISSUED, FAILED, PENDING, NOT_REQUESTED, UNKNOWN)
+     */
+    public DeferredResult<CouponIssueStatusResponseDto> issueStatus(long couponId, long userId, long waitMillis) {
+        CouponIssueResult result = couponIssueResultRepository.issueStatus(couponId, userId);
+        if (result.status() == CouponIssueResult.Status.PENDING && waitMillis > 0) {
+            return couponIssueResultWaiter.await(couponId, userId, Math.min(waitMillis, issueStatusMaxWaitMillis));
+        }
+        DeferredResult<CouponIssueStatusResponseDto> deferredResult = new DeferredResult<>();
+        deferredResult.setResult(CouponIssueStatusResponseDto.from(result));
+        return deferredResult;
+    }
+
+    /**
+     * 선착순 쿠폰 대기열 진입
+     *
      * @param requestDto 쿠폰 발급 요청 정보
+     * @return 대기 순번 또는 이미 입장 처리된 경우 발급 요청 결과
+     */
+    public CouponWaitingResponseDto enterWaitingRoom(CouponIssueRequestDto requestDto) {
+        return CouponWaitingResponseDto.from(waitingRoom().enter(requestDto.couponId(), requestDto.userId()));
+    }
+
+    /**
+     * 선착순 쿠폰 대기 상태 조회
+     *
+     * @return 대기 순번 또는 발급 요청 결과
+     */
+    public CouponWaitingResponseDto waitingStatus(long couponId, long userId) {
+        return CouponWaitingResponseDto.from(waitingRoom().status(couponId, userId));
+    }
+
+    /**
+     * 대기열을 거쳐야 하는 쿠폰인지 확인
+     * 대기열 대상 쿠폰에 대기열을 거치지 않고 직접 발급 요청하면 대기 순서를 앞지르게 되므로 거절
+     * 매진 여부를 먼저 확인하므로 매진된 쿠폰은 대기열 안내 대신 수량 소진으로 응답
      */
-    public void asyncIssueRequestV2(CouponIssueRequestDto requestDto) {
-        asyncCouponIssueServiceV2.issue(requestDto.couponId(), requestDto.userId());
+    private boolean requiresWaitingRoom(long couponId) {
+        return couponWaitingRoom.map(waitingRoom -> waitingRoom.isRequired(couponId)).orElse(false);
+    }
+
+    private void checkWaitingRoom(long couponId) {
+        if (requiresWaitingRoom(couponId)) {
+            throw new CouponIssueException(WAITING_ROOM_REQUIRED, "대기열을 운영 중인 쿠폰입니다. couponId: %s".formatted(couponId));
+        }
+    }
+
+    private CouponWaitingRoom waitingRoom() {
+        return couponWaitingRoom.orElseThrow(() ->
+                new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "대기열 모드가 활성화되어 있지 않습니다."));
     }
 }
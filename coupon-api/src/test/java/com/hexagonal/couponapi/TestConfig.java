@@ -0,0 +1,14 @@
+package com.hexagonal.couponapi;
+
+import com.hexagonal.couponcore.CouponCoreConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.config.name=application-core,application-api")
+@SpringBootTest(classes = CouponCoreConfiguration.class)
+public class TestConfig {
+}
@@ -0,0 +1,131 @@
+package com.hexagonal.couponapi.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponapi.CouponControllerAdvice;
+import com.hexagonal.couponapi.TestConfig;
+import com.hexagonal.couponapi.configuration.WebConfiguration;
+import com.hexagonal.couponapi.controller.CouponIssueController;
+import com.hexagonal.couponapi.dto.CouponIssueRequestDto;
+import com.hexagonal.couponapi.dto.CouponIssueResponseDto;
+import com.hexagonal.couponapi.service.CouponIssueRequestService;
+import com.hexagonal.couponcore.component.CouponIssueQueueMonitor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.TOO_MANY_ISSUE_REQUESTS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "coupon.api.admission.enabled=true",
+        "coupon.api.admission.max-estimated-wait-millis=5000"
+})
+@Import({CouponIssueController.class, CouponControllerAdvice.class, CouponIssueAdmissionInterceptor.class,
+        CouponIssueConcurrencyLimiter.class, WebConfiguration.class})
+class CouponIssueAdmissionInterceptorTest extends TestConfig {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    CouponIssueConcurrencyLimiter couponIssueConcurrencyLimiter;
+
+    @MockBean
+    CouponIssueQueueMonitor couponIssueQueueMonitor;
+
+    @MockBean
+    CouponIssueRequestService couponIssueRequestService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Queue 예상 대기 시간이 기준을 넘으면 발급을 처리하지 않고 429와 초과분만큼의 Retry-After로 거절한다.")
+    void admission_1() throws Exception {
+        // given
+        when(couponIssueQueueMonitor.estimatedWaitMillis()).thenReturn(7500L);
+
+        // when & then
+        mockMvc.perform(post("/v2/issue-async").contentType(MediaType.APPLICATION_JSON).content(requestBody(1, 1)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.isSuccess").value(false))
+                .andExpect(jsonPath("$.comment").value(TOO_MANY_ISSUE_REQUESTS.message));
+        verify(couponIssueRequestService, never()).asyncIssueRequestV2(any());
+        Assertions.assertEquals(0, couponIssueConcurrencyLimiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("초과분이 1초 미만이어도 Retry-After는 최소 1초이다.")
+    void admission_2() throws Exception {
+        // given
+        when(couponIssueQueueMonitor.estimatedWaitMillis()).thenReturn(5001L);
+
+        // when & then
+        mockMvc.perform(post("/v2/issue-async").contentType(MediaType.APPLICATION_JSON).content(requestBody(1, 1)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    @DisplayName("동기 요청은 처리를 마친 뒤 처리 슬롯을 반환한다.")
+    void release_1() throws Exception {
+        // given
+        when(couponIssueQueueMonitor.estimatedWaitMillis()).thenReturn(0L);
+        when(couponIssueRequestService.asyncIssueRequestV2(any())).thenAnswer(invocation -> {
+            Assertions.assertEquals(1, couponIssueConcurrencyLimiter.inFlight());
+            return CouponIssueResponseDto.SUCCESS;
+        });
+
+        // when
+        mockMvc.perform(post("/v2/issue-async").contentType(MediaType.APPLICATION_JSON).content(requestBody(1, 1)))
+                .andExpect(status().isOk());
+
+        // then
+        verify(couponIssueRequestService, times(1)).asyncIssueRequestV2(any());
+        Assertions.assertEquals(0, couponIssueConcurrencyLimiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 응답이 완료될 때까지 처리 슬롯을 유지하고 ASYNC 재디스패치 후 한 번만 반환한다.")
+    void release_2() throws Exception {
+        // given
+        when(couponIssueQueueMonitor.estimatedWaitMillis()).thenReturn(0L);
+        CompletableFuture<CouponIssueResponseDto> future = new CompletableFuture<>();
+        when(couponIssueRequestService.asyncIssueRequestV1(any())).thenReturn(future);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/v1/issue-async").contentType(MediaType.APPLICATION_JSON).content(requestBody(1, 1)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        Assertions.assertEquals(1, couponIssueConcurrencyLimiter.inFlight());
+
+        // when
+        future.complete(CouponIssueResponseDto.SUCCESS);
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        // then
+        Assertions.assertEquals(0, couponIssueConcurrencyLimiter.inFlight());
+    }
+
+    private String requestBody(long userId, long couponId) throws Exception {
+        return objectMapper.writeValueAsString(new CouponIssueRequestDto(userId, couponId));
+    }
+}
@@ -0,0 +1,130 @@
+package com.hexagonal.couponapi.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+class CouponIssueConcurrencyLimiterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("한도에 도달하면 처리 슬롯을 확보하지 못하고, 슬롯을 반환하면 다시 확보할 수 있다.")
+    void tryAcquire_1() {
+        // given
+        CouponIssueConcurrencyLimiter sut = limiter(2, 1, 10, 60_000);
+
+        // when & then
+        Assertions.assertTrue(sut.tryAcquire());
+        Assertions.assertTrue(sut.tryAcquire());
+        Assertions.assertFalse(sut.tryAcquire());
+        sut.release(FAST, false);
+        Assertions.assertTrue(sut.tryAcquire());
+        Assertions.assertEquals(2, sut.inFlight());
+    }
+
+    @Test
+    @DisplayName("한도의 절반 이상을 사용하는 동안 응답이 빠르면 한도만큼의 요청이 완료될 때마다 약 1씩 증가한다.")
+    void increase_1() {
+        // given
+        CouponIssueConcurrencyLimiter sut = limiter(4, 1, 10, 60_000);
+
+        // when
+        for (int round = 0; round < 10; round++) {
+            while (sut.tryAcquire()) {
+            }
+            int acquired = sut.inFlight();
+            for (int i = 0; i < acquired; i++) {
+                sut.release(FAST, false);
+            }
+        }
+
+        // then
+        Assertions.assertTrue(sut.limit() > 4);
+        Assertions.assertEquals(0, sut.inFlight());
+    }
+
+    @Test
+    @DisplayName("사용 중인 슬롯이 한도의 절반 미만이면 응답이 빨라도 한도를 늘리지 않는다.")
+    void increase_2() {
+        // given
+        CouponIssueConcurrencyLimiter sut = limiter(10, 1, 100, 60_000);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sut.tryAcquire();
+            sut.release(FAST, false);
+        }
+
+        // then
+        Assertions.assertEquals(10, sut.limit());
+    }
+
+    @Test
+    @DisplayName("한도는 max-limit 를 넘지 않는다.")
+    void increase_3() {
+        // given
+        CouponIssueConcurrencyLimiter sut = limiter(4, 1, 5, 60_000);
+
+        // when
+        for (int round = 0; round < 100; round++) {
+            while (sut.tryAcquire()) {
+            }
+            int acquired = sut.inFlight();
+            for (int i = 0; i < acquired; i++) {
+                sut.release(FAST, false);
+            }
+        }
+
+        // then
+        Assertions.assertEquals(5, sut.limit());
+    }
+
+    @Test
+    @DisplayName("응답이 느리거나 실패하면 한도를 10% 줄이되 decrease-interval 안에서는 한 번만 줄인다.")
+    void decrease_1() {
+        // given
+        CouponIssueConcurrencyLimiter sut = limiter(100, 1, 1000, 60_000);
+        sut.tryAcquire();
+        sut.tryAcquire();
+
+        // when
+        sut.release(SLOW, false);
+        sut.release(FAST, true);
+
+        // then
+        Assertions.assertEquals(90, sut.limit());
+        Assertions.assertEquals(0, sut.inFlight());
+    }
+
+    @Test
+    @DisplayName("실패가 반복되어도 한도는 min-limit 아래로 내려가지 않는다.")
+    void decrease_2() {
+        // given
+        CouponIssueConcurrencyLimiter sut = limiter(10, 8, 100, 0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            sut.tryAcquire();
+            sut.release(FAST, true);
+        }
+
+        // then
+        Assertions.assertEquals(8, sut.limit());
+    }
+
+    private CouponIssueConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit, long decreaseIntervalMillis) {
+        CouponIssueConcurrencyLimiter limiter = new CouponIssueConcurrencyLimiter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "initialLimit", initialLimit);
+        ReflectionTestUtils.setField(limiter, "minLimit", minLimit);
+        ReflectionTestUtils.setField(limiter, "maxLimit", maxLimit);
+        ReflectionTestUtils.setField(limiter, "latencyThresholdMillis", 100L);
+        ReflectionTestUtils.setField(limiter, "decreaseIntervalMillis", decreaseIntervalMillis);
+        limiter.init();
+        return limiter;
+    }
+}
@@ -0,0 +1,126 @@
+package com.hexagonal.couponapi.component;
+
+import com.hexagonal.couponapi.CouponControllerAdvice;
+import com.hexagonal.couponapi.TestConfig;
+import com.hexagonal.couponapi.controller.CouponIssueController;
+import com.hexagonal.couponapi.dto.CouponIssueStatusResponseDto;
+import com.hexagonal.couponapi.service.CouponIssueRequestService;
+import com.hexagonal.couponcore.repository.redis.CouponIssueResultRepository;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueResult;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@Import({CouponIssueController.class, CouponControllerAdvice.class, CouponIssueRequestService.class, CouponIssueResultWaiter.class})
+class CouponIssueResultWaiterTest extends TestConfig {
+    private static final long AWAIT_TIMEOUT_MILLIS = 5000L;
+
+    @Autowired
+    CouponIssueResultWaiter sut;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
+    @Autowired
+    CouponIssueResultRepository couponIssueResultRepository;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("대기 등록 시점에 이미 결과가 기록되어 있으면 즉시 결과를 응답한다.")
+    void await_1() {
+        // given
+        long couponId = 1;
+        couponIssueResultRepository.recordIssueResults(couponId, Map.of(1L, CouponIssueResult.ISSUED), Duration.ofSeconds(60));
+
+        // when
+        DeferredResult<CouponIssueStatusResponseDto> result = sut.await(couponId, 1, 30000);
+
+        // then
+        Assertions.assertTrue(result.hasResult());
+        Assertions.assertEquals(CouponIssueStatusResponseDto.from(CouponIssueResult.ISSUED), result.getResult());
+    }
+
+    @Test
+    @DisplayName("대기 중 결과가 기록되면 결과 채널 메시지를 받아 대기 중인 요청에 결과를 응답한다.")
+    void await_2() throws Exception {
+        // given
+        long couponId = 1;
+        DeferredResult<CouponIssueStatusResponseDto> result = sut.await(couponId, 1, 30000);
+        DeferredResult<CouponIssueStatusResponseDto> other = sut.await(couponId, 2, 30000);
+        Assertions.assertFalse(result.hasResult());
+
+        // when
+        couponIssueResultRepository.recordIssueResults(couponId, Map.of(1L, CouponIssueResult.ISSUED), Duration.ofSeconds(60));
+
+        // then
+        awaitResult(result);
+        Assertions.assertEquals(CouponIssueStatusResponseDto.from(CouponIssueResult.ISSUED), result.getResult());
+        Assertions.assertFalse(other.hasResult());
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 결과가 기록되지 않으면 timeout 시 PENDING으로 응답한다.")
+    void await_3() throws Exception {
+        // given
+        long couponId = 1;
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(couponId), "1");
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/v2/issue-status")
+                        .param("couponId", String.valueOf(couponId))
+                        .param("userId", "1")
+                        .param("waitMillis", "1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(null);
+        }
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(CouponIssueResult.Status.PENDING.name()));
+    }
+
+    /**
+     * 결과 채널 메시지 수신으로 결과가 설정될 때까지 대기
+     */
+    private void awaitResult(DeferredResult<CouponIssueStatusResponseDto> result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MILLIS;
+        while (!result.hasResult() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.hexagonal.couponapi.service;
+
+import com.hexagonal.couponapi.TestConfig;
+import com.hexagonal.couponapi.component.CouponIssueResultWaiter;
+import com.hexagonal.couponapi.dto.CouponIssueBatchResultDto;
+import com.hexagonal.couponapi.dto.CouponIssueRequestDto;
+import com.hexagonal.couponapi.dto.CouponIssueResponseDto;
+import com.hexagonal.couponapi.dto.CouponIssueStatusResponseDto;
+import com.hexagonal.couponcore.component.CouponSoldOutRegistry;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.model.Coupon;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.mysql.CouponJpaRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import com.hexagonal.couponcore.repository.redis.CouponIssueResultRepository;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueResult;
+import com.hexagonal.couponcore.service.AsyncCouponIssueServiceV2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.WAITING_ROOM_REQUIRED;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+        "coupon.issue.waiting-room.enabled=true",
+        "coupon.issue.waiting-room.tick-millis=60000"
+})
+@Import({CouponIssueRequestService.class, CouponIssueResultWaiter.class})
+class CouponIssueRequestServiceTest extends TestConfig {
+    @Autowired
+    CouponIssueRequestService sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
+    @Autowired
+    CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    CouponSoldOutRegistry couponSoldOutRegistry;
+
+    @SpyBean
+    AsyncCouponIssueServiceV2 asyncCouponIssueServiceV2;
+
+    @SpyBean
+    CouponIssueResultRepository couponIssueResultRepository;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("대기열 대상 쿠폰은 대기 중인 사용자가 없어도 대기열을 거치지 않은 직접 발급 요청을 거절한다.")
+    void waitingRoom_1() throws Exception {
+        // given
+        long couponId = saveCoupon(10).getId();
+
+        // when
+        CouponIssueResponseDto response = sut.asyncIssueRequestV2(new CouponIssueRequestDto(2, couponId));
+        List<CouponIssueBatchResultDto> batch = sut.asyncIssueRequestBatchV2(List.of(new CouponIssueRequestDto(2, couponId)));
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.asyncIssueRequestV1(new CouponIssueRequestDto(2, couponId)));
+
+        // then
+        Assertions.assertEquals(CouponIssueResponseDto.from(CouponIssueRequestCode.WAITING_ROOM_REQUIRED), response);
+        Assertions.assertEquals(CouponIssueRequestCode.WAITING_ROOM_REQUIRED, batch.get(0).result());
+        Assertions.assertEquals(WAITING_ROOM_REQUIRED, exception.getErrorCode());
+        Assertions.assertFalse(redisTemplate.hasKey(couponRedisKeys.getCouponWaitingKey(couponId)));
+        verify(asyncCouponIssueServiceV2, never()).tryIssue(anyLong(), anyLong());
+        verify(asyncCouponIssueServiceV2, never()).tryIssueBatch(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("매진된 대기열 대상 쿠폰은 대기열 안내 대신 수량 소진으로 응답한다.")
+    void waitingRoom_2() throws Exception {
+        // given
+        long couponId = saveCoupon(10).getId();
+        couponSoldOutRegistry.markSoldOut(couponId);
+
+        // when
+        CouponIssueResponseDto response = sut.asyncIssueRequestV2(new CouponIssueRequestDto(2, couponId));
+        List<CouponIssueBatchResultDto> batch = sut.asyncIssueRequestBatchV2(List.of(new CouponIssueRequestDto(2, couponId)));
+
+        // then
+        Assertions.assertEquals(CouponIssueResponseDto.from(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY), response);
+        Assertions.assertEquals(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY, batch.get(0).result());
+    }
+
+    @Test
+    @DisplayName("결과가 기록된 요청은 대기 없이 결과를 응답한다.")
+    void issueStatus_1() {
+        // given
+        long couponId = 1;
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(couponId), "1", "2");
+        couponIssueResultRepository.recordIssueResults(couponId, Map.of(
+                1L, CouponIssueResult.ISSUED,
+                2L, CouponIssueResult.failed("FAIL_COUPON_ISSUE")
+        ), Duration.ofSeconds(60));
+
+        // when
+        DeferredResult<CouponIssueStatusResponseDto> issued = sut.issueStatus(couponId, 1, 1000);
+        DeferredResult<CouponIssueStatusResponseDto> failed = sut.issueStatus(couponId, 2, 1000);
+
+        // then
+        Assertions.assertEquals(CouponIssueStatusResponseDto.from(CouponIssueResult.ISSUED), issued.getResult());
+        Assertions.assertEquals(new CouponIssueStatusResponseDto(CouponIssueResult.Status.FAILED, "FAIL_COUPON_ISSUE"), failed.getResult());
+    }
+
+    @Test
+    @DisplayName("요청 이력이 없으면 NOT_REQUESTED, 접수 후 결과가 없으면 PENDING으로 응답한다.")
+    void issueStatus_2() {
+        // given
+        long couponId = 1;
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(couponId), "1");
+
+        // when
+        DeferredResult<CouponIssueStatusResponseDto> pending = sut.issueStatus(couponId, 1, 0);
+        DeferredResult<CouponIssueStatusResponseDto> notRequested = sut.issueStatus(couponId, 2, 1000);
+
+        // then
+        Assertions.assertEquals(CouponIssueStatusResponseDto.PENDING, pending.getResult());
+        Assertions.assertEquals(CouponIssueStatusResponseDto.from(CouponIssueResult.NOT_REQUESTED), notRequested.getResult());
+    }
+
+    @Test
+    @DisplayName("결과 보관 기간이 지나 결과 Hash가 만료된 요청은 PENDING이 아닌 UNKNOWN으로 대기 없이 응답한다.")
+    void issueStatus_3() {
+        // given
+        long couponId = 1;
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(couponId), "1");
+        couponIssueResultRepository.recordIssueResults(couponId, Map.of(1L, CouponIssueResult.ISSUED), Duration.ofSeconds(60));
+        redisTemplate.delete(couponRedisKeys.getIssueResultKey(couponId));
+
+        // when
+        DeferredResult<CouponIssueStatusResponseDto> result = sut.issueStatus(couponId, 1, 1000);
+
+        // then
+        Assertions.assertEquals(CouponIssueStatusResponseDto.from(CouponIssueResult.UNKNOWN), result.getResult());
+    }
+
+    @Test
+    @DisplayName("결과 Hash가 남아 있는 쿠폰에서 결과가 없는 요청은 아직 처리 대기 중이므로 PENDING으로 응답한다.")
+    void issueStatus_4() {
+        // given
+        long couponId = 1;
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(couponId), "1", "2");
+        couponIssueResultRepository.recordIssueResults(couponId, Map.of(1L, CouponIssueResult.ISSUED), Duration.ofSeconds(60));
+
+        // when
+        DeferredResult<CouponIssueStatusResponseDto> result = sut.issueStatus(couponId, 2, 0);
+
+        // then
+        Assertions.assertEquals(CouponIssueStatusResponseDto.PENDING, result.getResult());
+    }
+
+    @Test
+    @DisplayName("첫 조회와 대기 등록 사이에 결과가 기록되어도 대기 등록 후 다시 조회하여 결과를 응답한다.")
+    void issueStatus_5() {
+        // given
+        long couponId = 1;
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(couponId), "1");
+        couponIssueResultRepository.recordIssueResults(couponId, Map.of(1L, CouponIssueResult.ISSUED), Duration.ofSeconds(60));
+        // 첫 조회 시점에는 결과가 기록되기 전이었던 상황
+        doReturn(CouponIssueResult.PENDING).when(couponIssueResultRepository).issueStatus(couponId, 1);
+
+        // when
+        DeferredResult<CouponIssueStatusResponseDto> result = sut.issueStatus(couponId, 1, 30000);
+
+        // then
+        Assertions.assertTrue(result.hasResult());
+        Assertions.assertEquals(CouponIssueStatusResponseDto.from(CouponIssueResult.ISSUED), result.getResult());
+    }
+
+    private Coupon saveCoupon(int totalQuantity) {
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+        return couponJpaRepository.save(coupon);
+    }
+}
@@ -0,0 +1,53 @@
+plugins {
+	id("me.champeau.jmh") version "0.7.2"
+}
+
+val bootJar: org.springframework.boot.gradle.tasks.bundling.BootJar by tasks
+
+bootJar.enabled = false
+
+dependencies {
+	implementation(project(":coupon-core"))
+	implementation(project(":coupon-api"))
+	implementation(project(":coupon-consumer"))
+	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+	implementation("com.fasterxml.jackson.core:jackson-databind")
+	implementation("com.github.codemonstur:embedded-redis:1.4.3")
+	implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+/**
+ * 실행 예: ./gradlew :coupon-benchmark:jmh -Pjmh.includes=CouponIssueRequestCodeBenchmark
+ * - thrpt: 초당 처리량, sample: 지연 시간 분포(p50/p90/p99/p99.9)
+ * - gc 프로파일러: 연산당 할당량(gc.alloc.rate.norm)과 GC 횟수
+ */
+jmh {
+	jmhVersion.set("1.37")
+	benchmarkMode.set(listOf("thrpt", "sample"))
+	timeUnit.set("us")
+	fork.set(1)
+	warmupIterations.set(3)
+	warmup.set("2s")
+	iterations.set(5)
+	timeOnIteration.set("2s")
+	profilers.set(listOf("gc"))
+	resultFormat.set("JSON")
+	(findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+/**
+ * coupon-api, coupon-consumer 를 한 JVM에서 기동하여 발급 파이프라인 전체를 측정하는 벤치마크
+ * 실행 예: ./gradlew :coupon-benchmark:pipelineBenchmark -Ppipeline.scenarios=v2-async -Ppipeline.concurrency=128
+ * 가상 스레드 비교: ./gradlew -PjavaVersion=21 :coupon-benchmark:pipelineBenchmark -Ppipeline.scenarios=v2-async -Ppipeline.concurrency=1000 -Ppipeline.virtual-threads=true
+ *   (같은 옵션으로 -Ppipeline.virtual-threads=false 결과와 비교, JDK 21 로 실행)
+ * -Ppipeline.* 프로퍼티는 그대로 시스템 프로퍼티로 전달 (옵션은 PipelineBenchmarkOptions 참고)
+ */
+tasks.register<JavaExec>("pipelineBenchmark") {
+	group = "benchmark"
+	description = "coupon-api/coupon-consumer end-to-end pipeline benchmark (embedded Redis + H2)"
+	classpath = sourceSets["main"].runtimeClasspath
+	mainClass.set("com.hexagonal.couponbenchmark.pipeline.CouponPipelineBenchmark")
+	systemProperties(project.properties.filterKeys { it.startsWith("pipeline.") })
+}
@@ -0,0 +1,47 @@
+package com.hexagonal.couponbenchmark;
+
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.redis.CouponCacheFormat;
+import com.hexagonal.couponcore.repository.redis.CouponCacheSerializer;
+import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 쿠폰 캐시 값 직렬화 형식 비교 (JSON vs 바이너리)
+ * 로컬 캐시 미스마다 발생하는 Redis 캐시 값 역직렬화 비용과 저장 크기를 측정
+ * 저장 크기는 setup 단계에서 출력
+ */
+@State(Scope.Benchmark)
+public class CouponCacheSerializationBenchmark {
+    @Param({"JSON", "BINARY"})
+    private CouponCacheFormat format;
+
+    private CouponCacheSerializer serializer;
+    private CouponRedisEntity coupon;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = new CouponCacheSerializer(format);
+        coupon = new CouponRedisEntity(1L, CouponType.FIRST_COME_FIRST_SERVED, 1000, true,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        serialized = serializer.serialize(coupon);
+        System.out.println("%n[%s] payload size: %d bytes".formatted(format, serialized.length));
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(coupon);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
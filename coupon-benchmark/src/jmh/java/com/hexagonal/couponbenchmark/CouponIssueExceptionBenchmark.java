@@ -0,0 +1,45 @@
+package com.hexagonal.couponbenchmark;
+
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.exception.ErrorCode;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급 실패 응답 경로의 예외 생성 비용 측정
+ * 매진 이후에는 대부분의 요청이 예외로 처리되므로 스택 트레이스 수집 비용이 요청 처리 비용을 좌우
+ * resultCode는 V2 경로에서 사용하는 예외 없는 결과 코드 반환 방식과의 비교용
+ */
+@State(Scope.Benchmark)
+public class CouponIssueExceptionBenchmark {
+    private final long couponId = 1L;
+    private final CouponRedisEntity soldOutCoupon = new CouponRedisEntity(couponId, CouponType.FIRST_COME_FIRST_SERVED, 100, false,
+            LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+    @Benchmark
+    public CouponIssueException construct() {
+        return new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY,
+                "모든 발급 수량이 소진되었습니다. couponId: %s".formatted(couponId));
+    }
+
+    @Benchmark
+    public Object checkRequestResult() {
+        try {
+            CouponIssueRequestCode.checkRequestResult(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY);
+            return null;
+        } catch (CouponIssueException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public CouponIssueRequestCode resultCode() {
+        return soldOutCoupon.checkIssuable();
+    }
+}
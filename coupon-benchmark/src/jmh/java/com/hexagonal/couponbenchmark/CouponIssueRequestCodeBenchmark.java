@@ -0,0 +1,21 @@
+package com.hexagonal.couponbenchmark;
+
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lua 스크립트 결과 코드 변환 비용 측정
+ */
+@State(Scope.Benchmark)
+public class CouponIssueRequestCodeBenchmark {
+    @Param({"1", "2", "3"})
+    private String code;
+
+    @Benchmark
+    public CouponIssueRequestCode find() {
+        return CouponIssueRequestCode.find(code);
+    }
+}
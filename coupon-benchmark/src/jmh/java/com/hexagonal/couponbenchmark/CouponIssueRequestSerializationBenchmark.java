@@ -0,0 +1,32 @@
+package com.hexagonal.couponbenchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * CouponIssueRequestRepository.issueRequest 에서 Queue에 적재할 발급 요청의 JSON 직렬화 비용 측정
+ * 역직렬화는 Consumer에서 요청마다 실행되므로 함께 측정
+ */
+@State(Scope.Benchmark)
+public class CouponIssueRequestSerializationBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String serialized = "{\"couponId\":1,\"userId\":123456,"
+            + "\"requestId\":\"6f1c2a4e-3b7d-4e8f-9a0b-1c2d3e4f5a6b\",\"enqueuedAt\":1760000000000}";
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        long userId = ThreadLocalRandom.current().nextLong(1, 1_000_000);
+        return objectMapper.writeValueAsString(new CouponIssueRequest(1L, userId));
+    }
+
+    @Benchmark
+    public CouponIssueRequest deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(serialized, CouponIssueRequest.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.hexagonal.couponbenchmark;
+
+import com.hexagonal.couponcore.configuration.LocalCacheConfiguration;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import com.hexagonal.couponcore.service.CouponCacheService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+/**
+ * localCacheManager(Caffeine) 캐시 조회 비용 측정
+ * - proxy: CouponCacheService.getCouponLocalCache 를 Spring 캐시 프록시를 통해 조회 (실제 요청 경로)
+ * - direct: 같은 캐시를 Cache API로 직접 조회하여 프록시/인터셉터 오버헤드와 비교
+ * 캐시 히트만 측정하기 위해 setup 단계에서 캐시를 미리 채워두며, 캐시 미스 경로(Redis, DB)는 포함하지 않음
+ */
+@State(Scope.Benchmark)
+public class CouponLocalCacheBenchmark {
+    private static final long COUPON_ID = 1L;
+
+    private AnnotationConfigApplicationContext context;
+    private CouponCacheService couponCacheService;
+    private Cache cache;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CacheBenchmarkConfiguration.class);
+        couponCacheService = context.getBean(CouponCacheService.class);
+        cache = context.getBean("localCacheManager", CacheManager.class).getCache("coupon");
+        cache.put(COUPON_ID, new CouponRedisEntity(COUPON_ID, CouponType.FIRST_COME_FIRST_SERVED, 1000, true,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CouponRedisEntity proxy() {
+        return couponCacheService.getCouponLocalCache(COUPON_ID);
+    }
+
+    @Benchmark
+    public Object direct() {
+        return cache.get(COUPON_ID, CouponRedisEntity.class);
+    }
+
+    /**
+     * 캐시 프록시 측정을 위한 최소 구성
+     * 캐시 히트만 측정하므로 CouponCacheService 의 실제 조회 로직(CouponIssueService)은 사용되지 않음
+     */
+    @Configuration
+    @EnableCaching
+    @Import(LocalCacheConfiguration.class)
+    static class CacheBenchmarkConfiguration {
+        @Bean
+        CouponCacheService couponCacheService() {
+            return new CouponCacheService(null);
+        }
+    }
+}
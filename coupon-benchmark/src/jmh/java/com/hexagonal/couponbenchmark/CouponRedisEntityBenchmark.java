@@ -0,0 +1,31 @@
+package com.hexagonal.couponbenchmark;
+
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시된 쿠폰 정보의 발급 가능 여부 검증 비용 측정
+ * V2 발급 요청마다 실행되며, LocalDateTime.now() 호출이 대부분을 차지
+ */
+@State(Scope.Benchmark)
+public class CouponRedisEntityBenchmark {
+    private CouponRedisEntity coupon;
+
+    @Setup
+    public void setUp() {
+        coupon = new CouponRedisEntity(1L, CouponType.FIRST_COME_FIRST_SERVED, 1000, true,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+    }
+
+    @Benchmark
+    public CouponRedisEntity checkIssuableCoupon() {
+        coupon.checkIssuableCoupon();
+        return coupon;
+    }
+}
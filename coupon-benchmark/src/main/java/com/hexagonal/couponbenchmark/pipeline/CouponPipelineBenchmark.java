@@ -0,0 +1,274 @@
+package com.hexagonal.couponbenchmark.pipeline;
+
+import com.hexagonal.couponapi.CouponApiApplication;
+import com.hexagonal.couponconsumer.CouponConsumerApplication;
+import com.hexagonal.couponcore.model.Coupon;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.mysql.CouponJpaRepository;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestDeadLetterKey;
+
+/**
+ * 발급 파이프라인 End-to-End 벤치마크
+ * - 내장 Redis와 JVM 공유 H2(test 프로파일) 위에 coupon-api, coupon-consumer 컨텍스트를 한 JVM에서 기동
+ * - 시나리오(v1, v1-async, v2-async)별로 새 쿠폰을 만들고 설정된 동시성/사용자 수로 HTTP 요청을 전송
+ * - 접수 처리량, Consumer 처리 속도, 지연 시간 분포(p50/p99/p999)를 측정
+ * - 처리 완료 후 issued_quantity == coupon_issues 행 수 == Redis SCARD 정합성 검증
+ * - pipeline.virtual-threads=true 이면 두 컨텍스트를 가상 스레드 모드로 기동하고 가상 스레드 고정(pinning) 횟수를 함께 출력
+ *   플랫폼 스레드와 비교하려면 같은 옵션으로 true/false 를 각각 실행 (Tomcat 200 스레드 한도를 넘도록 concurrency 를 크게 설정)
+ * 실행: ./gradlew :coupon-benchmark:pipelineBenchmark (옵션은 PipelineBenchmarkOptions 참고)
+ */
+public class CouponPipelineBenchmark {
+    private static final String DATASOURCE_URL = "jdbc:h2:mem:pipeline;DB_CLOSE_DELAY=-1";
+    private static final Logger log = LoggerFactory.getLogger(CouponPipelineBenchmark.class.getSimpleName());
+
+    private final PipelineBenchmarkOptions options;
+    private final CouponJpaRepository couponJpaRepository;
+    private final RedisRepository redisRepository;
+    private final CouponRedisKeys couponRedisKeys;
+    private final JdbcTemplate jdbcTemplate;
+    private final String baseUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private CouponPipelineBenchmark(PipelineBenchmarkOptions options, ConfigurableApplicationContext api) {
+        this.options = options;
+        this.couponJpaRepository = api.getBean(CouponJpaRepository.class);
+        this.redisRepository = api.getBean(RedisRepository.class);
+        this.couponRedisKeys = api.getBean(CouponRedisKeys.class);
+        this.jdbcTemplate = api.getBean(JdbcTemplate.class);
+        this.baseUrl = "http://localhost:%s".formatted(api.getEnvironment().getProperty("local.server.port"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        PipelineBenchmarkOptions options = PipelineBenchmarkOptions.fromSystemProperties();
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        ConfigurableApplicationContext consumer = null;
+        ConfigurableApplicationContext api = null;
+        try {
+            if (options.virtualThreads() && Runtime.version().feature() < 21) {
+                log.warn("virtual threads require Java 21+, running on Java %s with platform threads".formatted(Runtime.version().feature()));
+            }
+            consumer = start(CouponConsumerApplication.class, "application-core,application-consumer", redisPort, options, false);
+            api = start(CouponApiApplication.class, "application-core,application-api", redisPort, options, options.virtualThreads());
+            CouponPipelineBenchmark benchmark = new CouponPipelineBenchmark(options, api);
+
+            List<PipelineBenchmarkResult> results = new ArrayList<>();
+            for (String name : options.scenarios()) {
+                PipelineScenario scenario = PipelineScenario.find(name);
+                System.out.println("warmup %s, requests: %s".formatted(scenario.name, options.warmupRequests()));
+                benchmark.run(scenario, options.warmupRequests(), options.warmupRequests());
+                System.out.println("measure %s, requests: %s".formatted(scenario.name, options.requests()));
+                results.add(benchmark.run(scenario, options.requests(), options.quantity()));
+            }
+            System.out.println(report(options, results, pinnedEvents(api)));
+        } finally {
+            if (api != null) {
+                api.close();
+            }
+            if (consumer != null) {
+                consumer.close();
+            }
+            redisServer.stop();
+        }
+    }
+
+    /**
+     * 시나리오 1회 실행
+     * 새 쿠폰을 만들어 요청을 보내고, 비동기 경로는 Consumer가 모든 요청을 처리할 때까지 대기한 뒤 정합성 검증
+     * @param requests 전송할 요청 수
+     * @param quantity 쿠폰 총 발급 수량
+     */
+    private PipelineBenchmarkResult run(PipelineScenario scenario, int requests, int quantity) throws InterruptedException {
+        long couponId = createCoupon(quantity);
+        long deadLettersBefore = redisRepository.lSize(getIssueRequestDeadLetterKey());
+
+        Histogram latency = new ConcurrentHistogram(3);
+        AtomicLong sequence = new AtomicLong();
+        AtomicLong accepted = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < options.concurrency(); i++) {
+            workers.execute(() -> {
+                while (sequence.getAndIncrement() < requests) {
+                    long userId = ThreadLocalRandom.current().nextLong(1, options.users() + 1L);
+                    long requestedAt = System.nanoTime();
+                    switch (send(scenario, couponId, userId)) {
+                        case ACCEPTED -> accepted.incrementAndGet();
+                        case REJECTED -> rejected.incrementAndGet();
+                        case ERROR -> errors.incrementAndGet();
+                    }
+                    latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestedAt));
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        long drainMillis = 0;
+        if (scenario.async) {
+            awaitDrain(couponId, accepted.get(), deadLettersBefore);
+            drainMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        }
+
+        return new PipelineBenchmarkResult(
+                scenario,
+                requests,
+                accepted.get(),
+                rejected.get(),
+                errors.get(),
+                latency,
+                elapsedMillis,
+                drainMillis,
+                issuedQuantity(couponId),
+                issueRows(couponId),
+                redisRepository.sCard(couponRedisKeys.getIssueRequestKey(couponId)),
+                redisRepository.lSize(getIssueRequestDeadLetterKey()) - deadLettersBefore
+        );
+    }
+
+    private RequestResult send(PipelineScenario scenario, long couponId, long userId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userId\":%d,\"couponId\":%d}".formatted(userId, couponId)))
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return RequestResult.ERROR;
+            }
+            return response.body().contains("\"isSuccess\":true") ? RequestResult.ACCEPTED : RequestResult.REJECTED;
+        } catch (IOException e) {
+            return RequestResult.ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return RequestResult.ERROR;
+        }
+    }
+
+    /**
+     * 접수된 요청이 모두 DB에 반영되거나 Dead Letter Queue로 이동할 때까지 대기
+     */
+    private void awaitDrain(long couponId, long accepted, long deadLettersBefore) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.drainTimeoutSeconds());
+        while (System.nanoTime() < deadline) {
+            long deadLetters = redisRepository.lSize(getIssueRequestDeadLetterKey()) - deadLettersBefore;
+            if (issueRows(couponId) + deadLetters >= accepted) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        log.warn("drain timeout couponId: %s, accepted: %s, rows: %s".formatted(couponId, accepted, issueRows(couponId)));
+    }
+
+    private long createCoupon(int quantity) {
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("파이프라인 벤치마크 쿠폰")
+                .totalQuantity(quantity)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+        return couponJpaRepository.save(coupon).getId();
+    }
+
+    private long issuedQuantity(long couponId) {
+        return jdbcTemplate.queryForObject("select issued_quantity from coupons where id = ?", Long.class, couponId);
+    }
+
+    private long issueRows(long couponId) {
+        return jdbcTemplate.queryForObject("select count(*) from coupon_issues where coupon_id = ?", Long.class, couponId);
+    }
+
+    /**
+     * 애플리케이션 컨텍스트 기동
+     * 두 컨텍스트가 같은 내장 Redis, 같은 in-memory H2(DB_CLOSE_DELAY=-1)를 공유하도록 커맨드라인 인자로 설정을 덮어씀
+     * @param pinnedMonitor 가상 스레드 고정 모니터 활성화 여부 (JFR 이벤트는 JVM 전체 대상이므로 한 컨텍스트에서만 활성화)
+     */
+    private static ConfigurableApplicationContext start(Class<?> application, String configName, int redisPort,
+                                                        PipelineBenchmarkOptions options, boolean pinnedMonitor) {
+        return new SpringApplicationBuilder(application)
+                .profiles("test")
+                .run(
+                        "--spring.config.name=" + configName,
+                        "--spring.main.banner-mode=off",
+                        "--server.port=0",
+                        "--server.tomcat.mbeanregistry.enabled=false",
+                        "--spring.datasource.url=" + DATASOURCE_URL,
+                        "--spring.data.redis.port=" + redisPort,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--coupon.consumer.mode=" + options.consumerMode(),
+                        "--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                        "--coupon.jfr.pinned-threads.enabled=" + pinnedMonitor
+                );
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * 가상 스레드 고정 이벤트 수 (coupon.jvm.virtual-thread.pinned 전체 합계, 모니터가 비활성화되어 있으면 0)
+     */
+    private static long pinnedEvents(ConfigurableApplicationContext api) {
+        return api.getBean(MeterRegistry.class).find("coupon.jvm.virtual-thread.pinned").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private static String report(PipelineBenchmarkOptions options, List<PipelineBenchmarkResult> results, long pinnedEvents) {
+        StringBuilder report = new StringBuilder("""
+
+                ===== coupon pipeline benchmark =====
+                concurrency: %d, requests: %d, users: %d, quantity: %d, consumer mode: %s
+                java: %d, virtual threads: %s, pinned events: %d
+                """.formatted(options.concurrency(), options.requests(), options.users(), options.quantity(), options.consumerMode(),
+                Runtime.version().feature(), options.virtualThreads(), pinnedEvents));
+        results.forEach(result -> report.append(result.format()));
+        return report.toString();
+    }
+
+    private enum RequestResult {
+        ACCEPTED, REJECTED, ERROR
+    }
+}
@@ -0,0 +1,45 @@
+package com.hexagonal.couponbenchmark.pipeline;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 파이프라인 벤치마크 실행 옵션 (시스템 프로퍼티 pipeline.*)
+ * @param scenarios 측정할 발급 경로 목록 (v1, v1-async, v2-async)
+ * @param concurrency 동시 요청 스레드 수
+ * @param requests 시나리오별 총 요청 수
+ * @param users 요청에 사용할 사용자 ID 수 (요청 수보다 작으면 중복 발급 요청이 섞임)
+ * @param quantity 쿠폰 총 발급 수량
+ * @param warmupRequests 측정 전 별도 쿠폰으로 보내는 워밍업 요청 수
+ * @param consumerMode coupon.consumer.mode
+ * @param drainTimeoutSeconds 요청 종료 후 Consumer 처리 완료를 기다리는 최대 시간
+ * @param virtualThreads spring.threads.virtual.enabled (Java 21 이상에서 실행해야 적용)
+ */
+public record PipelineBenchmarkOptions(
+        List<String> scenarios,
+        int concurrency,
+        int requests,
+        int users,
+        int quantity,
+        int warmupRequests,
+        String consumerMode,
+        long drainTimeoutSeconds,
+        boolean virtualThreads
+) {
+    public static PipelineBenchmarkOptions fromSystemProperties() {
+        return new PipelineBenchmarkOptions(
+                Arrays.stream(System.getProperty("pipeline.scenarios", "v1,v1-async,v2-async").split(","))
+                        .map(String::trim)
+                        .filter(scenario -> !scenario.isEmpty())
+                        .toList(),
+                Integer.getInteger("pipeline.concurrency", 64),
+                Integer.getInteger("pipeline.requests", 20_000),
+                Integer.getInteger("pipeline.users", 20_000),
+                Integer.getInteger("pipeline.quantity", 5_000),
+                Integer.getInteger("pipeline.warmup-requests", 2_000),
+                System.getProperty("pipeline.consumer-mode", "polling"),
+                Long.getLong("pipeline.drain-timeout-seconds", 120L),
+                Boolean.getBoolean("pipeline.virtual-threads")
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.hexagonal.couponbenchmark.pipeline;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 시나리오별 측정 결과
+ * @param latency 요청 지연 시간 분포 (마이크로초)
+ * @param elapsedMillis 모든 요청 응답까지 걸린 시간
+ * @param drainMillis 첫 요청부터 Consumer가 마지막 발급을 DB에 반영할 때까지 걸린 시간 (동기 발급은 0)
+ * @param issuedQuantity coupons.issued_quantity
+ * @param issueRows coupon_issues 행 수
+ * @param requestSetSize Redis 발급 요청 Set 크기 (SCARD)
+ * @param deadLetters Dead Letter Queue 크기
+ */
+public record PipelineBenchmarkResult(
+        PipelineScenario scenario,
+        long requests,
+        long accepted,
+        long rejected,
+        long errors,
+        Histogram latency,
+        long elapsedMillis,
+        long drainMillis,
+        long issuedQuantity,
+        long issueRows,
+        long requestSetSize,
+        long deadLetters
+) {
+    public double acceptedPerSecond() {
+        return elapsedMillis == 0 ? 0 : accepted * 1000.0 / elapsedMillis;
+    }
+
+    public double requestsPerSecond() {
+        return elapsedMillis == 0 ? 0 : requests * 1000.0 / elapsedMillis;
+    }
+
+    public double drainPerSecond() {
+        return drainMillis == 0 ? 0 : issueRows * 1000.0 / drainMillis;
+    }
+
+    /**
+     * 정합성 검증
+     * issued_quantity == coupon_issues 행 수 == 접수된 요청 수, 비동기 경로는 Redis SCARD 까지 일치해야 함
+     */
+    public boolean consistent() {
+        boolean db = issuedQuantity == issueRows && issueRows == accepted;
+        return scenario.async ? db && requestSetSize == issueRows : db;
+    }
+
+    public String format() {
+        return """
+                [%s]
+                  requests: %d (%.1f req/s), accepted: %d (%.1f req/s), rejected: %d, errors: %d
+                  latency(ms): p50=%.2f p99=%.2f p999=%.2f max=%.2f
+                  drain: %s
+                  consistency: issued_quantity=%d, rows=%d, SCARD=%s, dead-letters=%d -> %s
+                """.formatted(
+                scenario.name,
+                requests, requestsPerSecond(), accepted, acceptedPerSecond(), rejected, errors,
+                millis(50), millis(99), millis(99.9), latency.getMaxValue() / 1000.0,
+                scenario.async ? "%d ms (%.1f issues/s)".formatted(drainMillis, drainPerSecond()) : "-",
+                issuedQuantity, issueRows, scenario.async ? String.valueOf(requestSetSize) : "-", deadLetters,
+                consistent() ? "OK" : "MISMATCH"
+        );
+    }
+
+    private double millis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.hexagonal.couponbenchmark.pipeline;
+
+import java.util.Arrays;
+
+/**
+ * 측정 대상 발급 경로
+ */
+public enum PipelineScenario {
+    V1("v1", "/v1/issue", false),   // 동기 발급 (DB 비관적 락)
+    V1_ASYNC("v1-async", "/v1/issue-async", true),   // 비동기 발급 (Redisson 분산 락)
+    V2_ASYNC("v2-async", "/v2/issue-async", true);   // 비동기 발급 (Lua 스크립트)
+
+    public final String name;
+    public final String path;
+    public final boolean async;
+
+    PipelineScenario(String name, String path, boolean async) {
+        this.name = name;
+        this.path = path;
+        this.async = async;
+    }
+
+    public static PipelineScenario find(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 시나리오입니다. %s".formatted(name)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.hexagonal.couponconsumer.component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리 API(/admin/**) 인증 인터셉터
+ * 요청 헤더(X-Admin-Token)의 토큰이 coupon.consumer.admin.token 과 일치할 때만 허용
+ * - 토큰이 설정되지 않았으면 관리 API 전체를 거절 (403)
+ * - 토큰이 없거나 일치하지 않으면 401
+ * - 타이밍 공격을 피하기 위해 고정 시간 비교(MessageDigest.isEqual) 사용
+ */
+@Component
+public class CouponAdminAuthInterceptor implements HandlerInterceptor {
+    public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    @Value("${coupon.consumer.admin.token:}")
+    private String adminToken;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (adminToken.isBlank()) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return false;
+        }
+        String token = request.getHeader(ADMIN_TOKEN_HEADER);
+        if (token == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), adminToken.getBytes(StandardCharsets.UTF_8))) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return false;
+        }
+        return true;
+    }
+}
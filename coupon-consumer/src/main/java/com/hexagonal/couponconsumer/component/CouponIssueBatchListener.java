@@ -0,0 +1,86 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+
+/**
+ * Redis Queue에 저장된 쿠폰 발급 요청을 묶음 단위로 처리하는 스케줄링 컴포넌트
+ * coupon.consumer.mode=batch 일 때 활성화
+ * - 최대 batch-size 개의 요청을 한 번에 조회해 쿠폰별로 하나의 트랜잭션으로 반영
+ * - 요청이 batch-size 만큼 모이지 않아도 max-latency-millis 가 지나면 처리
+ * - 요청은 DB 반영이 끝난 뒤에 Queue에서 제거 (LRANGE → 처리 → LTRIM)
+ *   처리 도중 장애가 발생하면 요청이 Queue에 남아 다음 주기에 다시 처리됨 (중복 처리는 DB 중복 발급 검증으로 걸러짐)
+ *   조회와 제거 사이에 다른 Consumer가 끼어들지 않도록 batch 모드는 단일 Consumer로 실행
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.consumer.mode", havingValue = "batch")
+public class CouponIssueBatchListener {
+    private static final long POLL_INTERVAL_MILLIS = 10L;
+
+    private final RedisRepository redisRepository;
+    private final CouponIssueProcessor couponIssueProcessor;
+    private final String issueRequestQueueKey = getIssueRequestQueueKey();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.consumer.batch.size:500}")
+    private int batchSize;
+
+    @Value("${coupon.consumer.batch.max-latency-millis:200}")
+    private long maxLatencyMillis;
+
+    /**
+     * Redis Queue에서 발급 요청을 묶음 단위로 처리하는 메서드
+     * 1초 간격으로 실행되며, Queue가 비어있을 때까지 반복 처리
+     * 처리를 마친 요청만 Queue에서 제거하므로 처리 중 예외가 발생하면 해당 묶음은 Queue에 그대로 남음
+     */
+    @Scheduled(fixedDelay = 1000L)
+    public void issue() throws InterruptedException {
+        List<String> values;
+        while (!(values = collectIssueValues()).isEmpty()) {
+            List<CouponIssueRequest> targets = values.stream()
+                    .map(couponIssueProcessor::read)
+                    .filter(Objects::nonNull)
+                    .toList();
+            log.info("일괄 발급 시작 size: %s".formatted(targets.size()));
+            if (!targets.isEmpty()) {
+                couponIssueProcessor.issue(targets);
+            }
+            redisRepository.lTrim(issueRequestQueueKey, values.size(), -1);
+        }
+    }
+
+    /**
+     * Queue 앞쪽에서 처리할 발급 요청을 최대 batch-size 개까지 조회 (제거하지 않음)
+     * - LRANGE 로 여러 건을 한 번의 왕복으로 조회
+     * - 요청이 부족하면 max-latency-millis 까지만 다시 조회하며 대기
+     */
+    private List<String> collectIssueValues() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + maxLatencyMillis;
+        List<String> values = redisRepository.lRange(issueRequestQueueKey, 0, batchSize - 1);
+        while (!values.isEmpty() && values.size() < batchSize) {
+            long remainingMillis = deadline - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                break;
+            }
+            Thread.sleep(Math.min(remainingMillis, POLL_INTERVAL_MILLIS));
+            values = redisRepository.lRange(issueRequestQueueKey, 0, batchSize - 1);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,114 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueRepository;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueDeadLetter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestDeadLetterKey;
+
+/**
+ * 처리에 실패한 발급 요청을 보관하는 Dead Letter Queue
+ * 실패한 요청을 Queue에서 분리하여 뒤따르는 요청의 처리가 막히지 않도록 하고,
+ * 원인 해결 후 다시 발급 요청 Queue로 되돌릴(replay) 수 있도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueDeadLetterQueue {
+    private final RedisRepository redisRepository;
+    private final CouponIssueQueueRepository couponIssueQueueRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> deadLetterCounters = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String deadLetterKey = getIssueRequestDeadLetterKey();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    /**
+     * 실패한 발급 요청을 실패 사유와 함께 Dead Letter Queue에 저장
+     * @param value 원본 발급 요청
+     * @param reason 실패 사유 코드
+     * @param message 실패 상세 메시지
+     */
+    public void push(String value, String reason, String message) {
+        CouponIssueDeadLetter deadLetter = new CouponIssueDeadLetter(value, reason, message, System.currentTimeMillis());
+        try {
+            redisRepository.rPush(deadLetterKey, objectMapper.writeValueAsString(deadLetter));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("dead letter 직렬화 실패 value: %s".formatted(value), e);
+        }
+        deadLetterCounters.computeIfAbsent(reason, key -> Counter.builder("coupon.issue.dead.letter")
+                        .description("Dead Letter Queue로 이동된 발급 요청 수")
+                        .tag("reason", key)
+                        .register(meterRegistry))
+                .increment();
+        log.error("dead letter 저장 reason: %s, value: %s, message: %s".formatted(reason, value, message));
+    }
+
+    /**
+     * Dead Letter Queue에 보관된 요청 조회
+     * @param start 조회 시작 위치 (0부터 시작)
+     * @param size 조회 개수
+     */
+    public List<CouponIssueDeadLetter> findAll(long start, long size) {
+        return redisRepository.lRange(deadLetterKey, start, start + size - 1).stream()
+                .map(this::readDeadLetter)
+                .toList();
+    }
+
+    /**
+     * Dead Letter Queue에 보관된 요청 수 조회
+     */
+    public long size() {
+        Long size = redisRepository.lSize(deadLetterKey);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * Dead Letter Queue 앞쪽부터 최대 count개의 요청을 발급 요청 Queue로 되돌림
+     * 요청을 조회(LINDEX)해 파싱하고 발급 요청 Queue에 적재한 뒤에 Dead Letter Queue에서 제거하므로 도중에 실패해도 유실되지 않음
+     * 파싱할 수 없거나 다시 적재할 수 없는 요청은 Dead Letter Queue 끝으로 옮겨 보관하고 다음 요청을 처리
+     * @return 되돌린 요청 수
+     */
+    public int replay(long count) {
+        long limit = Math.min(count, size());
+        int replayed = 0;
+        for (long i = 0; i < limit; i++) {
+            String value = redisRepository.lIndex(deadLetterKey, 0);
+            if (value == null) {
+                break;
+            }
+            try {
+                couponIssueQueueRepository.issueRequestQueuePush(readDeadLetter(value).value());
+            } catch (IllegalStateException | CouponIssueException e) {
+                log.warn("dead letter replay 실패, Queue 끝으로 이동 value: %s, reason: %s".formatted(value, e.getMessage()));
+                redisRepository.lMove(deadLetterKey, deadLetterKey);
+                continue;
+            }
+            redisRepository.lRem(deadLetterKey, value);
+            replayed++;
+        }
+        log.info("dead letter replay count: %s, skipped: %s".formatted(replayed, limit - replayed));
+        return replayed;
+    }
+
+    private CouponIssueDeadLetter readDeadLetter(String value) {
+        try {
+            return objectMapper.readValue(value, CouponIssueDeadLetter.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("dead letter 파싱 실패 value: %s".formatted(value), e);
+        }
+    }
+}
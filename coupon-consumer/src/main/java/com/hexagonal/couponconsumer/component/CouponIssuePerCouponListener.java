@@ -0,0 +1,122 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueRepository;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 쿠폰별 Redis Queue에 저장된 발급 요청을 처리하는 스케줄링 컴포넌트
+ * coupon.consumer.mode=per-coupon 일 때 활성화 (coupon.queue.type=per-coupon, Redis Cluster 용)
+ * - 처리할 요청이 있는 쿠폰 ID 목록 Set으로 쿠폰별 Queue를 찾아 처리
+ * - 한 바퀴에 쿠폰마다 최대 batch-size 개씩만 처리해 특정 쿠폰의 요청이 몰려도 다른 쿠폰의 처리가 밀리지 않음
+ * - Queue가 비면 목록에서 제거하며, 제거 중 새로 적재된 요청이 있으면 다시 등록되어 다음 바퀴에 처리
+ * - 요청은 DB 반영이 끝난 뒤에 Queue에서 제거 (LRANGE → 처리 → LTRIM)
+ *   처리 도중 장애가 발생하면 요청이 Queue에 남아 다시 처리됨 (중복 처리는 DB 중복 발급 검증으로 걸러짐)
+ *   조회와 제거 사이에 다른 Consumer가 끼어들지 않도록 쿠폰별 처리 권한(SET NX PX)을 얻은 Consumer만 해당 Queue를 처리하므로
+ *   여러 Consumer 인스턴스가 쿠폰 단위로 Queue를 나눠서 처리 가능
+ * - 적재 후 목록 등록 전에 API가 종료되어 목록에서 빠진 Queue는 주기적으로 SCAN 하여 다시 등록
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.consumer.mode", havingValue = "per-coupon")
+public class CouponIssuePerCouponListener {
+    private final RedisRepository redisRepository;
+    private final CouponIssueQueueRepository couponIssueQueueRepository;
+    private final CouponIssueProcessor couponIssueProcessor;
+    private final CouponRedisKeys couponRedisKeys;
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.consumer.batch.size:500}")
+    private int batchSize;
+
+    @Value("${coupon.consumer.per-coupon.consumer-name:${HOSTNAME:coupon-consumer}}")
+    private String consumerNamePrefix;
+
+    @Value("${coupon.consumer.per-coupon.claim-ttl-millis:30000}")
+    private long claimTtlMillis;
+
+    private String consumerName;
+
+    @PostConstruct
+    void init() {
+        consumerName = "%s-%s".formatted(consumerNamePrefix, ProcessHandle.current().pid());
+    }
+
+    /**
+     * 쿠폰별 Queue에서 발급 요청을 처리하는 메서드
+     * 1초 간격으로 실행되며, 처리할 요청이 있는 쿠폰이 없거나 모든 쿠폰을 다른 Consumer가 처리 중일 때까지 반복 처리
+     */
+    @Scheduled(fixedDelay = 1000L)
+    public void issue() {
+        List<Long> couponIds;
+        boolean processed = true;
+        while (processed && !(couponIds = couponIssueQueueRepository.issueRequestQueueCoupons()).isEmpty()) {
+            processed = false;
+            for (long couponId : couponIds) {
+                processed |= issue(couponId);
+            }
+        }
+    }
+
+    /**
+     * 쿠폰 ID 목록에 등록되지 않은 쿠폰별 Queue를 찾아 다시 등록
+     */
+    @Scheduled(fixedDelayString = "${coupon.consumer.per-coupon.recover-interval-millis:60000}")
+    public void recover() {
+        long recovered = couponIssueQueueRepository.recoverCouponQueues();
+        if (recovered > 0) {
+            log.warn("쿠폰 ID 목록에서 빠진 쿠폰 Queue 복구 size: %s".formatted(recovered));
+        }
+    }
+
+    /**
+     * 쿠폰 Queue의 처리 권한을 얻어 앞쪽 최대 batch-size 개의 요청을 일괄 처리한 뒤 Queue에서 제거
+     * Queue가 비어있으면 처리할 요청이 있는 쿠폰 목록에서 제거
+     * 처리 중 예외가 발생하면 요청을 제거하지 않고 권한만 반납
+     * @return 처리 권한을 얻어 Queue를 확인했으면 true
+     */
+    private boolean issue(long couponId) {
+        if (!couponIssueQueueRepository.claimCouponQueue(couponId, consumerName, Duration.ofMillis(claimTtlMillis))) {
+            return false;
+        }
+        String queueKey = couponRedisKeys.getCouponIssueQueueKey(couponId);
+        long processed = 0;
+        try {
+            List<String> values = redisRepository.lRange(queueKey, 0, batchSize - 1);
+            if (values.isEmpty()) {
+                couponIssueQueueRepository.unregisterCouponQueue(couponId);
+                return true;
+            }
+            List<CouponIssueRequest> targets = values.stream()
+                    .map(couponIssueProcessor::read)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!targets.isEmpty()) {
+                log.info("쿠폰 Queue 발급 시작 couponId: %s, size: %s".formatted(couponId, targets.size()));
+                couponIssueProcessor.issue(targets);
+            }
+            processed = values.size();
+            return true;
+        } finally {
+            if (!couponIssueQueueRepository.completeCouponQueue(couponId, consumerName, processed)) {
+                log.warn("쿠폰 Queue 처리 권한 만료 couponId: %s, 처리한 요청은 다시 처리됨 size: %s".formatted(couponId, processed));
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueResultRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueResult;
+import com.hexagonal.couponcore.service.CouponIssueService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.DUPLICATED_COUPON_ISSUE;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Queue에서 꺼낸 발급 요청을 실제 DB에 반영하는 컴포넌트
+ * 쿠폰 ID별로 요청을 묶어 쿠폰당 하나의 트랜잭션으로 처리
+ * 요청별 Queue 대기 시간, DB 반영 시간, 적재부터 커밋까지의 전체 시간을 측정
+ * 처리를 마친 요청 수는 Redis 카운터에 누적하여 API 노드가 Queue 소진 속도를 계산할 수 있도록 함
+ * (묶음 처리는 묶음마다, 단건 처리는 로컬에 모아 폴링 주기마다 한 번의 INCRBY로 반영)
+ * 요청별 최종 결과(발급 완료, 실패 사유)는 쿠폰별 Redis 결과 Hash에 기록하여 API가 DB 조회 없이 결과를 응답
+ * 실패한 요청은 원인에 따라 분류하여 처리
+ * - 일시적 오류(DB 타임아웃, 락 획득 실패, 커넥션 획득 실패): backoff 후 재시도
+ * - 영구적 오류(CouponIssueException, 파싱 실패 등) 또는 재시도 소진: Dead Letter Queue로 이동
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueProcessor {
+    public static final String INVALID_REQUEST = "INVALID_REQUEST";
+    public static final String RETRY_EXHAUSTED = "RETRY_EXHAUSTED";
+    private static final Duration END_TO_END_SLO = Duration.ofSeconds(5);
+
+    private final CouponIssueService couponIssueService;
+    private final CouponIssueDeadLetterQueue couponIssueDeadLetterQueue;
+    private final CouponIssueResultRepository couponIssueResultRepository;
+    private final CouponIssueQueueRepository couponIssueQueueRepository;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong pendingDrained = new AtomicLong();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.consumer.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${coupon.consumer.retry.backoff-millis:100}")
+    private long backoffMillis;
+
+    @Value("${coupon.consumer.result-ttl-seconds:86400}")
+    private long resultTtlSeconds;
+
+    private Timer queueWaitTimer;
+    private Timer endToEndTimer;
+    private Timer batchCommitTimer;
+    private Timer singleCommitTimer;
+    private Counter retryCounter;
+
+    /**
+     * 요청마다 사용하는 Timer, Counter를 미리 등록
+     * - coupon.issue.queue.wait: 적재 시각 ~ 처리 시작
+     * - coupon.issue.end-to-end: 적재 시각 ~ DB 커밋 완료 ("지갑에 쿠폰이 보이기까지" SLO 5초)
+     * - coupon.issue.commit{mode}: DB 발급(트랜잭션 커밋 포함) 시간, batch: 쿠폰 단위 일괄 발급, single: 요청 단위 발급
+     */
+    @PostConstruct
+    void registerMeters() {
+        queueWaitTimer = Timer.builder("coupon.issue.queue.wait")
+                .description("발급 요청이 Queue에 적재된 후 처리가 시작되기까지의 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        endToEndTimer = Timer.builder("coupon.issue.end-to-end")
+                .description("발급 요청 적재부터 DB 커밋 완료까지의 시간")
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(END_TO_END_SLO)
+                .register(meterRegistry);
+        batchCommitTimer = commitTimer("batch");
+        singleCommitTimer = commitTimer("single");
+        retryCounter = meterRegistry.counter("coupon.issue.retry");
+    }
+
+    /**
+     * Queue에서 꺼낸 발급 요청 역직렬화
+     * 파싱할 수 없는 요청은 Dead Letter Queue로 이동
+     * @param value 직렬화된 발급 요청
+     * @return 발급 요청, 파싱 실패 시 null
+     */
+    public CouponIssueRequest read(String value) {
+        try {
+            return objectMapper.readValue(value, CouponIssueRequest.class);
+        } catch (JsonProcessingException e) {
+            couponIssueDeadLetterQueue.push(value, INVALID_REQUEST, e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Queue에서 조회한 발급 요청 역직렬화 (Dead Letter Queue로 이동하지 않음)
+     * 요청을 Queue에서 제거하기 전에 내용을 확인해야 할 때 사용하며, 실패한 요청은 제거 후 read로 다시 처리
+     * @param value 직렬화된 발급 요청
+     * @return 발급 요청, 파싱 실패 시 null
+     */
+    public CouponIssueRequest parse(String value) {
+        try {
+            return objectMapper.readValue(value, CouponIssueRequest.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 발급 요청 묶음 처리
+     * 요청 순서를 유지한 채 쿠폰 ID별로 그룹핑하여 일괄 발급
+     * @param targets Queue에서 꺼낸 발급 요청 목록
+     */
+    public void issue(List<CouponIssueRequest> targets) {
+        Map<Long, List<CouponIssueRequest>> requestsByCouponId = targets.stream()
+                .collect(groupingBy(CouponIssueRequest::couponId, LinkedHashMap::new, toList()));
+        requestsByCouponId.forEach(this::issueGroup);
+        recordDrained(targets.size());
+    }
+
+    /**
+     * 단건 발급 요청 처리
+     * 일시적 오류는 지수 backoff로 최대 max-attempts 회 재시도하고,
+     * 영구적 오류 또는 재시도 소진 시 Dead Letter Queue로 이동
+     * @param target 발급 요청
+     */
+    public void issue(CouponIssueRequest target) {
+        recordQueueWait(target);
+        issueSingle(target);
+        pendingDrained.incrementAndGet();
+    }
+
+    /**
+     * 단건 처리로 모아둔 처리 완료 요청 수를 Redis 카운터에 반영
+     * 폴링 Consumer는 한 번의 폴링을 마칠 때 호출하고, 쉬지 않고 처리하는 Consumer(reliable)를 위해 주기적으로도 반영
+     */
+    @Scheduled(fixedDelayString = "${coupon.consumer.drained-flush-interval-millis:1000}")
+    public void flushDrained() {
+        long count = pendingDrained.getAndSet(0);
+        if (count > 0) {
+            recordDrained(count);
+        }
+    }
+
+    private void issueSingle(CouponIssueRequest target) {
+        long backoff = backoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                singleCommitTimer.record(() -> couponIssueService.issue(target.couponId(), target.userId()));
+                recordEndToEnd(target);
+                recordResults(target.couponId(), Map.of(target.userId(), CouponIssueResult.ISSUED));
+                return;
+            } catch (CouponIssueException e) {
+                deadLetter(target, e.getErrorCode().name(), e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    deadLetter(target, e.getClass().getSimpleName(), e.getMessage());
+                    return;
+                }
+                if (attempt >= maxAttempts || !sleep(backoff)) {
+                    deadLetter(target, RETRY_EXHAUSTED, e.getMessage());
+                    return;
+                }
+                retryCounter.increment();
+                log.warn("일시적 오류로 재시도 target: %s, attempt: %s, reason: %s".formatted(target, attempt, e.getMessage()));
+                backoff *= 2;
+            }
+        }
+    }
+
+    /**
+     * 쿠폰 단위 일괄 발급
+     * 일괄 발급이 실패하면(수량 초과, 기간 만료, 일시적 오류 등) 요청 단위 발급으로 전환하여
+     * 발급 가능한 요청은 최대한 반영하고, 실패한 요청만 재시도 또는 Dead Letter Queue로 분리
+     */
+    private void issueGroup(long couponId, List<CouponIssueRequest> requests) {
+        requests.forEach(this::recordQueueWait);
+        List<Long> userIds = requests.stream().map(CouponIssueRequest::userId).toList();
+        try {
+            List<Long> issuedUserIds = batchCommitTimer.record(() -> couponIssueService.issueBatch(couponId, userIds));
+            Set<Long> issued = new HashSet<>(issuedUserIds);
+            requests.stream()
+                    .filter(request -> issued.contains(request.userId()))
+                    .forEach(this::recordEndToEnd);
+            // 발급 대상에서 제외된 사용자는 이미 발급된 사용자이므로 모두 발급 완료로 기록
+            Map<Long, CouponIssueResult> results = new LinkedHashMap<>();
+            userIds.forEach(userId -> results.put(userId, CouponIssueResult.ISSUED));
+            recordResults(couponId, results);
+            log.info("일괄 발급 완료 couponId: %s, requested: %s, issued: %s".formatted(couponId, userIds.size(), issuedUserIds.size()));
+        } catch (RuntimeException e) {
+            log.warn("일괄 발급 실패, 개별 발급으로 전환 couponId: %s, reason: %s".formatted(couponId, e.getMessage()));
+            requests.forEach(this::issueSingle);
+        }
+    }
+
+    /**
+     * 요청별 최종 결과 기록
+     * 결과 기록 실패가 발급 처리 흐름에 영향을 주지 않도록 로그만 기록 (결과가 없으면 API는 처리 대기로 응답)
+     */
+    private void recordResults(long couponId, Map<Long, CouponIssueResult> results) {
+        try {
+            couponIssueResultRepository.recordIssueResults(couponId, results, Duration.ofSeconds(resultTtlSeconds));
+        } catch (RuntimeException e) {
+            log.warn("발급 결과 기록 실패 couponId: %s, size: %s, reason: %s".formatted(couponId, results.size(), e.getMessage()));
+        }
+    }
+
+    /**
+     * 처리 완료 요청 수 누적 (API 노드의 Queue 소진 속도 계산용)
+     * 카운터 갱신 실패가 발급 처리 흐름에 영향을 주지 않도록 로그만 기록
+     */
+    private void recordDrained(long count) {
+        try {
+            couponIssueQueueRepository.incrementIssueRequestDrained(count);
+        } catch (RuntimeException e) {
+            log.warn("처리 완료 요청 수 기록 실패 count: %s, reason: %s".formatted(count, e.getMessage()));
+        }
+    }
+
+    /**
+     * Queue 대기 시간 기록 (적재 시각 ~ 처리 시작)
+     * 적재 시각이 없는 이전 형식 요청은 제외
+     */
+    private void recordQueueWait(CouponIssueRequest target) {
+        if (target.enqueuedAt() > 0) {
+            queueWaitTimer.record(Duration.ofMillis(System.currentTimeMillis() - target.enqueuedAt()));
+        }
+    }
+
+    /**
+     * 적재부터 DB 커밋까지의 전체 시간 기록 ("지갑에 쿠폰이 보이기까지" SLO 5초)
+     */
+    private void recordEndToEnd(CouponIssueRequest target) {
+        if (target.enqueuedAt() > 0) {
+            endToEndTimer.record(Duration.ofMillis(System.currentTimeMillis() - target.enqueuedAt()));
+        }
+    }
+
+    /**
+     * DB 발급(트랜잭션 커밋 포함) 시간 측정 타이머 등록
+     * @param mode batch: 쿠폰 단위 일괄 발급, single: 요청 단위 발급
+     */
+    private Timer commitTimer(String mode) {
+        return Timer.builder("coupon.issue.commit")
+                .description("발급 요청 DB 반영 시간")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시도로 해결될 수 있는 일시적 오류인지 판단
+     */
+    private boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * Dead Letter Queue 이동 및 실패 결과 기록
+     * DB에 이미 발급 이력이 있어 실패한 요청(중복 발급)은 사용자 입장에서 발급 완료이므로 발급 완료로 기록
+     */
+    private void deadLetter(CouponIssueRequest target, String reason, String message) {
+        recordResults(target.couponId(), Map.of(target.userId(), DUPLICATED_COUPON_ISSUE.name().equals(reason)
+                ? CouponIssueResult.ISSUED
+                : CouponIssueResult.failed(reason)));
+        try {
+            couponIssueDeadLetterQueue.push(objectMapper.writeValueAsString(target), reason, message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("발급 요청 직렬화 실패 target: %s".formatted(target), e);
+        }
+    }
+
+    /**
+     * 처리 도중 예상하지 못한 예외가 발생한 요청 묶음을 Dead Letter Queue로 이동
+     * 일부 요청이 이미 반영되었더라도 재처리(replay) 시 DB 중복 발급 검증으로 걸러짐
+     */
+    public void deadLetter(List<CouponIssueRequest> targets, RuntimeException e) {
+        targets.forEach(target -> deadLetter(target, e.getClass().getSimpleName(), e.getMessage()));
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestConsumerHeartbeatKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestConsumersKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestProcessingKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+
+/**
+ * BLMOVE 기반으로 Redis Queue의 발급 요청을 처리하는 컴포넌트
+ * coupon.consumer.mode=reliable 일 때 활성화
+ * - 요청이 들어오는 즉시 깨어나 처리하므로 폴링 지연과 불필요한 lSize 호출이 없음
+ * - 요청을 Consumer 전용 처리 중 List로 원자적으로 옮긴 뒤 처리하고, 커밋 후 처리 중 List에서 제거(ACK)
+ * - 처리 도중 종료된 Consumer의 처리 중 List는 heartbeat 만료 후 다른 Consumer가 Queue로 복구
+ * - 처리 중 예외가 반복되는 요청은 max-attempts 회 시도 후 Dead Letter Queue로 이동하여 Queue가 막히지 않도록 함
+ * - spring.threads.virtual.enabled=true (Java 21) 이면 수신 루프를 가상 스레드로 실행
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.consumer.mode", havingValue = "reliable")
+public class CouponIssueReliableListener {
+    private final RedisRepository redisRepository;
+    private final Environment environment;
+    private final CouponIssueProcessor couponIssueProcessor;
+    private final CouponIssueDeadLetterQueue couponIssueDeadLetterQueue;
+    private final String issueRequestQueueKey = getIssueRequestQueueKey();
+    private final String issueRequestConsumersKey = getIssueRequestConsumersKey();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.consumer.reliable.consumer-name:${HOSTNAME:coupon-consumer}}")
+    private String consumerNamePrefix;
+
+    @Value("${coupon.consumer.reliable.block-timeout-millis:2000}")
+    private long blockTimeoutMillis;
+
+    @Value("${coupon.consumer.reliable.heartbeat-ttl-millis:30000}")
+    private long heartbeatTtlMillis;
+
+    @Value("${coupon.consumer.reliable.retry-backoff-millis:1000}")
+    private long retryBackoffMillis;
+
+    @Value("${coupon.consumer.reliable.max-attempts:5}")
+    private int maxAttempts;
+
+    private String consumerName;
+    private String processingKey;
+    private volatile boolean running = true;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    // 요청별 실패 횟수 (성공 또는 Dead Letter Queue 이동 시 제거)
+    private final Map<String, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Consumer 등록, 종료된 Consumer의 처리 중 List 복구 후 처리 스레드 시작
+     */
+    @PostConstruct
+    void start() {
+        consumerName = "%s-%s".formatted(consumerNamePrefix, ProcessHandle.current().pid());
+        processingKey = getIssueRequestProcessingKey(consumerName);
+        heartbeat();
+        redisRepository.sAdd(issueRequestConsumersKey, consumerName);
+        recover();
+        SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("coupon-issue-reliable-");
+        listenerExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        listenerExecutor.execute(this::listen);
+        log.info("reliable consumer started. consumer: %s".formatted(consumerName));
+    }
+
+    /**
+     * 처리 중인 요청이 끝날 때까지 대기 후 Consumer 등록 해제
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (terminated.await(blockTimeoutMillis * 2, TimeUnit.MILLISECONDS)) {
+            redisRepository.sRem(issueRequestConsumersKey, consumerName);
+        }
+    }
+
+    /**
+     * Consumer 생존 신호 갱신
+     * heartbeat-ttl-millis 의 1/3 주기로 갱신하여 일시적인 지연에도 만료되지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "#{${coupon.consumer.reliable.heartbeat-ttl-millis:30000} / 3}")
+    public void heartbeat() {
+        redisRepository.set(getIssueRequestConsumerHeartbeatKey(consumerName), "1", Duration.ofMillis(heartbeatTtlMillis));
+    }
+
+    /**
+     * heartbeat가 만료된(종료된) Consumer의 처리 중 List를 Queue 앞쪽으로 복구
+     * 이미 커밋된 요청이 복구되더라도 DB 중복 발급 검증으로 다시 발급되지 않음
+     */
+    @Scheduled(fixedDelayString = "${coupon.consumer.reliable.heartbeat-ttl-millis:30000}")
+    public void recover() {
+        Set<String> consumerNames = redisRepository.sMembers(issueRequestConsumersKey);
+        if (consumerNames == null) {
+            return;
+        }
+        for (String name : consumerNames) {
+            if (name.equals(consumerName) || Boolean.TRUE.equals(redisRepository.hasKey(getIssueRequestConsumerHeartbeatKey(name)))) {
+                continue;
+            }
+            Long recovered = redisRepository.requeue(getIssueRequestProcessingKey(name), issueRequestQueueKey);
+            redisRepository.sRem(issueRequestConsumersKey, name);
+            log.info("종료된 Consumer 요청 복구 consumer: %s, recovered: %s".formatted(name, recovered));
+        }
+    }
+
+    /**
+     * 처리 루프
+     * Queue에 요청이 없으면 block-timeout-millis 동안 대기하다가 요청이 들어오면 즉시 처리
+     */
+    private void listen() {
+        try {
+            while (running) {
+                try {
+                    String value = redisRepository.bLMove(issueRequestQueueKey, processingKey, Duration.ofMillis(blockTimeoutMillis));
+                    if (value != null) {
+                        process(value);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("발급 요청 Queue 처리 실패", e);
+                    Thread.sleep(retryBackoffMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * 발급 요청 처리 후 처리 중 List에서 제거(ACK)
+     * 실패한 요청은 CouponIssueProcessor가 재시도 또는 Dead Letter Queue로 분리하며,
+     * 그 외 예외(Redis 장애 등)가 발생하면 잠시 대기 후 요청을 Queue 앞쪽으로 되돌려 재시도
+     * 같은 요청이 max-attempts 회 실패하면 Dead Letter Queue로 이동 (Queue 앞쪽에서 무한히 재시도되지 않도록)
+     */
+    private void process(String value) throws InterruptedException {
+        try {
+            CouponIssueRequest target = couponIssueProcessor.read(value);
+            if (target != null) {
+                couponIssueProcessor.issue(target);
+            }
+        } catch (RuntimeException e) {
+            int attempts = failedAttempts.merge(value, 1, Integer::sum);
+            if (attempts >= maxAttempts && deadLetter(value, e)) {
+                return;
+            }
+            log.error("발급 처리 실패, 재시도 예정 value: %s, attempt: %s".formatted(value, attempts), e);
+            Thread.sleep(retryBackoffMillis);
+            redisRepository.requeue(processingKey, issueRequestQueueKey);
+            return;
+        }
+        failedAttempts.remove(value);
+        redisRepository.lRem(processingKey, value);
+    }
+
+    /**
+     * 재시도를 소진한 요청을 Dead Letter Queue로 이동 후 처리 중 List에서 제거
+     * @return 이동했으면 true, Dead Letter Queue 저장에 실패하면 false (Queue로 되돌려 다시 시도)
+     */
+    private boolean deadLetter(String value, RuntimeException e) {
+        try {
+            couponIssueDeadLetterQueue.push(value, CouponIssueProcessor.RETRY_EXHAUSTED, e.getMessage());
+        } catch (RuntimeException pushFailure) {
+            log.error("dead letter 저장 실패 value: %s".formatted(value), pushFailure);
+            return false;
+        }
+        failedAttempts.remove(value);
+        redisRepository.lRem(processingKey, value);
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponcore.repository.redis.CouponIssueStreamRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueStreamEntry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestConsumerGroup;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestStreamKey;
+
+/**
+ * Redis Stream에 저장된 쿠폰 발급 요청을 Consumer Group으로 처리하는 스케줄링 컴포넌트
+ * coupon.consumer.mode=stream 일 때 활성화 (발급 요청 측은 coupon.queue.type=stream 필요)
+ * - 같은 Consumer Group에 속한 인스턴스끼리 요청을 나눠서 처리하므로 인스턴스 수만큼 처리량 확장
+ * - 처리 완료 후 XACK, 처리 도중 종료된 Consumer의 요청은 XAUTOCLAIM으로 회수
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.consumer.mode", havingValue = "stream")
+public class CouponIssueStreamListener {
+    private final CouponIssueStreamRepository couponIssueStreamRepository;
+    private final CouponIssueProcessor couponIssueProcessor;
+    private final String issueRequestStreamKey = getIssueRequestStreamKey();
+    private final String issueRequestConsumerGroup = getIssueRequestConsumerGroup();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.consumer.stream.consumer-name:${HOSTNAME:coupon-consumer}}")
+    private String consumerNamePrefix;
+
+    @Value("${coupon.consumer.batch.size:500}")
+    private int batchSize;
+
+    @Value("${coupon.consumer.stream.claim-min-idle-millis:30000}")
+    private long claimMinIdleMillis;
+
+    private String consumerName;
+
+    /**
+     * Consumer Group 생성 및 Consumer 이름 결정
+     * 같은 호스트에서 여러 인스턴스가 실행되어도 구분되도록 PID를 붙임
+     */
+    @PostConstruct
+    void init() {
+        consumerName = "%s-%s".formatted(consumerNamePrefix, ProcessHandle.current().pid());
+        if (couponIssueStreamRepository.xGroupCreate(issueRequestStreamKey, issueRequestConsumerGroup)) {
+            log.info("consumer group created. group: %s".formatted(issueRequestConsumerGroup));
+        }
+        log.info("stream consumer started. consumer: %s".formatted(consumerName));
+    }
+
+    /**
+     * Stream에서 새로운 발급 요청을 주기적으로 처리하는 메서드
+     * 1초 간격으로 실행되며, 새로운 요청이 없을 때까지 반복 처리
+     */
+    @Scheduled(fixedDelay = 1000L)
+    public void issue() {
+        List<CouponIssueStreamEntry> entries;
+        while (!(entries = couponIssueStreamRepository.xReadGroup(issueRequestStreamKey, issueRequestConsumerGroup, consumerName, batchSize)).isEmpty()) {
+            process(entries);
+        }
+    }
+
+    /**
+     * 일정 시간 이상 ACK 되지 않은 요청을 회수하여 처리
+     * 처리 도중 종료된 Consumer(또는 처리 중 예외가 발생한 자신)의 요청을 재처리
+     */
+    @Scheduled(fixedDelayString = "${coupon.consumer.stream.claim-interval-millis:30000}")
+    public void claim() {
+        List<CouponIssueStreamEntry> entries;
+        while (!(entries = couponIssueStreamRepository.xAutoClaim(issueRequestStreamKey, issueRequestConsumerGroup, consumerName, claimMinIdleMillis, batchSize)).isEmpty()) {
+            log.info("pending 요청 회수 size: %s".formatted(entries.size()));
+            process(entries);
+        }
+    }
+
+    /**
+     * 발급 요청 처리 후 ACK
+     * 처리 중 예외가 발생하면 ACK 하지 않으므로 Pending 목록에 남아 이후 회수 대상이 됨
+     */
+    private void process(List<CouponIssueStreamEntry> entries) {
+        List<CouponIssueRequest> targets = new ArrayList<>(entries.size());
+        entries.forEach(entry -> addIssueTarget(targets, entry));
+        couponIssueProcessor.issue(targets);
+        couponIssueStreamRepository.xAckDel(issueRequestStreamKey, issueRequestConsumerGroup,
+                entries.stream().map(CouponIssueStreamEntry::id).toList());
+    }
+
+    private void addIssueTarget(List<CouponIssueRequest> targets, CouponIssueStreamEntry entry) {
+        CouponIssueRequest target = couponIssueProcessor.read(entry.value());
+        if (target != null) {
+            targets.add(target);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestConsumerHeartbeatKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestConsumersKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestProcessingKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+
+/**
+ * 쿠폰 ID 기준으로 파티셔닝된 Worker Pool로 발급 요청을 병렬 처리하는 컴포넌트
+ * coupon.consumer.mode=partitioned 일 때 활성화
+ * - Dispatcher(전용 스레드)가 Queue에서 요청을 꺼내 couponId 해시로 파티션에 분배
+ *   파티션 Queue가 가득 차 Dispatcher가 대기하더라도 스케줄러 스레드의 heartbeat, 복구가 멈추지 않도록 스케줄러와 분리
+ * - 파티션마다 전용 Worker 스레드 1개가 순서대로 처리하므로 쿠폰별 처리 순서 보장
+ * - 같은 쿠폰은 항상 같은 Worker가 처리하여 findCouponWithLock 락 경합이 발생하지 않음
+ * - 파티션 Queue가 가득 차면 Dispatcher가 대기하여 메모리 사용량 제한
+ * - 분배한 요청은 파티션별 처리 중 List(Redis)에도 같은 순서로 보관하고, Worker가 커밋한 뒤 앞쪽에서 제거(ACK)
+ *   처리 도중 종료되면 heartbeat 만료 후 다른 Consumer가 처리 중 List를 Queue로 복구 (reliable 모드와 같은 방식)
+ * - 예상하지 못한 예외로 처리하지 못한 묶음은 Dead Letter Queue로 이동
+ * - spring.threads.virtual.enabled=true (Java 21) 이면 Dispatcher와 Worker를 가상 스레드로 실행
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.consumer.mode", havingValue = "partitioned")
+public class CouponIssueWorkerPool {
+    private static final long WORKER_POLL_MILLIS = 500L;
+    private static final long RETRY_BACKOFF_MILLIS = 1000L;
+    private static final long DISPATCH_INTERVAL_MILLIS = 1000L;
+
+    private final RedisRepository redisRepository;
+    private final Environment environment;
+    private final CouponIssueProcessor couponIssueProcessor;
+    private final MeterRegistry meterRegistry;
+    private final String issueRequestQueueKey = getIssueRequestQueueKey();
+    private final String issueRequestConsumersKey = getIssueRequestConsumersKey();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.consumer.worker.consumer-name:${HOSTNAME:coupon-consumer}}")
+    private String consumerNamePrefix;
+
+    @Value("${coupon.consumer.worker.count:8}")
+    private int workerCount;
+
+    @Value("${coupon.consumer.worker.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${coupon.consumer.batch.size:500}")
+    private int batchSize;
+
+    @Value("${coupon.consumer.worker.shutdown-timeout-millis:10000}")
+    private long shutdownTimeoutMillis;
+
+    @Value("${coupon.consumer.worker.heartbeat-ttl-millis:30000}")
+    private long heartbeatTtlMillis;
+
+    private final List<BlockingQueue<CouponIssueRequest>> partitions = new ArrayList<>();
+    private final List<String> partitionConsumerNames = new ArrayList<>();
+    private final List<String> processingKeys = new ArrayList<>();
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private volatile boolean running = true;
+    private volatile boolean dispatcherStopped = false;
+    private volatile boolean abandoned = false;
+    private CountDownLatch terminated;
+
+    /**
+     * 파티션 Queue 생성, 파티션별 Queue 깊이 Gauge 등록, 파티션별 Consumer 등록 후 Worker, Dispatcher 스레드 시작
+     * 파티션마다 처리 중 List를 따로 두어 Worker가 처리한 개수만큼 앞쪽에서 제거(LTRIM)할 수 있도록 함
+     */
+    @PostConstruct
+    void start() {
+        String consumerName = "%s-%s".formatted(consumerNamePrefix, ProcessHandle.current().pid());
+        SimpleAsyncTaskExecutor workerExecutor = new SimpleAsyncTaskExecutor("coupon-issue-worker-");
+        workerExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        terminated = new CountDownLatch(workerCount);
+        for (int partition = 0; partition < workerCount; partition++) {
+            BlockingQueue<CouponIssueRequest> queue = new LinkedBlockingQueue<>(queueCapacity);
+            partitions.add(queue);
+            partitionConsumerNames.add("%s-p%s".formatted(consumerName, partition));
+            processingKeys.add(getIssueRequestProcessingKey(partitionConsumerNames.get(partition)));
+            Gauge.builder("coupon.issue.worker.queue.size", queue, BlockingQueue::size)
+                    .description("파티션별 처리 대기 중인 발급 요청 수")
+                    .tag("partition", String.valueOf(partition))
+                    .register(meterRegistry);
+        }
+        heartbeat();
+        recover();
+        for (int partition = 0; partition < workerCount; partition++) {
+            int index = partition;
+            workerExecutor.execute(() -> work(index));
+        }
+        SimpleAsyncTaskExecutor dispatcherExecutor = new SimpleAsyncTaskExecutor("coupon-issue-dispatcher-");
+        dispatcherExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        dispatcherExecutor.execute(this::dispatchLoop);
+        log.info("worker pool started. consumer: %s, workers: %s, queueCapacity: %s".formatted(consumerName, workerCount, queueCapacity));
+    }
+
+    /**
+     * 종료 처리
+     * 1. 새로운 요청 분배를 멈추고 진행 중인 분배가 끝날 때까지 대기 (분배 중인 요청이 Worker에 전달되기 전에 Worker가 종료되지 않도록)
+     * 2. 이미 분배된 요청을 Worker가 모두 처리할 때까지 대기
+     * 3. 모두 처리했으면 Consumer 등록 해제, 시간 내에 끝나지 않으면 남은 요청은 처리 중 List에 두어 heartbeat 만료 후 다른 Consumer가 복구
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        boolean dispatcherJoined = dispatchLock.tryLock(shutdownTimeoutMillis, TimeUnit.MILLISECONDS);
+        dispatcherStopped = true;
+        if (dispatcherJoined) {
+            dispatchLock.unlock();
+        }
+        long remainingMillis = Math.max(0, deadline - System.currentTimeMillis());
+        if (!dispatcherJoined || !terminated.await(remainingMillis, TimeUnit.MILLISECONDS)) {
+            abandoned = true;
+            log.warn("worker pool shutdown timeout. remaining: %s, 처리 중 List는 heartbeat 만료 후 복구됨"
+                    .formatted(partitions.stream().mapToInt(BlockingQueue::size).sum()));
+            return;
+        }
+        partitionConsumerNames.forEach(name -> redisRepository.sRem(issueRequestConsumersKey, name));
+    }
+
+    /**
+     * 파티션별 Consumer 생존 신호 갱신 및 Consumer 목록 재등록
+     * heartbeat-ttl-millis 의 1/3 주기로 갱신하여 일시적인 지연에도 만료되지 않도록 함
+     * 일시적인 Redis 장애 등으로 heartbeat가 만료되어 다른 Consumer가 목록에서 제거했더라도 다시 등록하여,
+     * 이후 이 Consumer가 종료되면 처리 중 List가 복구 대상에서 빠지지 않도록 함
+     * 종료 처리 중(분배 중단 이후)에는 등록 해제와 경합하지 않도록 재등록하지 않음
+     */
+    @Scheduled(fixedDelayString = "#{${coupon.consumer.worker.heartbeat-ttl-millis:30000} / 3}")
+    public void heartbeat() {
+        partitionConsumerNames.forEach(name -> {
+            redisRepository.set(getIssueRequestConsumerHeartbeatKey(name), "1", Duration.ofMillis(heartbeatTtlMillis));
+            if (running) {
+                redisRepository.sAdd(issueRequestConsumersKey, name);
+            }
+        });
+    }
+
+    /**
+     * heartbeat가 만료된(종료된) Consumer의 처리 중 List를 Queue 앞쪽으로 복구
+     * 이미 커밋된 요청이 복구되더라도 DB 중복 발급 검증으로 다시 발급되지 않음
+     */
+    @Scheduled(fixedDelayString = "${coupon.consumer.worker.heartbeat-ttl-millis:30000}")
+    public void recover() {
+        Set<String> consumerNames = redisRepository.sMembers(issueRequestConsumersKey);
+        if (consumerNames == null) {
+            return;
+        }
+        for (String name : consumerNames) {
+            if (partitionConsumerNames.contains(name) || Boolean.TRUE.equals(redisRepository.hasKey(getIssueRequestConsumerHeartbeatKey(name)))) {
+                continue;
+            }
+            Long recovered = redisRepository.requeue(getIssueRequestProcessingKey(name), issueRequestQueueKey);
+            redisRepository.sRem(issueRequestConsumersKey, name);
+            log.info("종료된 Consumer 요청 복구 consumer: %s, recovered: %s".formatted(name, recovered));
+        }
+    }
+
+    /**
+     * Dispatcher 루프
+     * Queue가 빌 때까지 분배한 뒤 1초 대기를 반복하며, 종료 처리가 시작되면 멈춤
+     * 분배 중 예외가 발생해도 루프는 유지하고 다음 주기에 다시 분배
+     */
+    private void dispatchLoop() {
+        try {
+            while (running) {
+                try {
+                    dispatch();
+                } catch (RuntimeException e) {
+                    log.error("발급 요청 분배 실패", e);
+                }
+                Thread.sleep(DISPATCH_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Redis Queue에서 발급 요청을 꺼내 파티션에 분배하는 메서드
+     * Dispatcher 스레드에서 실행되며, Queue가 비어있을 때까지 반복 처리
+     * - Queue 앞쪽을 조회(LRANGE)한 뒤, 조회한 요청이 그대로 앞쪽에 있을 때만 파티션별 처리 중 List로 원자적으로 이동
+     *   (다른 인스턴스가 먼저 가져갔다면 다시 조회)
+     * - 처리 중 List로 이동한 뒤에 메모리 파티션 Queue에 같은 순서로 전달하므로 두 Queue의 순서가 항상 일치
+     */
+    public void dispatch() throws InterruptedException {
+        dispatchLock.lock();
+        try {
+            List<String> values;
+            while (running && !(values = redisRepository.lRange(issueRequestQueueKey, 0, batchSize - 1)).isEmpty()) {
+                List<CouponIssueRequest> targets = new ArrayList<>(values.size());
+                List<Integer> destinations = new ArrayList<>(values.size());
+                for (String value : values) {
+                    CouponIssueRequest target = couponIssueProcessor.parse(value);
+                    targets.add(target);
+                    destinations.add(target == null ? -1 : partitionOf(target.couponId()));
+                }
+                if (!redisRepository.distribute(issueRequestQueueKey, values, processingKeys, destinations)) {
+                    continue;
+                }
+                for (int i = 0; i < values.size(); i++) {
+                    if (targets.get(i) == null) {
+                        couponIssueProcessor.read(values.get(i));
+                        continue;
+                    }
+                    partitions.get(destinations.get(i)).put(targets.get(i));
+                }
+            }
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * Worker 루프
+     * 파티션 Queue에 쌓인 요청을 최대 batch-size 개씩 꺼내 처리
+     * Dispatcher가 종료된 뒤 파티션 Queue가 비면 종료
+     */
+    private void work(int partition) {
+        BlockingQueue<CouponIssueRequest> queue = partitions.get(partition);
+        String processingKey = processingKeys.get(partition);
+        List<CouponIssueRequest> targets = new ArrayList<>(batchSize);
+        try {
+            while (!abandoned && (!dispatcherStopped || !queue.isEmpty())) {
+                CouponIssueRequest first = queue.poll(WORKER_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                targets.add(first);
+                queue.drainTo(targets, batchSize - 1);
+                process(processingKey, targets);
+                targets.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * 발급 요청 묶음 처리 후 처리 중 List 앞쪽에서 처리한 개수만큼 제거(ACK)
+     * 예상하지 못한 예외(Redis 장애 등)로 처리하지 못한 묶음은 Dead Letter Queue로 이동
+     * Dead Letter Queue 이동과 ACK는 성공할 때까지 재시도
+     * (ACK 없이 다음 묶음을 처리하면 처리 중 List와 파티션 Queue의 순서가 어긋남)
+     */
+    private void process(String processingKey, List<CouponIssueRequest> targets) throws InterruptedException {
+        RuntimeException failure = null;
+        try {
+            couponIssueProcessor.issue(targets);
+        } catch (RuntimeException e) {
+            log.error("발급 처리 실패, Dead Letter Queue로 이동 targets: %s".formatted(targets), e);
+            failure = e;
+        }
+        boolean deadLettered = failure == null;
+        while (!abandoned) {
+            try {
+                if (!deadLettered) {
+                    couponIssueProcessor.deadLetter(targets, failure);
+                    deadLettered = true;
+                }
+                redisRepository.lTrim(processingKey, targets.size(), -1);
+                return;
+            } catch (RuntimeException e) {
+                log.error("처리 완료 기록 실패, 재시도 예정 targets: %s".formatted(targets), e);
+                Thread.sleep(RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private int partitionOf(long couponId) {
+        return Math.floorMod(Long.hashCode(couponId), workerCount);
+    }
+}
@@ -0,0 +1,23 @@
+package com.hexagonal.couponconsumer.configuration;
+
+import com.hexagonal.couponconsumer.component.CouponAdminAuthInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 관리 API 인증 설정
+ * Dead Letter Queue 조회/재처리 등 /admin/** 요청에 토큰 인증 인터셉터 적용
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+    private final CouponAdminAuthInterceptor couponAdminAuthInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(couponAdminAuthInterceptor)
+                .addPathPatterns("/admin/**");
+    }
+}
@@ -0,0 +1,53 @@
+package com.hexagonal.couponconsumer.controller;
+
+import com.hexagonal.couponconsumer.component.CouponIssueDeadLetterQueue;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueDeadLetter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dead Letter Queue 운영용 관리 API
+ * 실패한 발급 요청을 조회하고, 원인 해결 후 발급 요청 Queue로 다시 보내기 위해 사용
+ * X-Admin-Token 헤더로 인증된 요청만 허용 (CouponAdminAuthInterceptor)
+ */
+@RestController
+@RequiredArgsConstructor
+public class CouponIssueDeadLetterController {
+    private final CouponIssueDeadLetterQueue couponIssueDeadLetterQueue;
+
+    /**
+     * Dead Letter Queue에 보관된 요청 조회
+     * @param start 조회 시작 위치 (0부터 시작)
+     * @param size 조회 개수
+     * @return 실패한 발급 요청 목록 (원본 요청, 실패 사유, 실패 시각)
+     */
+    @GetMapping("/admin/dead-letters")
+    public List<CouponIssueDeadLetter> findAll(@RequestParam(defaultValue = "0") long start,
+                                               @RequestParam(defaultValue = "100") long size) {
+        return couponIssueDeadLetterQueue.findAll(start, size);
+    }
+
+    /**
+     * Dead Letter Queue에 보관된 요청 수 조회
+     */
+    @GetMapping("/admin/dead-letters/count")
+    public Map<String, Long> count() {
+        return Map.of("count", couponIssueDeadLetterQueue.size());
+    }
+
+    /**
+     * Dead Letter Queue 앞쪽부터 최대 count개의 요청을 발급 요청 Queue로 되돌림
+     * @param count 되돌릴 최대 요청 수
+     * @return 되돌린 요청 수
+     */
+    @PostMapping("/admin/dead-letters/replay")
+    public Map<String, Integer> replay(@RequestParam(defaultValue = "100") long count) {
+        return Map.of("replayed", couponIssueDeadLetterQueue.replay(count));
+    }
+}
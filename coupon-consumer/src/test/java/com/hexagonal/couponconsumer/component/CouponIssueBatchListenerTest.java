@@ -0,0 +1,155 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponconsumer.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.service.CouponIssueService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestDeadLetterKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+        "coupon.consumer.mode=batch",
+        "coupon.consumer.batch.max-latency-millis=0",
+        "coupon.consumer.retry.backoff-millis=1"
+})
+@Import({CouponIssueBatchListener.class, CouponIssueProcessor.class, CouponIssueDeadLetterQueue.class})
+class CouponIssueBatchListenerTest extends TestConfig {
+    @Autowired
+    CouponIssueBatchListener sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    RedisRepository redisRepository;
+
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    @SpyBean
+    CouponIssueProcessor couponIssueProcessor;
+
+    @MockBean
+    CouponIssueService couponIssueService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("DB 반영을 마친 요청만 Queue에서 제거한다.")
+    void issue_1() throws Exception {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        sut.issue();
+
+        // then
+        verify(couponIssueService, times(1)).issueBatch(couponId, List.of(1L, 2L));
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestQueueKey()));
+    }
+
+    @Test
+    @DisplayName("처리 도중 예외가 발생하면 요청은 Queue에 남아 다음 주기에 다시 처리된다.")
+    void issue_2() throws Exception {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .doCallRealMethod()
+                .when(couponIssueProcessor).issue(anyList());
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> sut.issue());
+
+        // then
+        Assertions.assertEquals(2L, redisRepository.lSize(getIssueRequestQueueKey()));
+        verify(couponIssueService, never()).issueBatch(anyLong(), anyList());
+
+        // when
+        sut.issue();
+
+        // then
+        verify(couponIssueService, times(1)).issueBatch(couponId, List.of(1L, 2L));
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestQueueKey()));
+    }
+
+    @Test
+    @DisplayName("DB 장애로 재시도가 소진된 요청은 유실되지 않고 Dead Letter Queue로 이동한다.")
+    void issue_3() throws Exception {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        when(couponIssueService.issueBatch(anyLong(), anyList()))
+                .thenThrow(new CannotCreateTransactionException("커넥션 획득 실패"));
+        doThrow(new CannotCreateTransactionException("커넥션 획득 실패"))
+                .when(couponIssueService).issue(anyLong(), anyLong());
+
+        // when
+        sut.issue();
+
+        // then
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestQueueKey()));
+        Assertions.assertEquals(2L, redisRepository.lSize(getIssueRequestDeadLetterKey()));
+    }
+
+    @Test
+    @DisplayName("처리한 요청의 Queue 대기, DB 반영, 적재부터 커밋까지의 시간을 미리 등록된 Timer에 기록한다.")
+    void meter_1() throws Exception {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+        long queueWait = timerCount(meterRegistry.find("coupon.issue.queue.wait").timer());
+        long commit = timerCount(meterRegistry.find("coupon.issue.commit").tag("mode", "batch").timer());
+        long endToEnd = timerCount(meterRegistry.find("coupon.issue.end-to-end").timer());
+
+        // when
+        sut.issue();
+
+        // then
+        Assertions.assertEquals(queueWait + 2, timerCount(meterRegistry.find("coupon.issue.queue.wait").timer()));
+        Assertions.assertEquals(commit + 1, timerCount(meterRegistry.find("coupon.issue.commit").tag("mode", "batch").timer()));
+        Assertions.assertEquals(endToEnd + 2, timerCount(meterRegistry.find("coupon.issue.end-to-end").timer()));
+    }
+
+    private long timerCount(Timer timer) {
+        return timer == null ? 0 : timer.count();
+    }
+}
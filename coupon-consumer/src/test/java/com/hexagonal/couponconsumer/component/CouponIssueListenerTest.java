@@ -1,8 +1,14 @@
 package com.hexagonal.couponconsumer.component;
 
 import com.hexagonal.couponconsumer.TestConfig;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueResultRepository;
 import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueResult;
 import com.hexagonal.couponcore.service.CouponIssueService;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,15 +16,19 @@ import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.util.Collection;
 
+import static com.hexagonal.couponcore.exception.ErrorCode.INVALID_COUPON_ISSUE_DATE;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestDeadLetterKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
-@Import(CouponIssueListener.class)
+@Import({CouponIssueListener.class, CouponIssueProcessor.class, CouponIssueDeadLetterQueue.class})
 class CouponIssueListenerTest extends TestConfig {
     @Autowired
     CouponIssueListener sut;
@@ -29,6 +39,15 @@ class CouponIssueListenerTest extends TestConfig {
     @Autowired
     RedisRepository redisRepository;
 
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    @Autowired
+    CouponIssueResultRepository couponIssueResultRepository;
+
+    @SpyBean
+    CouponIssueQueueRepository couponIssueQueueRepository;
+
     @MockBean
     CouponIssueService couponIssueService;
 
@@ -55,7 +74,7 @@ class CouponIssueListenerTest extends TestConfig {
         long couponId = 1;
         long userId = 1;
         int totalQuantity = Integer.MAX_VALUE;
-        redisRepository.issueRequest(couponId, userId, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, userId, totalQuantity);
 
         // when
         sut.issue();
@@ -73,9 +92,9 @@ class CouponIssueListenerTest extends TestConfig {
         long userId2 = 2;
         long userId3 = 3;
         int totalQuantity = Integer.MAX_VALUE;
-        redisRepository.issueRequest(couponId, userId1, totalQuantity);
-        redisRepository.issueRequest(couponId, userId2, totalQuantity);
-        redisRepository.issueRequest(couponId, userId3, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, userId1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, userId2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, userId3, totalQuantity);
 
         // when
         sut.issue();
@@ -86,4 +105,66 @@ class CouponIssueListenerTest extends TestConfig {
         inOrder.verify(couponIssueService, times(1)).issue(couponId, userId2);
         inOrder.verify(couponIssueService, times(1)).issue(couponId, userId3);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("발급에 실패한 요청은 Dead Letter Queue로 이동하고 다음 요청을 처리한다.")
+    void issue_4() throws Exception {
+        // given
+        long couponId = 1;
+        long userId1 = 1;
+        long userId2 = 2;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, userId1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, userId2, totalQuantity);
+        doThrow(new CouponIssueException(INVALID_COUPON_ISSUE_DATE, "발급 가능한 일자가 아닙니다."))
+                .when(couponIssueService).issue(couponId, userId1);
+
+        // when
+        sut.issue();
+
+        // then
+        verify(couponIssueService, times(1)).issue(couponId, userId2);
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestQueueKey()));
+        Assertions.assertEquals(1L, redisRepository.lSize(getIssueRequestDeadLetterKey()));
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 요청은 사용자별 결과를 결과 Hash에 기록한다.")
+    void issue_5() throws Exception {
+        // given
+        long couponId = 1;
+        long userId1 = 1;
+        long userId2 = 2;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, userId1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, userId2, totalQuantity);
+        doThrow(new CouponIssueException(INVALID_COUPON_ISSUE_DATE, "발급 가능한 일자가 아닙니다."))
+                .when(couponIssueService).issue(couponId, userId1);
+
+        // when
+        sut.issue();
+
+        // then
+        Assertions.assertEquals(CouponIssueResult.failed(INVALID_COUPON_ISSUE_DATE.name()), couponIssueResultRepository.issueResult(couponId, userId1));
+        Assertions.assertEquals(CouponIssueResult.ISSUED, couponIssueResultRepository.issueResult(couponId, userId2));
+    }
+
+    @Test
+    @DisplayName("한 번의 폴링에서 처리한 요청 수는 처리 완료 카운터에 한 번에 반영한다.")
+    void drained_1() throws Exception {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 3, totalQuantity);
+
+        // when
+        sut.issue();
+
+        // then
+        verify(couponIssueQueueRepository, times(1)).incrementIssueRequestDrained(3L);
+        verify(couponIssueQueueRepository, never()).incrementIssueRequestDrained(1L);
+        Assertions.assertEquals(3L, couponIssueQueueRepository.issueRequestDrained());
+    }
+}
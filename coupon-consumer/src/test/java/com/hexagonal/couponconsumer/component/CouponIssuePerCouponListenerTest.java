@@ -0,0 +1,173 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponconsumer.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.service.CouponIssueService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestCouponsKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+        "coupon.queue.type=per-coupon",
+        "coupon.consumer.mode=per-coupon"
+})
+@Import({CouponIssuePerCouponListener.class, CouponIssueProcessor.class, CouponIssueDeadLetterQueue.class})
+class CouponIssuePerCouponListenerTest extends TestConfig {
+    @Autowired
+    CouponIssuePerCouponListener sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
+    @Autowired
+    RedisRepository redisRepository;
+
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    @Autowired
+    CouponIssueQueueRepository couponIssueQueueRepository;
+
+    @MockBean
+    CouponIssueService couponIssueService;
+
+    @SpyBean
+    CouponIssueProcessor couponIssueProcessor;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("발급 요청은 전역 Queue가 아닌 쿠폰별 Queue에 적재되고 처리할 쿠폰 목록에 등록된다.")
+    void issue_1() {
+        // given
+        long couponId = 1;
+        long userId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+
+        // when
+        couponIssueRequestRepository.issueRequest(couponId, userId, totalQuantity);
+
+        // then
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestQueueKey()));
+        Assertions.assertEquals(1L, redisRepository.lSize(couponRedisKeys.getCouponIssueQueueKey(couponId)));
+        Assertions.assertEquals(List.of(couponId), couponIssueQueueRepository.issueRequestQueueCoupons());
+    }
+
+    @Test
+    @DisplayName("여러 쿠폰의 Queue를 모두 처리하고 비어있는 Queue는 처리할 쿠폰 목록에서 제거한다.")
+    void issue_2() {
+        // given
+        long couponId1 = 1;
+        long couponId2 = 2;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId1, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId1, 2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId2, 1, totalQuantity);
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        sut.issue();
+
+        // then
+        verify(couponIssueService, times(1)).issueBatch(couponId1, List.of(1L, 2L));
+        verify(couponIssueService, times(1)).issueBatch(couponId2, List.of(1L));
+        Assertions.assertEquals(0L, redisRepository.lSize(couponRedisKeys.getCouponIssueQueueKey(couponId1)));
+        Assertions.assertEquals(0L, redisRepository.lSize(couponRedisKeys.getCouponIssueQueueKey(couponId2)));
+        Assertions.assertTrue(couponIssueQueueRepository.issueRequestQueueCoupons().isEmpty());
+    }
+
+    @Test
+    @DisplayName("DB 반영 도중 예외가 발생하면 요청은 쿠폰별 Queue에 남고 처리 권한은 반납되어 다음 주기에 다시 처리된다.")
+    void issue_3() {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .doCallRealMethod()
+                .when(couponIssueProcessor).issue(anyList());
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> sut.issue());
+
+        // then
+        Assertions.assertEquals(2L, redisRepository.lSize(couponRedisKeys.getCouponIssueQueueKey(couponId)));
+        Assertions.assertFalse(redisRepository.hasKey(couponRedisKeys.getCouponIssueQueueClaimKey(couponId)));
+        verify(couponIssueService, never()).issueBatch(anyLong(), anyList());
+
+        // when
+        sut.issue();
+
+        // then
+        verify(couponIssueService, times(1)).issueBatch(couponId, List.of(1L, 2L));
+        Assertions.assertEquals(0L, redisRepository.lSize(couponRedisKeys.getCouponIssueQueueKey(couponId)));
+    }
+
+    @Test
+    @DisplayName("다른 Consumer가 처리 권한을 가진 쿠폰 Queue는 처리하지 않고 다른 쿠폰 Queue만 처리한다.")
+    void issue_4() {
+        // given
+        long couponId1 = 1;
+        long couponId2 = 2;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId1, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId2, 1, totalQuantity);
+        couponIssueQueueRepository.claimCouponQueue(couponId1, "other-consumer", Duration.ofSeconds(30));
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        sut.issue();
+
+        // then
+        verify(couponIssueService, never()).issueBatch(eq(couponId1), anyList());
+        verify(couponIssueService, times(1)).issueBatch(couponId2, List.of(1L));
+        Assertions.assertEquals(1L, redisRepository.lSize(couponRedisKeys.getCouponIssueQueueKey(couponId1)));
+        Assertions.assertEquals(List.of(couponId1), couponIssueQueueRepository.issueRequestQueueCoupons());
+    }
+
+    @Test
+    @DisplayName("쿠폰 ID 목록에 등록되지 못한 쿠폰 Queue는 복구 후 처리된다.")
+    void recover_1() {
+        // given
+        long couponId = 1;
+        couponIssueRequestRepository.issueRequest(couponId, 1, Integer.MAX_VALUE);
+        redisTemplate.opsForSet().remove(getIssueRequestCouponsKey(), String.valueOf(couponId));
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        sut.recover();
+        sut.issue();
+
+        // then
+        verify(couponIssueService, times(1)).issueBatch(couponId, List.of(1L));
+        Assertions.assertEquals(0L, redisRepository.lSize(couponRedisKeys.getCouponIssueQueueKey(couponId)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponconsumer.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.hexagonal.couponcore.service.CouponIssueService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Collection;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestDeadLetterKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestProcessingKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+        "coupon.consumer.mode=reliable",
+        "coupon.consumer.reliable.consumer-name=reliable-test",
+        "coupon.consumer.reliable.block-timeout-millis=100",
+        "coupon.consumer.reliable.retry-backoff-millis=10",
+        "coupon.consumer.reliable.max-attempts=3"
+})
+@Import({CouponIssueReliableListener.class, CouponIssueProcessor.class, CouponIssueDeadLetterQueue.class})
+class CouponIssueReliableListenerTest extends TestConfig {
+    private static final long AWAIT_TIMEOUT_MILLIS = 5000L;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    RedisRepository redisRepository;
+
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    @SpyBean
+    CouponIssueProcessor couponIssueProcessor;
+
+    @MockBean
+    CouponIssueService couponIssueService;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("처리를 마친 요청은 처리 중 List에서 제거된다.")
+    void process_1() throws Exception {
+        // given
+        long couponId = 1;
+        long userId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+
+        // when
+        couponIssueRequestRepository.issueRequest(couponId, userId, totalQuantity);
+        awaitProcessed();
+
+        // then
+        verify(couponIssueService, timeout(AWAIT_TIMEOUT_MILLIS).times(1)).issue(couponId, userId);
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestDeadLetterKey()));
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 반복되는 요청은 max-attempts 회 시도 후 Dead Letter Queue로 이동하고 다음 요청을 처리한다.")
+    void process_2() throws Exception {
+        // given
+        long couponId = 1;
+        long poisonUserId = 1;
+        long userId = 2;
+        int totalQuantity = Integer.MAX_VALUE;
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .when(couponIssueProcessor).issue(argThat((CouponIssueRequest target) -> target.userId() == poisonUserId));
+
+        // when
+        couponIssueRequestRepository.issueRequest(couponId, poisonUserId, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, userId, totalQuantity);
+        awaitProcessed();
+
+        // then
+        verify(couponIssueProcessor, times(3)).issue(argThat((CouponIssueRequest target) -> target.userId() == poisonUserId));
+        verify(couponIssueService, timeout(AWAIT_TIMEOUT_MILLIS).times(1)).issue(couponId, userId);
+        verify(couponIssueService, never()).issue(couponId, poisonUserId);
+        Assertions.assertEquals(1L, redisRepository.lSize(getIssueRequestDeadLetterKey()));
+    }
+
+    /**
+     * Queue와 처리 중 List가 모두 비워질 때까지 대기
+     */
+    private void awaitProcessed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MILLIS;
+        while ((redisRepository.lSize(getIssueRequestQueueKey()) > 0 || processingSize() > 0) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestQueueKey()));
+        Assertions.assertEquals(0L, processingSize());
+    }
+
+    private long processingSize() {
+        return redisTemplate.keys(getIssueRequestProcessingKey("reliable-test-*")).stream()
+                .mapToLong(redisRepository::lSize)
+                .sum();
+    }
+}
@@ -0,0 +1,125 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponconsumer.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueStreamRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueStreamEntry;
+import com.hexagonal.couponcore.service.CouponIssueService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestConsumerGroup;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestStreamKey;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+        "coupon.queue.type=stream",
+        "coupon.consumer.mode=stream",
+        "coupon.consumer.batch.size=2",
+        "coupon.consumer.stream.claim-min-idle-millis=0"
+})
+@Import({CouponIssueStreamListener.class, CouponIssueProcessor.class, CouponIssueDeadLetterQueue.class})
+class CouponIssueStreamListenerTest extends TestConfig {
+    private static final String DEAD_CONSUMER = "dead-consumer";
+
+    @Autowired
+    CouponIssueStreamListener sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponIssueStreamRepository couponIssueStreamRepository;
+
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    @MockBean
+    CouponIssueService couponIssueService;
+
+    private final String streamKey = getIssueRequestStreamKey();
+    private final String group = getIssueRequestConsumerGroup();
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+        couponIssueStreamRepository.xGroupCreate(streamKey, group);
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("처리를 마친 요청은 ACK 후 Stream에서 삭제된다.")
+    void issue_1() {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 3, totalQuantity);
+
+        // when
+        sut.issue();
+
+        // then
+        verify(couponIssueService, times(1)).issueBatch(couponId, List.of(1L, 2L));
+        verify(couponIssueService, times(1)).issueBatch(couponId, List.of(3L));
+        Assertions.assertEquals(0L, redisTemplate.opsForStream().size(streamKey));
+        Assertions.assertEquals(0L, pendingCount());
+    }
+
+    @Test
+    @DisplayName("처리 도중 종료된 Consumer의 Pending 요청을 회수하여 처리한다.")
+    void claim_1() {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        couponIssueStreamRepository.xReadGroup(streamKey, group, DEAD_CONSUMER, 2);
+
+        // when
+        sut.claim();
+
+        // then
+        verify(couponIssueService, times(1)).issueBatch(couponId, List.of(1L, 2L));
+        Assertions.assertEquals(0L, redisTemplate.opsForStream().size(streamKey));
+        Assertions.assertEquals(0L, pendingCount());
+    }
+
+    @Test
+    @DisplayName("삭제된 엔트리로만 채워진 페이지가 있어도 뒤에 남은 Pending 요청까지 회수한다.")
+    void claim_2() {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 3, totalQuantity);
+        List<CouponIssueStreamEntry> pending = couponIssueStreamRepository.xReadGroup(streamKey, group, DEAD_CONSUMER, 3);
+        redisTemplate.opsForStream().delete(streamKey, pending.get(0).id(), pending.get(1).id());
+
+        // when
+        sut.claim();
+
+        // then
+        verify(couponIssueService, times(1)).issueBatch(couponId, List.of(3L));
+        Assertions.assertEquals(0L, redisTemplate.opsForStream().size(streamKey));
+        Assertions.assertEquals(0L, pendingCount());
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream().pending(streamKey, group).getTotalPendingMessages();
+    }
+}
@@ -0,0 +1,114 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponconsumer.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.service.CouponIssueService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestConsumerHeartbeatKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestConsumersKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestProcessingKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DirtiesContext
+@TestPropertySource(properties = {
+        "coupon.consumer.mode=partitioned",
+        "coupon.consumer.worker.count=1",
+        "coupon.consumer.worker.queue-capacity=1",
+        "coupon.consumer.worker.consumer-name=heartbeat-test",
+        "coupon.consumer.worker.heartbeat-ttl-millis=600",
+        "coupon.consumer.batch.size=1"
+})
+@Import({CouponIssueWorkerPool.class, CouponIssueProcessor.class, CouponIssueDeadLetterQueue.class})
+class CouponIssueWorkerPoolHeartbeatTest extends TestConfig {
+    private static final long AWAIT_TIMEOUT_MILLIS = 10000L;
+    private static final long SLOW_ISSUE_MILLIS = 300L;
+    private static final int REQUEST_COUNT = 8;
+
+    @Autowired
+    CouponIssueWorkerPool sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    RedisRepository redisRepository;
+
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    @MockBean
+    CouponIssueService couponIssueService;
+
+    private final String partitionConsumerName = "heartbeat-test-%s-p0".formatted(ProcessHandle.current().pid());
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("느린 Worker 때문에 Dispatcher가 heartbeat TTL보다 오래 대기해도 heartbeat가 갱신되어 처리 중 요청이 복구되지 않고 한 번씩만 처리된다.")
+    void heartbeat_1() throws Exception {
+        // given
+        long couponId = 1;
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            Thread.sleep(SLOW_ISSUE_MILLIS);
+            return invocation.getArgument(1);
+        });
+        for (long userId = 1; userId <= REQUEST_COUNT; userId++) {
+            couponIssueRequestRepository.issueRequest(couponId, userId, Integer.MAX_VALUE);
+        }
+
+        // when
+        // 파티션 Queue 크기가 1이므로 Dispatcher는 약 REQUEST_COUNT * SLOW_ISSUE_MILLIS 동안 대기 (heartbeat TTL의 수 배)
+        long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MILLIS;
+        boolean heartbeatAlive = true;
+        while (!drained() && System.currentTimeMillis() < deadline) {
+            heartbeatAlive &= Boolean.TRUE.equals(redisRepository.hasKey(getIssueRequestConsumerHeartbeatKey(partitionConsumerName)));
+            Thread.sleep(100);
+        }
+
+        // then
+        Assertions.assertTrue(drained());
+        Assertions.assertTrue(heartbeatAlive);
+        Assertions.assertTrue(redisRepository.sIsMember(getIssueRequestConsumersKey(), partitionConsumerName));
+        for (long userId = 1; userId <= REQUEST_COUNT; userId++) {
+            verify(couponIssueService, times(1)).issueBatch(couponId, List.of(userId));
+        }
+    }
+
+    @Test
+    @DisplayName("다른 Consumer가 Consumer 목록에서 제거해도 다음 heartbeat에서 다시 등록된다.")
+    void heartbeat_2() throws Exception {
+        // given
+        redisRepository.sRem(getIssueRequestConsumersKey(), partitionConsumerName);
+
+        // when
+        sut.heartbeat();
+
+        // then
+        Assertions.assertTrue(redisRepository.sIsMember(getIssueRequestConsumersKey(), partitionConsumerName));
+    }
+
+    private boolean drained() {
+        return redisRepository.lSize(getIssueRequestQueueKey()) == 0
+                && redisRepository.lSize(getIssueRequestProcessingKey(partitionConsumerName)) == 0;
+    }
+}
@@ -0,0 +1,150 @@
+package com.hexagonal.couponconsumer.component;
+
+import com.hexagonal.couponconsumer.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.service.CouponIssueService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestDeadLetterKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestProcessingKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+        "coupon.consumer.mode=partitioned",
+        "coupon.consumer.worker.count=2",
+        "coupon.consumer.worker.consumer-name=worker-test",
+        "coupon.consumer.batch.size=1"
+})
+@Import({CouponIssueWorkerPool.class, CouponIssueProcessor.class, CouponIssueDeadLetterQueue.class})
+class CouponIssueWorkerPoolTest extends TestConfig {
+    private static final long AWAIT_TIMEOUT_MILLIS = 5000L;
+
+    @Autowired
+    CouponIssueWorkerPool sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    RedisRepository redisRepository;
+
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    @SpyBean
+    CouponIssueProcessor couponIssueProcessor;
+
+    @MockBean
+    CouponIssueService couponIssueService;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰의 요청은 적재된 순서대로 처리된다.")
+    void dispatch_1() throws Exception {
+        // given
+        long couponId1 = 1;
+        long couponId2 = 2;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId1, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId2, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId1, 2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId2, 2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId1, 3, totalQuantity);
+
+        // when
+        sut.dispatch();
+        awaitProcessed();
+
+        // then
+        InOrder inOrder = Mockito.inOrder(couponIssueService);
+        inOrder.verify(couponIssueService).issueBatch(couponId1, List.of(1L));
+        inOrder.verify(couponIssueService).issueBatch(couponId1, List.of(2L));
+        inOrder.verify(couponIssueService).issueBatch(couponId1, List.of(3L));
+        verify(couponIssueService, times(1)).issueBatch(couponId2, List.of(1L));
+        verify(couponIssueService, times(1)).issueBatch(couponId2, List.of(2L));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("종료 시 이미 분배된 요청을 모두 처리한 뒤 종료한다.")
+    void stop_1() throws Exception {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        for (long userId = 1; userId <= 5; userId++) {
+            couponIssueRequestRepository.issueRequest(couponId, userId, totalQuantity);
+        }
+        when(couponIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return invocation.getArgument(1);
+        });
+        sut.dispatch();
+
+        // when
+        sut.stop();
+
+        // then
+        verify(couponIssueService, times(5)).issueBatch(anyLong(), anyList());
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestQueueKey()));
+        Assertions.assertEquals(0L, processingSize());
+    }
+
+    @Test
+    @DisplayName("처리 도중 예외가 발생한 묶음은 유실되지 않고 Dead Letter Queue로 이동한다.")
+    void process_1() throws Exception {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        doThrow(new IllegalStateException("Redis 연결 실패")).when(couponIssueProcessor).issue(anyList());
+
+        // when
+        sut.dispatch();
+        awaitProcessed();
+
+        // then
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestQueueKey()));
+        Assertions.assertEquals(1L, redisRepository.lSize(getIssueRequestDeadLetterKey()));
+    }
+
+    /**
+     * 모든 파티션의 처리 중 List가 비워질 때까지(커밋 또는 Dead Letter Queue 이동 후 ACK) 대기
+     */
+    private void awaitProcessed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MILLIS;
+        while (processingSize() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(0L, processingSize());
+    }
+
+    private long processingSize() {
+        return redisTemplate.keys(getIssueRequestProcessingKey("worker-test-*")).stream()
+                .mapToLong(redisRepository::lSize)
+                .sum();
+    }
+}
@@ -0,0 +1,119 @@
+package com.hexagonal.couponconsumer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponconsumer.TestConfig;
+import com.hexagonal.couponconsumer.component.CouponAdminAuthInterceptor;
+import com.hexagonal.couponconsumer.component.CouponIssueDeadLetterQueue;
+import com.hexagonal.couponconsumer.configuration.WebConfiguration;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueDeadLetter;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collection;
+
+import static com.hexagonal.couponconsumer.component.CouponAdminAuthInterceptor.ADMIN_TOKEN_HEADER;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestDeadLetterKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "coupon.consumer.admin.token=test-token")
+@Import({CouponIssueDeadLetterController.class, CouponIssueDeadLetterQueue.class, CouponAdminAuthInterceptor.class, WebConfiguration.class})
+class CouponIssueDeadLetterControllerTest extends TestConfig {
+    private static final String TOKEN = "test-token";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    RedisRepository redisRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 일치하지 않으면 관리 API 요청을 거절한다.")
+    void auth_1() throws Exception {
+        // given
+        pushDeadLetter(1, 1);
+
+        // when & then
+        mockMvc.perform(post("/admin/dead-letters/replay"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/admin/dead-letters").header(ADMIN_TOKEN_HEADER, "wrong-token"))
+                .andExpect(status().isUnauthorized());
+        Assertions.assertEquals(1L, redisRepository.lSize(getIssueRequestDeadLetterKey()));
+    }
+
+    @Test
+    @DisplayName("Dead Letter Queue에 보관된 요청 수를 조회한다.")
+    void count_1() throws Exception {
+        // given
+        pushDeadLetter(1, 1);
+        pushDeadLetter(1, 2);
+
+        // when & then
+        mockMvc.perform(get("/admin/dead-letters/count").header(ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2));
+    }
+
+    @Test
+    @DisplayName("Dead Letter Queue의 요청을 발급 요청 Queue로 되돌린다.")
+    void replay_1() throws Exception {
+        // given
+        pushDeadLetter(1, 1);
+        pushDeadLetter(1, 2);
+
+        // when & then
+        mockMvc.perform(post("/admin/dead-letters/replay").header(ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replayed").value(2));
+        Assertions.assertEquals(0L, redisRepository.lSize(getIssueRequestDeadLetterKey()));
+        Assertions.assertEquals(2L, redisRepository.lSize(getIssueRequestQueueKey()));
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 요청은 유실되지 않고 Dead Letter Queue에 남으며 다음 요청은 되돌린다.")
+    void replay_2() throws Exception {
+        // given
+        String malformed = "not-json";
+        redisRepository.rPush(getIssueRequestDeadLetterKey(), malformed);
+        pushDeadLetter(1, 1);
+
+        // when & then
+        mockMvc.perform(post("/admin/dead-letters/replay").header(ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replayed").value(1));
+        Assertions.assertEquals(1L, redisRepository.lSize(getIssueRequestQueueKey()));
+        Assertions.assertEquals(malformed, redisRepository.lIndex(getIssueRequestDeadLetterKey(), 0));
+        Assertions.assertEquals(1L, redisRepository.lSize(getIssueRequestDeadLetterKey()));
+    }
+
+    private void pushDeadLetter(long couponId, long userId) throws Exception {
+        String request = objectMapper.writeValueAsString(new CouponIssueRequest(couponId, userId));
+        CouponIssueDeadLetter deadLetter = new CouponIssueDeadLetter(request, "RETRY_EXHAUSTED", "test", System.currentTimeMillis());
+        redisRepository.rPush(getIssueRequestDeadLetterKey(), objectMapper.writeValueAsString(deadLetter));
+    }
+}
@@ -0,0 +1,78 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import com.hexagonal.couponcore.service.CouponCacheService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getCouponCacheInvalidateChannel;
+
+/**
+ * 노드 간 로컬 캐시(near-cache) 무효화 컴포넌트
+ * - 쿠폰 정보를 갱신한 노드가 서버 측 검증용 쿠폰 메타 정보를 삭제하고 무효화 채널로 "노드ID:쿠폰ID" 를 PUBLISH
+ * - 모든 노드가 구독하여 자신의 localCacheManager 항목을 제거하고, 다음 조회 시 Redis 캐시에서 다시 적재
+ * - 메시지를 보낸 노드는 이미 로컬 캐시를 갱신했으므로 자신의 메시지는 무시
+ * - 매진 기록은 보낸 노드를 포함한 모든 노드에서 Redis 매진 마커 기준으로 다시 확인
+ * - 무효화는 발급 완료(CouponEventListener) 시에만 전파되므로 그 외의 변경은 로컬 캐시 TTL(기본 10초) 안에서 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponCacheInvalidator implements MessageListener {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponIssueRequestRepository couponIssueRequestRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CouponCacheService couponCacheService;
+    private final CouponSoldOutRegistry couponSoldOutRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(getCouponCacheInvalidateChannel()));
+    }
+
+    /**
+     * 다른 노드에 쿠폰 로컬 캐시 무효화 전파
+     * 쿠폰 메타 정보는 모든 노드가 공유하므로 갱신한 노드에서 한 번만 삭제
+     * @param couponId 갱신된 쿠폰 ID
+     */
+    public void publish(long couponId) {
+        couponIssueRequestRepository.evictCouponMeta(couponId);
+        redisTemplate.convertAndSend(getCouponCacheInvalidateChannel(), "%s:%s".formatted(nodeId, couponId));
+    }
+
+    /**
+     * 무효화 메시지 수신
+     * @param message 메시지 본문은 "노드ID:쿠폰ID"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 캐시 무효화 메시지 body: %s".formatted(body));
+            return;
+        }
+        try {
+            long couponId = Long.parseLong(body.substring(separator + 1));
+            couponSoldOutRegistry.refresh(couponId);
+            if (!nodeId.equals(body.substring(0, separator))) {
+                couponCacheService.evictCouponLocalCache(couponId);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 무효화 메시지 body: %s".formatted(body));
+        }
+    }
+}
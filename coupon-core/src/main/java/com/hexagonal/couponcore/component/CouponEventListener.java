@@ -17,6 +17,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class CouponEventListener {
     private final CouponCacheService couponCacheService;
+    private final CouponCacheInvalidator couponCacheInvalidator;
 
     private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
 
@@ -25,6 +26,7 @@ public class CouponEventListener {
      * 트랜잭션 커밋 후(AFTER_COMMIT) 실행되어 캐시 갱신
      * 1. Redis 캐시 갱신
      * 2. Local 캐시 갱신
+     * 3. 다른 노드의 Local 캐시 무효화 전파
      * @param event
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -32,6 +34,7 @@ public class CouponEventListener {
         log.info("issue complete. cache refresh start couponId: %s".formatted(event.couponId()));
         couponCacheService.putCouponCache(event.couponId());
         couponCacheService.putCouponLocalCache(event.couponId());
+        couponCacheInvalidator.publish(event.couponId());
         log.info("issue complete. cache refresh end couponId: %s".formatted(event.couponId()));
     }
 }
@@ -0,0 +1,124 @@
+package com.hexagonal.couponcore.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발급 요청 Queue 길이 및 Consumer 지연 모니터링 컴포넌트
+ * Prometheus 수집 시점마다 Redis를 호출하지 않도록 백그라운드에서 주기적으로 샘플링한 값을 Gauge로 노출
+ * - coupon.issue.queue.size: 발급 요청 Queue(List 또는 Stream)에 쌓인 요청 수
+ * - coupon.issue.consumer.lag: Queue에서 가장 오래 대기 중인 요청의 대기 시간(초), Queue가 비어있으면 0
+ * - coupon.issue.consumer.drain-rate: Consumer 전체의 초당 처리 요청 수 (처리 완료 카운터 증가량의 지수 이동 평균)
+ * 샘플링 값으로 새 요청의 예상 대기 시간을 계산하여 API 노드의 요청 수락 제어에 사용
+ * API 노드에서만 샘플링하도록 coupon-consumer는 coupon.metrics.queue-monitor.enabled=false 로 비활성화
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.metrics.queue-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponIssueQueueMonitor {
+    private final CouponIssueQueueRepository couponIssueQueueRepository;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong queueSize = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong lastDrained = new AtomicLong(-1);
+    private final AtomicLong lastSampledAt = new AtomicLong();
+    private volatile double drainRatePerSecond;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @PostConstruct
+    void register() {
+        Gauge.builder("coupon.issue.queue.size", queueSize, AtomicLong::get)
+                .description("발급 요청 Queue에 쌓인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issue.consumer.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Queue에서 가장 오래 대기 중인 발급 요청의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issue.consumer.drain-rate", this, CouponIssueQueueMonitor::drainRatePerSecond)
+                .description("Consumer 전체의 초당 발급 요청 처리 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.metrics.queue-sample-interval-millis:1000}")
+    public void sample() {
+        try {
+            queueSize.set(couponIssueQueueRepository.issueRequestQueueSize());
+            lagMillis.set(oldestRequestAge());
+            sampleDrainRate(couponIssueQueueRepository.issueRequestDrained(), System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("발급 요청 Queue 길이 조회 실패 reason: %s".formatted(e.getMessage()));
+        }
+    }
+
+    public long queueSize() {
+        return queueSize.get();
+    }
+
+    public double drainRatePerSecond() {
+        return drainRatePerSecond;
+    }
+
+    /**
+     * 지금 적재되는 요청이 처리되기까지의 예상 대기 시간
+     * - Queue 길이 / 소진 속도와 맨 앞 요청의 실제 대기 시간 중 큰 값
+     * - Consumer가 멈춰 소진 속도가 0이면 맨 앞 요청의 대기 시간이 계속 늘어나므로 그 값을 사용
+     * @return 예상 대기 시간(ms), Queue가 비어있으면 0
+     */
+    public long estimatedWaitMillis() {
+        long size = queueSize.get();
+        if (size == 0) {
+            return 0;
+        }
+        double rate = drainRatePerSecond;
+        long drainMillis = rate > 0 ? (long) (size / rate * 1000) : 0;
+        return Math.max(drainMillis, lagMillis.get());
+    }
+
+    /**
+     * 처리 완료 카운터 증가량으로 소진 속도 갱신
+     * 샘플 간 변동을 줄이기 위해 지수 이동 평균(가중치 0.5) 적용
+     */
+    void sampleDrainRate(long drained, long now) {
+        long previous = lastDrained.getAndSet(drained);
+        long previousAt = lastSampledAt.getAndSet(now);
+        if (previous < 0 || now <= previousAt || drained < previous) {
+            return;
+        }
+        double rate = (drained - previous) * 1000.0 / (now - previousAt);
+        drainRatePerSecond = drainRatePerSecond == 0 ? rate : drainRatePerSecond * 0.5 + rate * 0.5;
+    }
+
+    /**
+     * Queue 맨 앞 요청의 적재 후 경과 시간
+     * 적재 시각이 없는 이전 형식 요청이나 파싱할 수 없는 요청은 0으로 처리
+     */
+    private long oldestRequestAge() {
+        String head = couponIssueQueueRepository.issueRequestQueueHead();
+        if (head == null) {
+            return 0;
+        }
+        try {
+            long enqueuedAt = objectMapper.readValue(head, CouponIssueRequest.class).enqueuedAt();
+            return enqueuedAt > 0 ? Math.max(System.currentTimeMillis() - enqueuedAt, 0) : 0;
+        } catch (JsonProcessingException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getCouponSoldOutChannel;
+
+/**
+ * 매진된 쿠폰 ID를 노드 메모리에 보관하는 컴포넌트
+ * - 발급 Lua 스크립트가 처음 수량 초과를 반환하면 매진 채널로 PUBLISH 되고, 모든 노드가 구독하여 기록
+ * - 알림을 받지 못한 노드(늦게 기동된 노드 등)도 수량 초과 응답을 받는 즉시 직접 기록
+ * - 매진된 쿠폰의 이후 요청은 캐시 조회와 Redis 호출 없이 메모리에서 바로 거절
+ * - Redis 매진 마커는 쿠폰 발급 종료 시각에 만료되며, 로컬 기록은 매진 마커가 남아있는 동안만 유지
+ *   쿠폰 캐시 무효화 메시지를 받거나 주기적으로 확인할 때 매진 마커가 사라졌다면(만료, 삭제) 로컬 기록도 제거
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class CouponSoldOutRegistry implements MessageListener {
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisRepository redisRepository;
+    private final CouponRedisKeys couponRedisKeys;
+    private final Set<Long> soldOutCouponIds = ConcurrentHashMap.newKeySet();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(getCouponSoldOutChannel()));
+    }
+
+    public boolean isSoldOut(long couponId) {
+        return soldOutCouponIds.contains(couponId);
+    }
+
+    public void markSoldOut(long couponId) {
+        if (soldOutCouponIds.add(couponId)) {
+            log.info("sold out couponId: %s".formatted(couponId));
+        }
+    }
+
+    /**
+     * 매진 마커가 사라진 쿠폰의 로컬 매진 기록 제거
+     * 매진으로 기록되지 않은 쿠폰은 Redis를 조회하지 않음
+     * @param couponId 갱신된 쿠폰 ID
+     */
+    public void refresh(long couponId) {
+        if (soldOutCouponIds.contains(couponId) && !Boolean.TRUE.equals(redisRepository.hasKey(couponRedisKeys.getCouponSoldOutKey(couponId)))) {
+            soldOutCouponIds.remove(couponId);
+            log.info("sold out cleared couponId: %s".formatted(couponId));
+        }
+    }
+
+    /**
+     * 발급 종료 등으로 매진 마커가 만료된 쿠폰을 주기적으로 로컬 기록에서 제거
+     */
+    @Scheduled(fixedDelayString = "${coupon.sold-out.refresh-interval-millis:60000}")
+    public void refreshAll() {
+        soldOutCouponIds.forEach(this::refresh);
+    }
+
+    /**
+     * 매진 채널 메시지 수신
+     * @param message 메시지 본문은 매진된 쿠폰 ID
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            markSoldOut(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 매진 알림 메시지 body: %s".formatted(body));
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import com.hexagonal.couponcore.repository.redis.CouponStockLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * API 노드별 쿠폰 재고 임대(lease) 관리 컴포넌트
+ * coupon.issue.lease.enabled=true 일 때 활성화
+ * - Redis 미할당 재고 카운터에서 lease-size 만큼의 수량 블록을 원자적으로 임대받아 로컬에서 차감
+ * - 수량 체크를 노드 메모리에서 처리하므로 인기 쿠폰이라도 Redis는 중복 체크와 재임대 시에만 사용
+ * - 사용하지 않은 임대 수량은 발급 기간 종료, 일정 시간 미사용, 노드 종료 시 Redis로 반납
+ * - 노드별 미사용 임대 수량과 만료 시각을 Redis에 기록하고 주기적으로 갱신하므로,
+ *   반납 없이 종료(장애)된 노드의 임대 수량은 만료 후 다른 노드의 임대 요청 시 미할당 재고로 회수
+ * - 모든 API 노드가 같은 모드로 동작해야 하며, 임대 모드와 기존 Lua 수량 체크를 혼용하면 수량이 보장되지 않음
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.lease.enabled", havingValue = "true")
+public class CouponStockLeaseManager {
+    private final CouponStockLeaseRepository couponStockLeaseRepository;
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.issue.lease.size:500}")
+    private int leaseSize;
+
+    @Value("${coupon.issue.lease.idle-release-millis:10000}")
+    private long idleReleaseMillis;
+
+    @Value("${coupon.issue.lease.ttl-millis:30000}")
+    private long ttlMillis;
+
+    /**
+     * Redis에 임대 수량을 기록할 때 사용하는 노드 ID (프로세스마다 새로 발급)
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 발급 수량 1개 확보 (예외 없이 결과 반환)
+     * 로컬 임대 수량이 남아있으면 Redis 호출 없이 차감하고, 소진된 경우에만 Redis에서 재임대
+     * @param coupon 캐시된 쿠폰 정보
+     * @return 확보 성공 여부, 미할당 재고까지 모두 소진된 경우 false
+     */
+    public boolean tryAcquire(CouponRedisEntity coupon) {
+        while (true) {
+            Lease lease = leases.computeIfAbsent(coupon.id(), id -> new Lease(coupon.dateIssuedEnd()));
+            if (lease.tryTake()) {
+                return true;
+            }
+            lease.lock.lock();
+            try {
+                if (lease.closed) {
+                    continue;
+                }
+                if (lease.tryTake()) {
+                    return true;
+                }
+                int granted = couponStockLeaseRepository.acquireStockLease(coupon.id(), totalQuantity(coupon), leaseSize, nodeId, Duration.ofMillis(ttlMillis));
+                if (granted <= 0) {
+                    return false;
+                }
+                log.info("재고 임대 couponId: %s, granted: %s".formatted(coupon.id(), granted));
+                lease.permits.addAndGet(granted - 1);
+                lease.lastAcquiredAt = System.currentTimeMillis();
+                return true;
+            } finally {
+                lease.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 확보했지만 사용하지 않은 수량 1개 반환 (중복 발급 요청 등)
+     * 이미 반납 처리된 임대라면 Redis 재고로 직접 반납
+     */
+    public void release(long couponId) {
+        Lease lease = leases.get(couponId);
+        if (lease != null) {
+            lease.lock.lock();
+            try {
+                if (!lease.closed) {
+                    lease.permits.incrementAndGet();
+                    return;
+                }
+            } finally {
+                lease.lock.unlock();
+            }
+        }
+        couponStockLeaseRepository.releaseStockLease(couponId, 1, nodeId);
+    }
+
+    /**
+     * 노드의 임대가 만료되어 다른 노드에 회수된 경우 로컬 임대 수량을 반납 없이 폐기
+     * 회수된 수량은 이미 미할당 재고로 돌아갔으므로 다음 확보 시 Redis에서 새로 임대
+     */
+    public void invalidate(long couponId) {
+        Lease lease = leases.remove(couponId);
+        if (lease != null) {
+            int dropped = lease.close();
+            log.warn("회수된 재고 임대 폐기 couponId: %s, dropped: %s".formatted(couponId, dropped));
+        }
+    }
+
+    /**
+     * 보유 중인 임대의 만료 시각 갱신
+     * 이미 회수된 임대(GC 정지, 네트워크 단절 등으로 갱신이 늦어진 경우)는 로컬에서 폐기
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.lease.renew-interval-millis:10000}")
+    public void renew() {
+        Duration ttl = Duration.ofMillis(ttlMillis);
+        leases.keySet().forEach(couponId -> {
+            if (!couponStockLeaseRepository.renewStockLease(couponId, nodeId, ttl)) {
+                invalidate(couponId);
+            }
+        });
+    }
+
+    /**
+     * 발급 기간이 종료되었거나 일정 시간 사용되지 않은 임대 수량을 Redis로 반납
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.lease.release-interval-millis:1000}")
+    public void releaseExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long idleThreshold = System.currentTimeMillis() - idleReleaseMillis;
+        leases.forEach((couponId, lease) -> {
+            if (lease.dateIssuedEnd.isBefore(now) || lease.lastAcquiredAt < idleThreshold) {
+                returnLease(couponId, lease);
+            }
+        });
+    }
+
+    /**
+     * 노드 종료 시 보유 중인 모든 임대 수량 반납
+     */
+    @PreDestroy
+    void releaseAll() {
+        leases.forEach(this::returnLease);
+    }
+
+    private void returnLease(long couponId, Lease lease) {
+        if (!leases.remove(couponId, lease)) {
+            return;
+        }
+        int remaining = lease.close();
+        if (remaining > 0) {
+            couponStockLeaseRepository.releaseStockLease(couponId, remaining, nodeId);
+            log.info("재고 반납 couponId: %s, released: %s".formatted(couponId, remaining));
+        }
+    }
+
+    private int totalQuantity(CouponRedisEntity coupon) {
+        return coupon.totalQuantity() == null ? Integer.MAX_VALUE : coupon.totalQuantity();
+    }
+
+    /**
+     * 쿠폰 하나에 대해 노드가 보유한 임대 수량
+     * 수량 추가와 반납(close)은 같은 락으로 보호하여 반납된 임대에 수량이 추가되지 않도록 함
+     * 락을 보유한 채 Redis 재임대를 호출하므로, 가상 스레드 실행 모드에서 캐리어 스레드가 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock 사용
+     */
+    private static class Lease {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicInteger permits = new AtomicInteger();
+        private final LocalDateTime dateIssuedEnd;
+        private volatile long lastAcquiredAt = System.currentTimeMillis();
+        private boolean closed;
+
+        private Lease(LocalDateTime dateIssuedEnd) {
+            this.dateIssuedEnd = dateIssuedEnd;
+        }
+
+        private boolean tryTake() {
+            int current;
+            do {
+                current = permits.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!permits.compareAndSet(current, current - 1));
+            lastAcquiredAt = System.currentTimeMillis();
+            return true;
+        }
+
+        private int close() {
+            lock.lock();
+            try {
+                closed = true;
+                return permits.getAndSet(0);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
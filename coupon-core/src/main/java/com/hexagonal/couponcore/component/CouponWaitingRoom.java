@@ -0,0 +1,199 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.repository.redis.CouponWaitingRoomRepository;
+import com.hexagonal.couponcore.repository.redis.RedisRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponWaitingStatus;
+import com.hexagonal.couponcore.service.AsyncCouponIssueServiceV2;
+import com.hexagonal.couponcore.service.CouponCacheService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.FAIL_COUPON_ISSUE_REQUEST;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getCouponWaitingCouponsKey;
+
+/**
+ * 선착순 쿠폰 가상 대기열 컴포넌트
+ * coupon.issue.waiting-room.enabled=true 일 때 활성화
+ * - 사용자는 도착 시각을 점수로 쿠폰별 Sorted Set에 대기표를 받고, 대기 순번을 조회
+ * - 스케줄러가 주기(tick-millis)마다 앞에서부터 admit-per-tick 명씩 꺼내 일괄 발급 경로로 입장시킴
+ * - 발급 시작 시각에 몰리는 요청이 Lua 스크립트로 한꺼번에 들어가지 않고 일정한 속도로 Redis와 Consumer에 전달됨
+ * - 입장 중 매진되면 남은 대기자는 개별 처리 없이 대기열 삭제와 종료 사유 기록으로 일괄 거절
+ * - 대기열 대상 쿠폰 유형(coupon-types)은 발급이 끝날 때까지 API가 직접 발급 요청을 거절하여 대기 순서를 앞지르지 못하도록 함
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.waiting-room.enabled", havingValue = "true")
+public class CouponWaitingRoom {
+    private final RedisRepository redisRepository;
+    private final CouponWaitingRoomRepository couponWaitingRoomRepository;
+    private final CouponRedisKeys couponRedisKeys;
+    private final CouponCacheService couponCacheService;
+    private final CouponSoldOutRegistry couponSoldOutRegistry;
+    private final AsyncCouponIssueServiceV2 asyncCouponIssueServiceV2;
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.issue.waiting-room.admit-per-tick:200}")
+    private int admitPerTick;
+
+    @Value("${coupon.issue.waiting-room.tick-millis:100}")
+    private long tickMillis;
+
+    @Value("${coupon.issue.waiting-room.result-ttl-seconds:86400}")
+    private long resultTtlSeconds;
+
+    @Value("${coupon.issue.waiting-room.coupon-types:FIRST_COME_FIRST_SERVED}")
+    private Set<CouponType> couponTypes;
+
+    /**
+     * 대기열 진입
+     * 발급 시작 전에도 진입할 수 있으며, 이미 입장 처리된 사용자는 기존 결과를 반환
+     * @return 대기 상태 (대기 순번 또는 결과)
+     * @throws CouponIssueException 쿠폰이 존재하지 않거나 대기열을 지원하지 않는 쿠폰인 경우
+     */
+    public CouponWaitingStatus enter(long couponId, long userId) {
+        CouponWaitingStatus status = status(couponId, userId);
+        if (status.state() != CouponWaitingStatus.State.NOT_FOUND) {
+            return status;
+        }
+        CouponRedisEntity coupon = couponCacheService.getCouponLocalCache(couponId);
+        if (!couponTypes.contains(coupon.couponType())) {
+            throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "대기열을 지원하지 않는 쿠폰입니다. couponId: %s".formatted(couponId));
+        }
+        if (!coupon.availableIssueQuantity()) {
+            return CouponWaitingStatus.finished(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY);
+        }
+        if (!coupon.dateIssuedEnd().isAfter(LocalDateTime.now())) {
+            return CouponWaitingStatus.finished(CouponIssueRequestCode.INVALID_COUPON_ISSUE_DATE);
+        }
+        // 대기열 종료 여부 확인과 대기표 발급을 한 스크립트에서 처리 (종료 직후 진입한 사용자가 종료된 대기열에 남지 않도록)
+        Long rank = couponWaitingRoomRepository.enterWaitingRoom(couponId, userId, System.currentTimeMillis());
+        return rank != null ? CouponWaitingStatus.waiting(rank) : status(couponId, userId);
+    }
+
+    /**
+     * 대기열을 거쳐야 하는 쿠폰인지 확인
+     * 대기 인원(ZCARD)이 아닌 로컬 매진 기록과 로컬 캐시의 쿠폰 유형, 발급 상태로 판단하여 요청마다 Redis를 호출하지 않음
+     * 매진되었거나 발급 기간이 끝난 쿠폰, 존재하지 않는 쿠폰은 직접 발급 경로에서 거절 사유를 반환하도록 대상에서 제외
+     */
+    public boolean isRequired(long couponId) {
+        if (couponSoldOutRegistry.isSoldOut(couponId)) {
+            return false;
+        }
+        return couponCacheService.findCouponLocalCache(couponId)
+                .map(coupon -> couponTypes.contains(coupon.couponType())
+                        && coupon.availableIssueQuantity()
+                        && coupon.dateIssuedEnd().isAfter(LocalDateTime.now()))
+                .orElse(false);
+    }
+
+    /**
+     * 대기 상태 조회
+     * 1. 대기열에 있으면 대기 순번
+     * 2. 입장 처리되었으면 발급 요청 결과
+     * 3. 대기열이 종료(매진, 기간 종료)되었으면 종료 사유
+     */
+    public CouponWaitingStatus status(long couponId, long userId) {
+        Long rank = redisRepository.zRank(couponRedisKeys.getCouponWaitingKey(couponId), String.valueOf(userId));
+        if (rank != null) {
+            return CouponWaitingStatus.waiting(rank);
+        }
+        CouponIssueRequestCode result = couponWaitingRoomRepository.waitingResult(couponId, userId);
+        if (result != null) {
+            return CouponWaitingStatus.finished(result);
+        }
+        return CouponWaitingStatus.NOT_FOUND;
+    }
+
+    /**
+     * 대기열이 있는 모든 쿠폰에 대해 입장 처리
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.waiting-room.tick-millis:100}")
+    public void admit() {
+        for (String couponId : redisRepository.sMembers(getCouponWaitingCouponsKey())) {
+            try {
+                admit(Long.parseLong(couponId));
+            } catch (RuntimeException e) {
+                log.warn("대기열 입장 처리 실패 couponId: %s, reason: %s".formatted(couponId, e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * 쿠폰 대기열 입장 처리
+     * 1. 발급 시작 전이면 대기
+     * 2. 매진 또는 발급 기간 종료 시 대기열 삭제로 일괄 거절
+     * 3. 앞에서부터 admit-per-tick 명을 꺼내 일괄 발급 요청 후 사용자별 결과 저장
+     *    발급 요청이나 결과 저장에 실패하면 꺼낸 사용자를 원래 대기 점수로 되돌려 다음 주기에 다시 입장
+     *    (실패 전에 발급 요청이 접수된 사용자는 다음 입장 시 중복 발급으로 걸러지며, 접수된 요청이므로 발급 요청 성공으로 기록)
+     * 4. 입장 중 수량이 소진되면 남은 대기자 일괄 거절
+     */
+    private void admit(long couponId) {
+        CouponRedisEntity coupon = couponCacheService.getCouponLocalCache(couponId);
+        LocalDateTime now = LocalDateTime.now();
+        if (coupon.dateIssuedStart().isAfter(now)) {
+            return;
+        }
+        if (couponSoldOutRegistry.isSoldOut(couponId) || !coupon.availableIssueQuantity()) {
+            close(couponId, CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY);
+            return;
+        }
+        if (!coupon.dateIssuedEnd().isAfter(now)) {
+            close(couponId, CouponIssueRequestCode.INVALID_COUPON_ISSUE_DATE);
+            return;
+        }
+
+        Map<Long, Double> admitted = couponWaitingRoomRepository.admitWaitingUsers(couponId, admitPerTick, tickMillis);
+        if (admitted.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = List.copyOf(admitted.keySet());
+        List<CouponIssueRequestCode> codes;
+        try {
+            codes = asyncCouponIssueServiceV2.tryIssueBatch(couponId, userIds);
+            Map<Long, CouponIssueRequestCode> results = new LinkedHashMap<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                CouponIssueRequestCode code = codes.get(i);
+                results.put(userIds.get(i), code == CouponIssueRequestCode.DUPLICATED_COUPON_ISSUE ? CouponIssueRequestCode.SUCCESS : code);
+            }
+            couponWaitingRoomRepository.putWaitingResults(couponId, results, Duration.ofSeconds(resultTtlSeconds));
+        } catch (RuntimeException e) {
+            long requeued = couponWaitingRoomRepository.requeueWaitingUsers(couponId, admitted);
+            log.warn("대기열 입장 실패, 대기열로 되돌림 couponId: %s, requeued: %s".formatted(couponId, requeued));
+            throw e;
+        }
+        log.info("대기열 입장 couponId: %s, admitted: %s".formatted(couponId, userIds.size()));
+
+        if (codes.contains(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY)) {
+            close(couponId, CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY);
+        }
+    }
+
+    /**
+     * 남은 대기자 일괄 거절
+     * 대기자별 결과를 기록하지 않고 대기열 삭제 후 종료 사유만 기록하며, 상태 조회 시 종료 사유를 결과로 반환
+     */
+    private void close(long couponId, CouponIssueRequestCode reason) {
+        couponWaitingRoomRepository.closeWaitingRoom(couponId, reason, Duration.ofSeconds(resultTtlSeconds));
+        log.info("대기열 종료 couponId: %s, reason: %s".formatted(couponId, reason));
+    }
+}
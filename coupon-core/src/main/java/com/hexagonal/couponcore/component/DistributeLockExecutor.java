@@ -1,39 +1,88 @@
 package com.hexagonal.couponcore.component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 @RequiredArgsConstructor
 @Component
 public class DistributeLockExecutor {
+    private static final Pattern LOCK_ID = Pattern.compile("\\d+");
+
+    /**
+     * 비동기 락 소유자 식별용 ID
+     * Redisson은 (클라이언트 ID, 스레드 ID)로 락 소유자를 구분하므로, 요청마다 실제 스레드 ID와 겹치지 않는 음수 ID를 부여하여
+     * 같은 스레드에서 시작된 서로 다른 요청이 재진입(reentrant)으로 처리되지 않도록 함
+     */
+    private static final AtomicLong ASYNC_OWNER_ID = new AtomicLong();
 
     private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+    private final Map<LockMeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<LockMeterKey, Counter> failedCounters = new ConcurrentHashMap<>();
     private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
 
+    @Value("${coupon.lock.async.pool-size:16}")
+    private int asyncPoolSize;
+
+    private ExecutorService asyncLogicExecutor;
+
+    /**
+     * 비동기 락 로직 실행 스레드 풀 생성
+     * 락을 보유한 구간의 로직(Redis 호출 몇 번)만 실행하므로 작은 풀로 충분하며, 락 대기 요청은 풀을 점유하지 않음
+     */
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        asyncLogicExecutor = Executors.newFixedThreadPool(asyncPoolSize, runnable -> {
+            Thread thread = new Thread(runnable, "lock-logic-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Redis를 사용한 분산 락을 실행하는 메소드
      * @param lockName 락의 고유 이름 (키 값)
      * @param waitMilliSecond 락 획득 대기 시간 (밀리초)
      * @param leaseMilliSecond 락 임대 시간 (밀리초)
      * @param logic 락 안에서 실행할 비즈니스 로직
+     * 락 획득 대기 시간(coupon.lock.wait{lock, result})과 보유 시간(coupon.lock.hold{lock})을 나눠서 측정
      */
     public void execute(String lockName, long waitMilliSecond, long leaseMilliSecond, Runnable logic) {
         // Redis에서 제공하는 분산 락 객체 획득
         RLock lock = redissonClient.getLock(lockName);
+        String lockTag = lockTag(lockName);
         try {
             // 지정된 대기 시간 동안 락 획득 시도
+            long waitStartedAt = System.nanoTime();
             boolean isLocked = lock.tryLock(waitMilliSecond, leaseMilliSecond, TimeUnit.MILLISECONDS);
+            recordWait(lockTag, "sync", isLocked ? "acquired" : "timeout", waitStartedAt);
             if (!isLocked) {
                 throw new IllegalStateException("[" + lockName + "] lock 획득 실패");
             }
             // 락 획득 설공시 비즈니스 로직 실행
-            logic.run();
+            lockTimer("coupon.lock.hold", lockTag, "sync", null).record(logic);
         } catch (InterruptedException e) {
             log.error(e.getMessage(), e);
             throw new RuntimeException(e);
@@ -44,4 +93,119 @@ public class DistributeLockExecutor {
             }
         }
     }
+
+    /**
+     * 분산 락을 비동기로 획득한 뒤 비즈니스 로직을 실행하는 메소드
+     * 락 대기는 Redisson의 tryLockAsync(Pub/Sub 알림 기반)로 처리하므로 대기 중에는 어떤 스레드도 점유하지 않음
+     * 락을 획득하면 비즈니스 로직은 락 전용 스레드 풀(coupon.lock.async.pool-size)에서 실행하여 Redisson 이벤트 루프를 막지 않음
+     * @param lockName 락의 고유 이름 (키 값)
+     * @param waitMilliSecond 락 획득 대기 시간 (밀리초)
+     * @param leaseMilliSecond 락 임대 시간 (밀리초)
+     * @param logic 락 안에서 실행할 비즈니스 로직
+     * @return 로직 실행 결과, 락 획득에 실패했거나 로직에서 예외가 발생하면 해당 예외로 완료
+     */
+    public CompletableFuture<Void> executeAsync(String lockName, long waitMilliSecond, long leaseMilliSecond, Runnable logic) {
+        RLock lock = redissonClient.getLock(lockName);
+        String lockTag = lockTag(lockName);
+        long ownerId = ASYNC_OWNER_ID.decrementAndGet();
+        long waitStartedAt = System.nanoTime();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        lock.tryLockAsync(waitMilliSecond, leaseMilliSecond, TimeUnit.MILLISECONDS, ownerId).whenComplete((isLocked, e) -> {
+            if (e != null) {
+                recordWait(lockTag, "async", "error", waitStartedAt);
+                result.completeExceptionally(e);
+                return;
+            }
+            recordWait(lockTag, "async", isLocked ? "acquired" : "timeout", waitStartedAt);
+            if (!isLocked) {
+                result.completeExceptionally(new IllegalStateException("[" + lockName + "] lock 획득 실패"));
+                return;
+            }
+            try {
+                asyncLogicExecutor.execute(() -> runLocked(lock, lockTag, ownerId, logic, result));
+            } catch (RejectedExecutionException rejected) {
+                unlockAsync(lock, lockName, ownerId);
+                result.completeExceptionally(rejected);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        asyncLogicExecutor.shutdown();
+    }
+
+    /**
+     * 락을 보유한 상태로 로직 실행 후 락 해제
+     * 대기 중인 다음 요청이 바로 락을 획득할 수 있도록 결과를 완료하기 전에 해제를 요청
+     */
+    private void runLocked(RLock lock, String lockTag, long ownerId, Runnable logic, CompletableFuture<Void> result) {
+        long holdStartedAt = System.nanoTime();
+        RuntimeException failure = null;
+        try {
+            logic.run();
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            lockTimer("coupon.lock.hold", lockTag, "async", null)
+                    .record(System.nanoTime() - holdStartedAt, TimeUnit.NANOSECONDS);
+            unlockAsync(lock, lock.getName(), ownerId);
+        }
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(null);
+        }
+    }
+
+    private void unlockAsync(RLock lock, String lockName, long ownerId) {
+        lock.unlockAsync(ownerId).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.warn("[%s] lock 해제 실패 reason: %s".formatted(lockName, e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * 락 획득 대기 시간 기록, 획득에 실패한 경우 실패 사유별 카운터(coupon.lock.acquire.failed{lock, reason}) 증가
+     */
+    private void recordWait(String lockTag, String mode, String result, long waitStartedAt) {
+        lockTimer("coupon.lock.wait", lockTag, mode, result)
+                .record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+        if (!"acquired".equals(result)) {
+            failedCounters.computeIfAbsent(new LockMeterKey("coupon.lock.acquire.failed", lockTag, mode, result), key ->
+                    meterRegistry.counter(key.name(), "lock", key.lockTag(), "mode", key.mode(), "reason", key.result())
+            ).increment();
+        }
+    }
+
+    /**
+     * 락 이름 태그
+     * 쿠폰 ID가 포함된 락 이름을 그대로 태그로 쓰면 시계열이 무한히 늘어나므로 숫자 ID를 {id}로 치환 (예: lock_{id})
+     */
+    private String lockTag(String lockName) {
+        return LOCK_ID.matcher(lockName).replaceAll("{id}");
+    }
+
+    /**
+     * 락 Timer 조회, 태그 조합별로 한 번만 등록하고 이후에는 캐시된 Timer 사용
+     * @param result null이면 result 태그 없이 등록 (coupon.lock.hold)
+     */
+    private Timer lockTimer(String name, String lockTag, String mode, String result) {
+        return timers.computeIfAbsent(new LockMeterKey(name, lockTag, mode, result), key -> {
+            Timer.Builder builder = Timer.builder(key.name())
+                    .tag("lock", key.lockTag())
+                    .tag("mode", key.mode())
+                    .publishPercentileHistogram();
+            if (key.result() != null) {
+                builder.tag("result", key.result());
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private record LockMeterKey(String name, String lockTag, String mode, String result) {
+    }
 }
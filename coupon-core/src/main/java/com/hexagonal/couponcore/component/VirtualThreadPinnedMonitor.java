@@ -0,0 +1,96 @@
+package com.hexagonal.couponcore.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 고정(pinning) 모니터링 컴포넌트
+ * coupon.jfr.pinned-threads.enabled=true 일 때 활성화 (Java 21 + spring.threads.virtual.enabled=true 환경에서 의미가 있음)
+ * - 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되면 캐리어(플랫폼) 스레드를 붙잡아 다른 가상 스레드가 실행되지 못함
+ * - JFR RecordingStream으로 jdk.VirtualThreadPinned 이벤트를 threshold-millis 이상인 것만 구독
+ * - 고정이 발생한 위치(JDK 외부의 첫 번째 프레임, 예: 드라이버, 커넥션 풀)별로 횟수와 시간을 집계 (coupon.jvm.virtual-thread.pinned{frame})
+ * - JFR 이벤트는 JVM 전체 대상이므로 한 JVM에는 하나의 컨텍스트에서만 활성화
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.jfr.pinned-threads.enabled", havingValue = "true")
+public class VirtualThreadPinnedMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    private final Logger log = LoggerFactory.getLogger(getClass().getSimpleName());
+
+    @Value("${coupon.jfr.pinned-threads.threshold-millis:20}")
+    private long thresholdMillis;
+
+    @PostConstruct
+    void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMillis))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("virtual thread pinned monitor started. threshold: %sms".formatted(thresholdMillis));
+    }
+
+    @PreDestroy
+    void stop() {
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        record(pinnedFrame(event.getStackTrace()), event.getDuration());
+    }
+
+    /**
+     * 고정 위치별 Timer에 고정 시간 기록
+     * Timer는 위치별로 한 번만 등록하고 이후에는 캐시된 Timer 사용
+     */
+    void record(String frame, Duration duration) {
+        timers.computeIfAbsent(frame, key -> Timer.builder("coupon.jvm.virtual-thread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 채 블로킹된 시간")
+                .tag("frame", key)
+                .register(meterRegistry)
+        ).record(duration);
+        log.warn("virtual thread pinned frame: %s, duration: %sms".formatted(frame, duration.toMillis()));
+    }
+
+    /**
+     * 고정이 발생한 위치로 JDK 외부의 첫 번째 프레임(클래스.메서드) 반환
+     * 스택 트레이스가 없거나 모두 JDK 프레임이면 unknown
+     */
+    private String pinnedFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "unknown";
+    }
+}
@@ -1,30 +1,55 @@
 package com.hexagonal.couponcore.configuration;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hexagonal.couponcore.service.CouponCacheService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.List;
+
 /**
  * 로컬 캐시 설정 클래스
  * In-Memory 캐시로 Caffeine을 사용하기 위한 설정
  */
 @Configuration
 public class LocalCacheConfiguration {
+    @Value("${coupon.cache.local.expire-after-write-seconds:10}")
+    private long expireAfterWriteSeconds;
+
+    @Value("${coupon.cache.local.refresh-after-write-seconds:5}")
+    private long refreshAfterWriteSeconds;
+
     /**
      * Caffeine 로컬 캐시 매니저 설정
-     * - TTL: 10초
+     * - TTL: coupon.cache.local.expire-after-write-seconds (기본 10초)
+     *   CouponCacheInvalidator 는 발급 완료 시에만 무효화를 전파하므로 그 외의 변경은 TTL 안에서 반영되도록 짧게 유지
      * - 최대 크기: 1000개
+     * - refresh-ahead: 쓰기 후 coupon.cache.local.refresh-after-write-seconds(기본 5초)가 지난 항목은 다음 조회 시 기존 값을 반환하고 백그라운드에서 갱신
+     *   (만료 전에 갱신되므로 인기 쿠폰의 요청 스레드가 Redis/DB 조회를 기다리지 않음)
+     * - 통계 기록: 캐시 이름을 고정하여 기동 시 Micrometer에 hit/miss/load 시간 지표가 등록되도록 함
+     * @param couponCacheServiceProvider 갱신 시 Redis 캐시(미스 시 DB)를 조회하기 위한 캐시 서비스 (순환 참조 방지를 위해 지연 조회)
      */
     @Bean
-    public CacheManager localCacheManager() {
+    public CacheManager localCacheManager(ObjectProvider<CouponCacheService> couponCacheServiceProvider) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
         caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofSeconds(10))
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterWriteSeconds))
                 .maximumSize(1000)
+                .recordStats()
         );
+        caffeineCacheManager.setCacheLoader(couponCacheLoader(couponCacheServiceProvider));
+        caffeineCacheManager.setCacheNames(List.of("coupon"));
         return caffeineCacheManager;
     }
+
+    private CacheLoader<Object, Object> couponCacheLoader(ObjectProvider<CouponCacheService> couponCacheServiceProvider) {
+        return couponId -> couponCacheServiceProvider.getObject().getCouponCache((Long) couponId);
+    }
 }
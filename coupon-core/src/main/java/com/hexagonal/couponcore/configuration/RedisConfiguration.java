@@ -1,25 +1,90 @@
 package com.hexagonal.couponcore.configuration;
 
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueType;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.util.CouponRedisKeyLayout;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import java.util.List;
+
+/**
+ * Redis 클라이언트 설정
+ * Lettuce(RedisTemplate)는 Spring Boot가 spring.data.redis.* 설정으로 구성하고,
+ * Redisson도 같은 설정을 읽어 단일 서버, Sentinel, Cluster 중 하나로 구성
+ * - spring.data.redis.cluster.nodes 가 있으면 Cluster (cluster 프로파일)
+ * - spring.data.redis.sentinel.master 가 있으면 Sentinel (sentinel 프로파일)
+ * - 그 외에는 spring.data.redis.host/port 단일 서버
+ */
 @Configuration
+@RequiredArgsConstructor
 public class RedisConfiguration {
-    @Value("${spring.data.redis.host}")
-    private String host;
+    private static final String ADDRESS_PREFIX = "redis://";
+
+    private final CouponRedisKeys couponRedisKeys;
 
-    @Value("${spring.data.redis.port}")
-    private String port;
+    @Value("${coupon.queue.type:list}")
+    private CouponIssueQueueType queueType;
+
+    /**
+     * 쿠폰별 Redis 키 배치 방식 검증
+     * Cluster 배치에서는 발급 스크립트가 쿠폰 슬롯의 키만 사용해야 하므로 쿠폰별 Queue(coupon.queue.type=per-coupon)만 허용
+     */
+    @PostConstruct
+    void verifyKeyLayout() {
+        if (couponRedisKeys.getKeyLayout() == CouponRedisKeyLayout.CLUSTER && queueType != CouponIssueQueueType.PER_COUPON) {
+            throw new IllegalStateException("coupon.redis.key-layout=cluster 는 coupon.queue.type=per-coupon 과 함께 사용해야 합니다. queueType: %s".formatted(queueType));
+        }
+    }
 
     @Bean
-    RedissonClient redissonClient() {
+    RedissonClient redissonClient(RedisProperties redisProperties) {
         Config config = new Config();
-        String address = "redis://" + host + ":" + port;
-        config.useSingleServer().setAddress(address);
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+        if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+            config.useClusterServers()
+                    .addNodeAddress(toAddresses(cluster.getNodes()))
+                    .setPassword(redisProperties.getPassword());
+        } else if (sentinel != null && sentinel.getMaster() != null) {
+            config.useSentinelServers()
+                    .setMasterName(sentinel.getMaster())
+                    .addSentinelAddress(toAddresses(sentinel.getNodes()))
+                    .setPassword(redisProperties.getPassword());
+        } else {
+            config.useSingleServer()
+                    .setAddress(ADDRESS_PREFIX + redisProperties.getHost() + ":" + redisProperties.getPort())
+                    .setPassword(redisProperties.getPassword());
+        }
         return Redisson.create(config);
     }
+
+    /**
+     * Redis Pub/Sub 메시지 수신 컨테이너
+     * 매진 알림 등 노드 간 전파가 필요한 메시지 구독에 사용
+     */
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    /**
+     * "host:port" 목록을 Redisson 주소 형식("redis://host:port")으로 변환
+     */
+    private String[] toAddresses(List<String> nodes) {
+        return nodes.stream()
+                .map(node -> node.startsWith(ADDRESS_PREFIX) ? node : ADDRESS_PREFIX + node)
+                .toArray(String[]::new);
+    }
 }
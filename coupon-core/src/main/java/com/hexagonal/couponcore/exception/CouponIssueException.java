@@ -2,12 +2,17 @@ package com.hexagonal.couponcore.exception;
 
 import lombok.Getter;
 
+/**
+ * 쿠폰 발급 비즈니스 예외
+ * 발급 거절은 예상된 흐름이므로 스택 트레이스를 수집하지 않음 (원인 추적은 ErrorCode와 메시지로 충분)
+ */
 @Getter
 public class CouponIssueException extends RuntimeException{
     private final ErrorCode errorCode;
     private final String message;
 
     public CouponIssueException(ErrorCode errorCode, String message) {
+        super(null, null, false, false);
         this.errorCode = errorCode;
         this.message = message;
     }
@@ -70,15 +70,32 @@ public class Coupon extends BaseTimeEntity{  // 쿠폰 기본 정보와 발급 
 
     // 쿠폰 발급 처리 및 유효성 검증
     public void issue() {
-        if (!availableIssueQuantity()) {
+        issue(1);
+    }
+
+    // 쿠폰 일괄 발급 처리 및 유효성 검증 (요청 수량만큼 발급 수량을 한 번에 증가)
+    public void issue(int quantity) {
+        checkIssuableCoupon(quantity);
+        issuedQuantity += quantity;
+    }
+
+    // 요청 수량만큼 발급 가능한지 검증 (수량, 기간)
+    public void checkIssuableCoupon(int quantity) {
+        if (!availableIssueQuantity(quantity)) {
             throw new CouponIssueException(INVALID_COUPON_ISSUE_QUANTITY,
-                    "발급 가능한 수량을 초과합니다. total: %s, issued: %s".formatted(totalQuantity, issuedQuantity));
+                    "발급 가능한 수량을 초과합니다. total: %s, issued: %s, request: %s".formatted(totalQuantity, issuedQuantity, quantity));
         }
         if (!availableIssueDate()) {
             throw new CouponIssueException(INVALID_COUPON_ISSUE_DATE,
                     "발급 가능한 일자가 아닙니다. request: %s, issueStart: %s, issueEnd: %s".formatted(LocalDateTime.now(), dateIssuedStart, dateIssuedEnd));
         }
+    }
 
-        issuedQuantity++;
+    // 요청 수량만큼 발급 가능한 수량이 남아있는지 확인
+    private boolean availableIssueQuantity(int quantity) {
+        if (totalQuantity == null) {
+            return true;
+        }
+        return totalQuantity >= issuedQuantity + quantity;
     }
 }
@@ -14,8 +14,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Getter
 @Entity
-@Table(name = "coupon_issues")
-public class CouponIssue extends BaseTimeEntity{  // 쿠폰 발급 이력을 관리하는 엔티티
+@Table(name = "coupon_issues",
+        uniqueConstraints = @UniqueConstraint(name = CouponIssue.UK_COUPON_ID_USER_ID, columnNames = {"coupon_id", "user_id"}))
+public class CouponIssue extends BaseTimeEntity{  // 쿠폰 발급 이력을 관리하는 엔티티 (쿠폰별 사용자당 1건)
+    // 중복 발급을 막는 (coupon_id, user_id) 유니크 제약 이름 (schema.sql과 동일)
+    public static final String UK_COUPON_ID_USER_ID = "uk_coupon_issues_coupon_id_user_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,48 @@
+package com.hexagonal.couponcore.repository.mysql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueJdbcRepository {  // JPA로 처리하기 어려운 대량 쓰기 연산을 담당
+
+    private static final String INSERT_COUPON_ISSUES =
+            "INSERT INTO coupon_issues (coupon_id, user_id, date_issued, date_created, date_updated) VALUES ";
+    private static final String INSERT_VALUES_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 쿠폰 발급 이력을 multi-row insert로 일괄 저장
+     * - IDENTITY 전략에서는 JPA 배치 insert가 동작하지 않으므로 JDBC로 직접 처리
+     * - 한 번의 INSERT 문으로 여러 건을 저장하여 DB 왕복 횟수 감소
+     * @param couponId 발급할 쿠폰 ID
+     * @param userIds 발급 대상 사용자 ID 목록
+     * @return 저장된 행 수
+     */
+    public int saveAll(long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = INSERT_COUPON_ISSUES + String.join(", ", Collections.nCopies(userIds.size(), INSERT_VALUES_PLACEHOLDER));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[] args = new Object[userIds.size() * 5];
+        int index = 0;
+        for (Long userId : userIds) {
+            args[index++] = couponId;
+            args[index++] = userId;
+            args[index++] = now;
+            args[index++] = now;
+            args[index++] = now;
+        }
+        return jdbcTemplate.update(sql, args);
+    }
+}
@@ -2,6 +2,11 @@ package com.hexagonal.couponcore.repository.mysql;
 
 import com.hexagonal.couponcore.model.CouponIssue;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface CouponIssueJpaRepositoryCustom {
     CouponIssue findFirstCouponIssue(long couponId, long userId);
+
+    List<Long> findIssuedUserIds(long couponId, Collection<Long> userIds);
 }
@@ -5,6 +5,9 @@ import com.querydsl.jpa.JPQLQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import static com.hexagonal.couponcore.model.QCouponIssue.couponIssue;
 
 @Repository
@@ -26,4 +29,20 @@ public class CouponIssueJpaRepositoryImpl implements CouponIssueJpaRepositoryCus
                 .where(couponIssue.userId.eq(userId))
                 .fetchFirst();
     }
+
+    /**
+     * 특정 쿠폰에 대해 주어진 사용자들 중 이미 발급받은 사용자 ID 목록을 조회
+     * 일괄 발급 시 중복 발급 검증을 한 번의 쿼리로 처리하기 위해 사용
+     * @param couponId 조회할 쿠폰 ID
+     * @param userIds 조회할 사용자 ID 목록
+     * @return 이미 발급 이력이 존재하는 사용자 ID 목록
+     */
+    @Override
+    public List<Long> findIssuedUserIds(long couponId, Collection<Long> userIds) {
+        return queryFactory.select(couponIssue.userId)
+                .from(couponIssue)
+                .where(couponIssue.couponId.eq(couponId))
+                .where(couponIssue.userId.in(userIds))
+                .fetch();
+    }
 }
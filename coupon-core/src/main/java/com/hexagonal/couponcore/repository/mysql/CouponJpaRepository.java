@@ -4,8 +4,10 @@ import com.hexagonal.couponcore.model.Coupon;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
@@ -18,4 +20,22 @@ public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Coupon c WHERE c.id = :id")
     Optional<Coupon> findCouponWithLock(long id);
+
+    /**
+     * 조건부 UPDATE로 발급 수량을 1 증가
+     * - 수량/기간 검증과 증가를 하나의 UPDATE 문으로 처리하여 SELECT FOR UPDATE 없이 원자적으로 발급
+     * - 행 락은 UPDATE 문이 실행되는 동안에만 유지됨
+     * - 갱신된 행 수가 0이면 쿠폰이 없거나 발급 가능한 상태가 아님
+     * @return 갱신된 행 수 (1: 발급 성공, 0: 발급 불가)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Coupon c
+            SET c.issuedQuantity = c.issuedQuantity + 1, c.dateUpdated = :now
+            WHERE c.id = :id
+              AND (c.totalQuantity IS NULL OR c.issuedQuantity < c.totalQuantity)
+              AND c.dateIssuedStart < :now
+              AND c.dateIssuedEnd > :now
+            """)
+    int increaseIssuedQuantity(long id, LocalDateTime now);
 }
@@ -0,0 +1,10 @@
+package com.hexagonal.couponcore.repository.redis;
+
+/**
+ * Redis 쿠폰 캐시 저장 형식 (coupon.cache.serializer)
+ * 읽기는 설정과 관계없이 두 형식을 모두 지원하므로 형식 전환 중에도 기존 캐시를 그대로 사용
+ */
+public enum CouponCacheFormat {
+    JSON,   // GenericJackson2JsonRedisSerializer (@class 타입 정보 포함)
+    BINARY  // CouponRedisEntity 고정 길이 바이너리 형식
+}
@@ -0,0 +1,109 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.hexagonal.couponcore.model.CouponType;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Redis 쿠폰 캐시 값 직렬화
+ * CouponRedisEntity 는 고정 길이 바이너리 형식으로, 그 외 값은 JSON으로 저장
+ * 바이너리 형식 (32 bytes, big-endian)
+ * - magic(1) | version(1) | flags(1) | couponType(1) | id(8) | totalQuantity(4) | dateIssuedStart(8) | dateIssuedEnd(8)
+ * - flags: 0x01 totalQuantity 존재, 0x02 availableIssueQuantity, 0x04 dateIssuedStart 존재, 0x08 dateIssuedEnd 존재
+ * - 일시는 UTC 기준 epoch millis 로 저장 (LocalDateTime 을 그대로 복원하며 밀리초 미만은 버림)
+ * 읽기 시 첫 바이트가 magic 이 아니면 JSON 으로 판단하므로 JSON/바이너리 형식이 섞여 있어도 모두 읽을 수 있음
+ */
+public class CouponCacheSerializer implements RedisSerializer<Object> {
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte VERSION = 1;
+    static final int SIZE = 32;
+
+    private static final byte HAS_TOTAL_QUANTITY = 0x01;
+    private static final byte AVAILABLE_ISSUE_QUANTITY = 0x02;
+    private static final byte HAS_DATE_ISSUED_START = 0x04;
+    private static final byte HAS_DATE_ISSUED_END = 0x08;
+    private static final CouponType[] COUPON_TYPES = CouponType.values();
+
+    private final CouponCacheFormat format;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    public CouponCacheSerializer(CouponCacheFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (format == CouponCacheFormat.BINARY && value instanceof CouponRedisEntity coupon) {
+            return serializeBinary(coupon);
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == MAGIC) {
+            return deserializeBinary(bytes);
+        }
+        return jsonSerializer.deserialize(bytes);
+    }
+
+    private byte[] serializeBinary(CouponRedisEntity coupon) {
+        byte flags = 0;
+        if (coupon.totalQuantity() != null) flags |= HAS_TOTAL_QUANTITY;
+        if (coupon.availableIssueQuantity()) flags |= AVAILABLE_ISSUE_QUANTITY;
+        if (coupon.dateIssuedStart() != null) flags |= HAS_DATE_ISSUED_START;
+        if (coupon.dateIssuedEnd() != null) flags |= HAS_DATE_ISSUED_END;
+
+        return ByteBuffer.allocate(SIZE)
+                .put(MAGIC)
+                .put(VERSION)
+                .put(flags)
+                .put((byte) coupon.couponType().ordinal())
+                .putLong(coupon.id())
+                .putInt(coupon.totalQuantity() == null ? 0 : coupon.totalQuantity())
+                .putLong(toEpochMillis(coupon.dateIssuedStart()))
+                .putLong(toEpochMillis(coupon.dateIssuedEnd()))
+                .array();
+    }
+
+    private CouponRedisEntity deserializeBinary(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        byte version = buffer.get();
+        if (version != VERSION || bytes.length != SIZE) {
+            throw new SerializationException("지원하지 않는 쿠폰 캐시 형식입니다. version: %s, size: %s".formatted(version, bytes.length));
+        }
+        byte flags = buffer.get();
+        CouponType couponType = COUPON_TYPES[buffer.get()];
+        long id = buffer.getLong();
+        int totalQuantity = buffer.getInt();
+        long dateIssuedStart = buffer.getLong();
+        long dateIssuedEnd = buffer.getLong();
+
+        return new CouponRedisEntity(
+                id,
+                couponType,
+                (flags & HAS_TOTAL_QUANTITY) != 0 ? totalQuantity : null,
+                (flags & AVAILABLE_ISSUE_QUANTITY) != 0,
+                (flags & HAS_DATE_ISSUED_START) != 0 ? toLocalDateTime(dateIssuedStart) : null,
+                (flags & HAS_DATE_ISSUED_END) != 0 ? toLocalDateTime(dateIssuedEnd) : null
+        );
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,301 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.FAIL_COUPON_ISSUE_REQUEST;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestCouponsKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestDrainedKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestStreamKey;
+
+/**
+ * 발급 요청 Queue Redis 저장소
+ * coupon.queue.type 설정에 따라 List, Stream 또는 쿠폰별 List에 적재된 발급 요청의 조회, 복구, 처리 완료를 담당
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueQueueRepository {
+    private static final long SCAN_COUNT = 1000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponRedisKeys couponRedisKeys;
+    private final RedisScript<Long> couponQueueCompleteScript = RedisScript.of(new ClassPathResource("scripts/coupon-queue-complete.lua"), Long.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${coupon.queue.type:list}")
+    private CouponIssueQueueType queueType;
+
+    /**
+     * 발급 요청 Queue에 요청 추가 (Dead Letter Queue 재처리 등 쿠폰 ID를 따로 알 수 없는 경우)
+     * 쿠폰별 Queue 모드라면 요청을 역직렬화하여 쿠폰 ID를 확인
+     * @param value 직렬화된 발급 요청
+     */
+    public void issueRequestQueuePush(String value) {
+        if (queueType != CouponIssueQueueType.PER_COUPON) {
+            issueRequestQueuePush(0, value);
+            return;
+        }
+        try {
+            issueRequestQueuePush(objectMapper.readValue(value, CouponIssueRequest.class).couponId(), value);
+        } catch (JsonProcessingException e) {
+            throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(value));
+        }
+    }
+
+    /**
+     * 발급 요청 Queue에 요청 추가
+     * coupon.queue.type 설정에 따라 List(RPUSH), Stream(XADD) 또는 쿠폰별 List(RPUSH)에 저장
+     * @param couponId 쿠폰 ID (쿠폰별 Queue 모드에서만 사용)
+     * @param value 직렬화된 발급 요청
+     */
+    public void issueRequestQueuePush(long couponId, String value) {
+        if (queueType == CouponIssueQueueType.STREAM) {
+            redisTemplate.opsForStream().add(getIssueRequestStreamKey(), Map.of(CouponIssueStreamRepository.STREAM_FIELD, value));
+            return;
+        }
+        redisTemplate.opsForList().rightPush(issueRequestQueueKey(couponId), value);
+        registerCouponQueue(couponId, CouponIssueRequestCode.SUCCESS);
+    }
+
+    /**
+     * 발급 요청 Queue에 쌓인 요청 수
+     * coupon.queue.type 설정에 따라 List 길이(LLEN), Stream 길이(XLEN) 또는 쿠폰별 List 길이의 합 반환
+     */
+    public long issueRequestQueueSize() {
+        if (queueType == CouponIssueQueueType.PER_COUPON) {
+            return pipelineCouponQueues(issueRequestQueueCoupons(), (connection, key) -> connection.listCommands().lLen(key)).stream()
+                    .mapToLong(size -> size == null ? 0 : (Long) size)
+                    .sum();
+        }
+        Long size = queueType == CouponIssueQueueType.STREAM
+                ? redisTemplate.opsForStream().size(getIssueRequestStreamKey())
+                : redisTemplate.opsForList().size(getIssueRequestQueueKey());
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 발급 요청 Queue에서 가장 오래된 요청 조회 (제거하지 않음)
+     * List는 첫 번째 요소(LINDEX 0), Stream은 첫 번째 엔트리(XRANGE - + COUNT 1)
+     * 쿠폰별 Queue는 각 Queue의 첫 번째 요소 중 적재 시각이 가장 이른 요청
+     * @return 직렬화된 발급 요청, Queue가 비어있으면 null
+     */
+    public String issueRequestQueueHead() {
+        if (queueType == CouponIssueQueueType.PER_COUPON) {
+            return oldestCouponQueueHead();
+        }
+        if (queueType == CouponIssueQueueType.STREAM) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                    .range(getIssueRequestStreamKey(), Range.unbounded(), Limit.limit().count(1));
+            if (records == null || records.isEmpty()) {
+                return null;
+            }
+            return String.valueOf(records.get(0).getValue().get(CouponIssueStreamRepository.STREAM_FIELD));
+        }
+        return redisTemplate.opsForList().index(getIssueRequestQueueKey(), 0);
+    }
+
+    /**
+     * 쿠폰별 Queue에 처리할 요청이 있는 쿠폰 ID 목록 조회
+     */
+    public List<Long> issueRequestQueueCoupons() {
+        Set<String> couponIds = redisTemplate.opsForSet().members(getIssueRequestCouponsKey());
+        if (couponIds == null) {
+            return List.of();
+        }
+        return couponIds.stream().map(Long::parseLong).toList();
+    }
+
+    /**
+     * 비어있는 쿠폰별 Queue를 쿠폰 ID 목록에서 제거
+     * 제거 직후 Queue 길이를 다시 확인하여, 그 사이 API가 적재한 요청이 있다면 목록에 다시 등록
+     * (API는 적재 후 등록하므로 제거 전에 적재된 요청은 재확인에서, 제거 후에 적재된 요청은 API의 등록으로 발견됨)
+     * @return 목록에서 제거되었으면 true
+     */
+    public boolean unregisterCouponQueue(long couponId) {
+        String couponIdValue = String.valueOf(couponId);
+        redisTemplate.opsForSet().remove(getIssueRequestCouponsKey(), couponIdValue);
+        Long size = redisTemplate.opsForList().size(couponRedisKeys.getCouponIssueQueueKey(couponId));
+        if (size != null && size > 0) {
+            redisTemplate.opsForSet().add(getIssueRequestCouponsKey(), couponIdValue);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 쿠폰 ID 목록에 등록되지 않은 쿠폰별 Queue 복구
+     * 쿠폰 ID 목록 Set은 쿠폰 키와 다른 슬롯에 있어 적재와 원자적으로 등록할 수 없으므로,
+     * 적재 직후 등록 전에 API가 종료되면 Queue가 목록에서 빠진 채 남을 수 있음
+     * 쿠폰별 Queue 키를 SCAN으로 찾아 목록에 다시 등록 (비어있는 List는 Redis가 삭제하므로 찾은 Queue는 모두 처리할 요청이 있음)
+     * Cluster 연결이면 각 master 노드를 SCAN
+     * @return 새로 등록된 쿠폰 수
+     */
+    public long recoverCouponQueues() {
+        ScanOptions options = ScanOptions.scanOptions().match(couponRedisKeys.getCouponIssueQueueKeyPattern()).count(SCAN_COUNT).build();
+        List<String> couponIds = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> found = new ArrayList<>();
+            if (connection instanceof RedisClusterConnection clusterConnection) {
+                for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+                    if (node.isMaster()) {
+                        collectCouponQueues(clusterConnection.scan(node, options), found);
+                    }
+                }
+            } else {
+                collectCouponQueues(connection.keyCommands().scan(options), found);
+            }
+            return found;
+        });
+        if (couponIds == null || couponIds.isEmpty()) {
+            return 0;
+        }
+        Long added = redisTemplate.opsForSet().add(getIssueRequestCouponsKey(), couponIds.toArray(String[]::new));
+        return added == null ? 0 : added;
+    }
+
+    /**
+     * 쿠폰별 Queue 처리 권한 획득 (SET NX PX)
+     * 조회(LRANGE)부터 제거(LTRIM)까지 한 Consumer만 같은 Queue를 처리하도록 점유
+     * @param owner 점유하는 Consumer 이름
+     * @param ttl 점유 기간 (처리 도중 Consumer가 종료되면 기간이 지난 뒤 다른 Consumer가 이어서 처리)
+     * @return 획득했으면 true
+     */
+    public boolean claimCouponQueue(long couponId, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(couponRedisKeys.getCouponIssueQueueClaimKey(couponId), owner, ttl));
+    }
+
+    /**
+     * 처리를 마친 요청을 쿠폰별 Queue 앞쪽에서 제거(LTRIM)하고 처리 권한 반납 (Lua 스크립트 한 번으로 원자적으로 실행)
+     * 점유 기간이 지나 다른 Consumer가 권한을 가져갔다면 제거하지 않음 (요청은 Queue에 남아 다시 처리되며 중복은 DB 중복 발급 검증으로 걸러짐)
+     * @param owner 점유한 Consumer 이름
+     * @param count Queue 앞쪽에서 제거할 요청 수 (0이면 권한만 반납)
+     * @return 권한을 보유한 상태로 제거했으면 true
+     */
+    public boolean completeCouponQueue(long couponId, String owner, long count) {
+        Long completed = redisTemplate.execute(
+                couponQueueCompleteScript,
+                List.of(couponRedisKeys.getCouponIssueQueueKey(couponId), couponRedisKeys.getCouponIssueQueueClaimKey(couponId)),
+                owner, String.valueOf(count)
+        );
+        return completed != null && completed == 1L;
+    }
+
+    /**
+     * Consumer가 처리 완료한 발급 요청 수 누적
+     * @param count 처리 완료한 요청 수 (DB 반영, Dead Letter Queue 이동 모두 포함)
+     */
+    public void incrementIssueRequestDrained(long count) {
+        redisTemplate.opsForValue().increment(getIssueRequestDrainedKey(), count);
+    }
+
+    /**
+     * Consumer가 처리 완료한 발급 요청 누적 수 조회
+     * @return 누적 처리 수, 카운터가 없으면 0
+     */
+    public long issueRequestDrained() {
+        String drained = redisTemplate.opsForValue().get(getIssueRequestDrainedKey());
+        return drained == null ? 0 : Long.parseLong(drained);
+    }
+
+    /**
+     * 발급 요청 Queue 키 조회
+     * coupon.queue.type 설정에 따라 List 키, Stream 키 또는 쿠폰별 List 키 반환
+     */
+    String issueRequestQueueKey(long couponId) {
+        return switch (queueType) {
+            case LIST -> getIssueRequestQueueKey();
+            case STREAM -> getIssueRequestStreamKey();
+            case PER_COUPON -> couponRedisKeys.getCouponIssueQueueKey(couponId);
+        };
+    }
+
+    /**
+     * 쿠폰별 Queue에 요청을 적재했다면 Consumer가 찾을 수 있도록 쿠폰 ID 목록에 등록
+     * 전역 목록 Set은 쿠폰 키와 다른 슬롯에 있어 발급 Lua 스크립트 안에서 함께 갱신할 수 없으므로 스크립트 실행 후 별도로 등록
+     * 적재 성공 요청(쿠폰 총 수량 이내)에만 실행되므로 매진 이후의 거절 요청에는 추가 호출이 없음
+     */
+    CouponIssueRequestCode registerCouponQueue(long couponId, CouponIssueRequestCode code) {
+        if (code.isSuccess() && queueType == CouponIssueQueueType.PER_COUPON) {
+            redisTemplate.opsForSet().add(getIssueRequestCouponsKey(), String.valueOf(couponId));
+        }
+        return code;
+    }
+
+    /**
+     * 쿠폰별 Queue의 첫 번째 요소 중 적재 시각이 가장 이른 요청 조회
+     * 적재 시각을 확인할 수 없는 요청은 비교에서 제외
+     */
+    private String oldestCouponQueueHead() {
+        String oldest = null;
+        long oldestEnqueuedAt = Long.MAX_VALUE;
+        for (Object value : pipelineCouponQueues(issueRequestQueueCoupons(), (connection, key) -> connection.listCommands().lIndex(key, 0))) {
+            if (value == null) {
+                continue;
+            }
+            String head = String.valueOf(value);
+            try {
+                long enqueuedAt = objectMapper.readValue(head, CouponIssueRequest.class).enqueuedAt();
+                if (enqueuedAt > 0 && enqueuedAt < oldestEnqueuedAt) {
+                    oldest = head;
+                    oldestEnqueuedAt = enqueuedAt;
+                }
+            } catch (JsonProcessingException e) {
+                // 파싱할 수 없는 요청은 Consumer가 Dead Letter Queue로 이동
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * SCAN 결과의 쿠폰별 Queue 키에서 쿠폰 ID 수집
+     */
+    private void collectCouponQueues(Cursor<byte[]> cursor, List<String> couponIds) {
+        try (cursor) {
+            cursor.forEachRemaining(key -> {
+                Long couponId = couponRedisKeys.getCouponIdFromIssueQueueKey(redisTemplate.getStringSerializer().deserialize(key));
+                if (couponId != null) {
+                    couponIds.add(String.valueOf(couponId));
+                }
+            });
+        }
+    }
+
+    /**
+     * 쿠폰별 Queue마다 같은 명령을 파이프라인으로 한 번에 전송
+     * 쿠폰 수만큼 왕복하지 않도록 명령을 모아 보내고 쿠폰 순서대로 응답을 반환 (문자열 응답은 역직렬화)
+     * Cluster 배치에서는 Lettuce가 슬롯별 노드로 나눠 전송
+     */
+    private List<Object> pipelineCouponQueues(List<Long> couponIds, BiConsumer<RedisConnection, byte[]> command) {
+        if (couponIds.isEmpty()) {
+            return List.of();
+        }
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            couponIds.forEach(couponId -> command.accept(connection, redisTemplate.getStringSerializer().serialize(couponRedisKeys.getCouponIssueQueueKey(couponId))));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package com.hexagonal.couponcore.repository.redis;
+
+/**
+ * 쿠폰 발급 요청 Queue 저장 방식
+ */
+public enum CouponIssueQueueType {
+    LIST,       // Redis List (단일 Consumer, peek-then-pop)
+    STREAM,     // Redis Stream (Consumer Group 기반 다중 Consumer)
+    PER_COUPON  // 쿠폰별 Redis List (Redis Cluster 용, Consumer가 쿠폰 ID 목록 Set으로 Queue를 찾아 처리)
+}
@@ -5,14 +5,22 @@ import com.hexagonal.couponcore.exception.ErrorCode;
 
 /**
  * 쿠폰 발급 요청 결과 코드
+ * V2 발급 경로는 예외 대신 이 코드를 그대로 반환하며, 실패 코드는 대응하는 ErrorCode를 가짐
  */
 public enum CouponIssueRequestCode {
 
-    SUCCESS(1),   // 발급 성공
-    DUPLICATED_COUPON_ISSUE(2),  // 중복 발급
-    INVALID_COUPON_ISSUE_QUANTITY(3);   // 수량 초과
+    SUCCESS(1, null),   // 발급 성공
+    DUPLICATED_COUPON_ISSUE(2, ErrorCode.DUPLICATED_COUPON_ISSUE),  // 중복 발급
+    INVALID_COUPON_ISSUE_QUANTITY(3, ErrorCode.INVALID_COUPON_ISSUE_QUANTITY),   // 수량 초과
+    INVALID_COUPON_ISSUE_DATE(4, ErrorCode.INVALID_COUPON_ISSUE_DATE),   // 발급 기간 아님
+    COUPON_META_NOT_EXIST(5, ErrorCode.FAIL_COUPON_ISSUE_REQUEST),   // Redis에 쿠폰 메타 정보 없음
+    COUPON_NOT_EXIST(6, ErrorCode.COUPON_NOT_EXIST),   // 존재하지 않는 쿠폰 (서버 측 검증 스크립트는 메타 정보에 존재하지 않는 쿠폰으로 기록된 경우 반환)
+    WAITING_ROOM_REQUIRED(7, ErrorCode.WAITING_ROOM_REQUIRED);   // 대기열을 운영 중인 쿠폰에 대기열을 거치지 않고 직접 발급 요청 (Lua 스크립트가 아닌 API에서 반환)
 
-    CouponIssueRequestCode(int code) {
+    public final ErrorCode errorCode;
+
+    CouponIssueRequestCode(int code, ErrorCode errorCode) {
+        this.errorCode = errorCode;
     }
 
     public static CouponIssueRequestCode find(String code) {
@@ -21,10 +29,17 @@ public enum CouponIssueRequestCode {
         if (codeValue == 1) return SUCCESS;
         if (codeValue == 2) return DUPLICATED_COUPON_ISSUE;
         if (codeValue == 3) return INVALID_COUPON_ISSUE_QUANTITY;
+        if (codeValue == 4) return INVALID_COUPON_ISSUE_DATE;
+        if (codeValue == 5) return COUPON_META_NOT_EXIST;
+        if (codeValue == 6) return COUPON_NOT_EXIST;
 
         throw new IllegalArgumentException("존재하지 않는 코드입니다. %s".formatted(code));
     }
 
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+
     /**
      * 발급 결과 코드 검증
      * @param code
@@ -36,5 +51,17 @@ public enum CouponIssueRequestCode {
         if (code == DUPLICATED_COUPON_ISSUE) {
             throw new CouponIssueException(ErrorCode.DUPLICATED_COUPON_ISSUE, "이미 발급 요청된 쿠폰입니다.");
         }
+        if (code == INVALID_COUPON_ISSUE_DATE) {
+            throw new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_DATE, "발급 가능한 일자가 아닙니다.");
+        }
+        if (code == COUPON_META_NOT_EXIST) {
+            throw new CouponIssueException(ErrorCode.FAIL_COUPON_ISSUE_REQUEST, "쿠폰 메타 정보가 존재하지 않습니다.");
+        }
+        if (code == COUPON_NOT_EXIST) {
+            throw new CouponIssueException(ErrorCode.COUPON_NOT_EXIST, "쿠폰 정책이 존재하지 않습니다.");
+        }
+        if (code == WAITING_ROOM_REQUIRED) {
+            throw new CouponIssueException(ErrorCode.WAITING_ROOM_REQUIRED, "대기열을 운영 중인 쿠폰입니다.");
+        }
     }
 }
@@ -0,0 +1,325 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.FAIL_COUPON_ISSUE_REQUEST;
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getCouponSoldOutChannel;
+
+/**
+ * 발급 요청 Redis 저장소
+ * 중복, 수량(또는 재고 임대), 서버 측 발급 기간 검증과 Queue 적재를 Lua 스크립트 한 번으로 원자적으로 처리
+ * 적재 대상 Queue 키와 쿠폰별 Queue 등록은 CouponIssueQueueRepository 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueRequestRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponRedisKeys couponRedisKeys;
+    private final CouponIssueQueueRepository couponIssueQueueRepository;
+    private final RedisScript<String> issueScript = RedisScript.of(new ClassPathResource("scripts/issue-request.lua"), String.class);
+    private final RedisScript<String> issueWithValidationScript = RedisScript.of(new ClassPathResource("scripts/issue-request-with-validation.lua"), String.class);
+    private final RedisScript<String> issueWithoutQuantityScript = RedisScript.of(new ClassPathResource("scripts/issue-request-without-quantity.lua"), String.class);
+    private final RedisScript<List> issueBatchScript = RedisScript.of(new ClassPathResource("scripts/issue-request-batch.lua"), List.class);
+    private final RedisScript<List> issueBatchWithoutQuantityScript = RedisScript.of(new ClassPathResource("scripts/issue-request-batch-without-quantity.lua"), List.class);
+    private final RedisScript<Long> couponMetaPutScript = RedisScript.of(new ClassPathResource("scripts/coupon-meta-put.lua"), Long.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> scriptTimers = new ConcurrentHashMap<>();
+    private final Map<CouponIssueRequestCode, Counter[]> resultCounters = new ConcurrentHashMap<>();
+
+    @Value("${coupon.queue.type:list}")
+    private CouponIssueQueueType queueType;
+
+    @Value("${coupon.metrics.coupon-buckets:16}")
+    private int couponBuckets;
+
+    @Value("${coupon.issue.batch.script-chunk-size:500}")
+    private int batchScriptChunkSize;
+
+    @Value("${coupon.sold-out.default-ttl-seconds:86400}")
+    private long soldOutDefaultTtlSeconds;
+
+    @Value("${coupon.issue.server-side-validation.meta-ttl-seconds:600}")
+    private long couponMetaTtlSeconds;
+
+    @Value("${coupon.issue.server-side-validation.negative-ttl-seconds:5}")
+    private long couponMetaNegativeTtlSeconds;
+
+    /**
+     * Lua 스크립트를 사용한 원자적 쿠폰 발급 요청 처리
+     * @param couponId
+     * @param userId
+     * @param totalIssueQuantity
+     * 결과 코드가 실패이면 CouponIssueException 발생
+     */
+    public void issueRequest(long couponId, long userId, int totalIssueQuantity) {
+        CouponIssueRequestCode.checkRequestResult(tryIssueRequest(couponId, userId, totalIssueQuantity));
+    }
+
+    /**
+     * Lua 스크립트를 사용한 원자적 쿠폰 발급 요청 처리 (예외 없이 결과 코드 반환)
+     * 발급 종료 일시를 모르므로 매진 마커는 coupon.sold-out.default-ttl-seconds 동안 유지
+     * @param couponId
+     * @param userId
+     * @param totalIssueQuantity
+     * @return 발급 결과 코드 (1: 성공, 2: 중복발급, 3: 수량초과)
+     */
+    public CouponIssueRequestCode tryIssueRequest(long couponId, long userId, int totalIssueQuantity) {
+        return tryIssueRequest(couponId, userId, totalIssueQuantity, null);
+    }
+
+    /**
+     * Lua 스크립트를 사용한 원자적 쿠폰 발급 요청 처리 (예외 없이 결과 코드 반환)
+     * @param totalIssueQuantity 쿠폰 총 발급 수량
+     * @param dateIssuedEnd 발급 종료 일시, 매진 마커는 이 시각에 만료 (null이면 기본 유지 시간)
+     * @return 발급 결과 코드 (1: 성공, 2: 중복발급, 3: 수량초과)
+     */
+    public CouponIssueRequestCode tryIssueRequest(long couponId, long userId, int totalIssueQuantity, LocalDateTime dateIssuedEnd) {
+        String issueRequestKey = couponRedisKeys.getIssueRequestKey(couponId);
+        CouponIssueRequest couponIssueRequest = new CouponIssueRequest(couponId, userId);
+
+        try {
+            // Lua 스크립트 실행으로 원자적 처리 보장
+            String code = executeIssueScript(
+                    "issue",
+                    issueScript,
+                    List.of(issueRequestKey, couponIssueQueueRepository.issueRequestQueueKey(couponId), couponRedisKeys.getCouponSoldOutKey(couponId)),
+                    String.valueOf(userId),
+                    String.valueOf(totalIssueQuantity),
+                    objectMapper.writeValueAsString(couponIssueRequest),
+                    queueType.name(),
+                    getCouponSoldOutChannel(),
+                    String.valueOf(couponId),
+                    String.valueOf(soldOutTtlMillis(dateIssuedEnd))
+            );
+            return couponIssueQueueRepository.registerCouponQueue(couponId, recordResult(couponId, CouponIssueRequestCode.find(code)));
+        } catch (JsonProcessingException e) {
+            throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(couponIssueRequest));
+        }
+    }
+
+    /**
+     * 발급 기간, 수량, 중복 검증을 모두 Redis에서 수행하는 원자적 발급 요청 처리
+     * 쿠폰 메타 정보 Hash와 Redis 서버 시간(TIME)으로 검증하므로 캐시나 DB 조회가 필요 없음
+     * @return 발급 결과 코드 (메타 정보가 없으면 COUPON_META_NOT_EXIST, 존재하지 않는 쿠폰으로 기록되어 있으면 COUPON_NOT_EXIST)
+     */
+    public CouponIssueRequestCode issueRequestWithValidation(long couponId, long userId) {
+        CouponIssueRequest couponIssueRequest = new CouponIssueRequest(couponId, userId);
+        try {
+            String code = executeIssueScript(
+                    "issue-validation",
+                    issueWithValidationScript,
+                    List.of(couponRedisKeys.getCouponMetaKey(couponId), couponRedisKeys.getIssueRequestKey(couponId), couponIssueQueueRepository.issueRequestQueueKey(couponId), couponRedisKeys.getCouponSoldOutKey(couponId)),
+                    String.valueOf(userId),
+                    objectMapper.writeValueAsString(couponIssueRequest),
+                    queueType.name(),
+                    getCouponSoldOutChannel(),
+                    String.valueOf(couponId)
+            );
+            return couponIssueQueueRepository.registerCouponQueue(couponId, recordResult(couponId, CouponIssueRequestCode.find(code)));
+        } catch (JsonProcessingException e) {
+            throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(couponIssueRequest));
+        }
+    }
+
+    /**
+     * 발급 Lua 스크립트가 검증에 사용할 쿠폰 메타 정보 저장
+     * 총 발급 수량이 없는(무제한) 쿠폰은 Integer.MAX_VALUE로 저장
+     * 쿠폰 정보가 갱신되지 않더라도 meta-ttl-seconds 이후에는 다시 적재되도록 만료 시간을 함께 설정
+     */
+    public void putCouponMeta(CouponRedisEntity coupon) {
+        int totalQuantity = coupon.totalQuantity() == null ? Integer.MAX_VALUE : coupon.totalQuantity();
+        redisTemplate.execute(
+                couponMetaPutScript,
+                List.of(couponRedisKeys.getCouponMetaKey(coupon.id())),
+                String.valueOf(Duration.ofSeconds(couponMetaTtlSeconds).toMillis()),
+                "total", String.valueOf(totalQuantity),
+                "start", String.valueOf(toEpochMillis(coupon.dateIssuedStart())),
+                "end", String.valueOf(toEpochMillis(coupon.dateIssuedEnd()))
+        );
+    }
+
+    /**
+     * 존재하지 않는 쿠폰임을 쿠폰 메타 정보로 짧게 기록 (negative caching)
+     * 존재하지 않는 쿠폰 ID로 반복 요청이 들어와도 negative-ttl-seconds 동안은 캐시와 DB를 조회하지 않음
+     */
+    public void putCouponMetaNotExist(long couponId) {
+        redisTemplate.execute(
+                couponMetaPutScript,
+                List.of(couponRedisKeys.getCouponMetaKey(couponId)),
+                String.valueOf(Duration.ofSeconds(couponMetaNegativeTtlSeconds).toMillis()),
+                "missing", "1"
+        );
+    }
+
+    /**
+     * 쿠폰 메타 정보 삭제 (쿠폰 정보 갱신 시 다음 발급 요청에서 다시 적재)
+     */
+    public void evictCouponMeta(long couponId) {
+        redisTemplate.delete(couponRedisKeys.getCouponMetaKey(couponId));
+    }
+
+    /**
+     * 수량 체크 없이 중복 체크만 수행하는 원자적 발급 요청 처리
+     * 재고 임대 모드에서 수량은 API 노드가 임대받은 재고로 로컬 판단하므로 Redis에서는 중복 여부만 확인
+     * 적재에 성공하면 같은 스크립트에서 노드의 미사용 임대 수량을 1 차감
+     * @param nodeId 임대받은 API 노드 ID
+     * @return 발급 결과 코드 (SUCCESS, DUPLICATED_COUPON_ISSUE, 노드의 임대가 만료되어 회수되었다면 INVALID_COUPON_ISSUE_QUANTITY)
+     */
+    public CouponIssueRequestCode issueRequestWithoutQuantityCheck(long couponId, long userId, String nodeId) {
+        CouponIssueRequest couponIssueRequest = new CouponIssueRequest(couponId, userId);
+        try {
+            String code = executeIssueScript(
+                    "issue-lease",
+                    issueWithoutQuantityScript,
+                    List.of(couponRedisKeys.getIssueRequestKey(couponId), couponIssueQueueRepository.issueRequestQueueKey(couponId), couponRedisKeys.getIssueStockLeaseKey(couponId)),
+                    String.valueOf(userId),
+                    objectMapper.writeValueAsString(couponIssueRequest),
+                    queueType.name(),
+                    nodeId
+            );
+            return couponIssueQueueRepository.registerCouponQueue(couponId, recordResult(couponId, CouponIssueRequestCode.find(code)));
+        } catch (JsonProcessingException e) {
+            throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(couponIssueRequest));
+        }
+    }
+
+    /**
+     * 한 쿠폰에 대한 여러 사용자의 발급 요청을 Lua 스크립트 한 번에 처리 (사용자별 중복, 수량 체크는 단건 스크립트와 동일)
+     * 스크립트 실행 중에는 다른 명령이 대기하므로 script-chunk-size 단위로 나눠 실행
+     * @param userIds 요청 순서대로 정렬된 사용자 ID 목록
+     * @param totalIssueQuantity 쿠폰 총 발급 수량
+     * @param dateIssuedEnd 발급 종료 일시, 매진 마커는 이 시각에 만료 (null이면 기본 유지 시간)
+     * @return userIds와 같은 순서의 발급 결과 코드 목록
+     */
+    public List<CouponIssueRequestCode> tryIssueRequests(long couponId, List<Long> userIds, int totalIssueQuantity, LocalDateTime dateIssuedEnd) {
+        return executeIssueBatchScript(
+                "issue-batch",
+                issueBatchScript,
+                List.of(couponRedisKeys.getIssueRequestKey(couponId), couponIssueQueueRepository.issueRequestQueueKey(couponId), couponRedisKeys.getCouponSoldOutKey(couponId)),
+                List.of(String.valueOf(totalIssueQuantity), queueType.name(), getCouponSoldOutChannel(), String.valueOf(couponId),
+                        String.valueOf(soldOutTtlMillis(dateIssuedEnd))),
+                couponId,
+                userIds
+        );
+    }
+
+    /**
+     * 수량 체크 없이 중복 체크만 수행하는 일괄 발급 요청 처리 (재고 임대 모드)
+     * @param userIds 임대 재고를 확보한 사용자 ID 목록
+     * @param nodeId 임대받은 API 노드 ID
+     * @return userIds와 같은 순서의 발급 결과 코드 목록
+     *         (SUCCESS, DUPLICATED_COUPON_ISSUE, 노드의 임대가 만료되어 회수되었다면 INVALID_COUPON_ISSUE_QUANTITY)
+     */
+    public List<CouponIssueRequestCode> tryIssueRequestsWithoutQuantityCheck(long couponId, List<Long> userIds, String nodeId) {
+        return executeIssueBatchScript(
+                "issue-batch-lease",
+                issueBatchWithoutQuantityScript,
+                List.of(couponRedisKeys.getIssueRequestKey(couponId), couponIssueQueueRepository.issueRequestQueueKey(couponId), couponRedisKeys.getIssueStockLeaseKey(couponId)),
+                List.of(queueType.name(), nodeId),
+                couponId,
+                userIds
+        );
+    }
+
+    /**
+     * 매진 마커 유지 시간, 발급 종료 시각까지 (최소 1초)
+     */
+    private long soldOutTtlMillis(LocalDateTime dateIssuedEnd) {
+        if (dateIssuedEnd == null) {
+            return soldOutDefaultTtlSeconds * 1000;
+        }
+        return Math.max(toEpochMillis(dateIssuedEnd) - System.currentTimeMillis(), 1000);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 발급 Lua 스크립트 실행 시간 측정 (coupon.issue.redis.script{script})
+     */
+    private <T> T executeIssueScript(String scriptName, RedisScript<T> script, List<String> keys, Object... args) {
+        return scriptTimers.computeIfAbsent(scriptName, name -> Timer.builder("coupon.issue.redis.script")
+                        .description("발급 Lua 스크립트 실행 시간")
+                        .tag("script", name)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(() -> redisTemplate.execute(script, keys, args));
+    }
+
+    /**
+     * 일괄 발급 스크립트를 chunk 단위로 실행하고 결과 코드를 요청 순서대로 모아 반환
+     * @param fixedArgs 모든 chunk에 공통으로 전달할 앞쪽 인자
+     */
+    private List<CouponIssueRequestCode> executeIssueBatchScript(String scriptName, RedisScript<List> script, List<String> keys,
+                                                                 List<String> fixedArgs, long couponId, List<Long> userIds) {
+        List<CouponIssueRequestCode> codes = new ArrayList<>(userIds.size());
+        for (int from = 0; from < userIds.size(); from += batchScriptChunkSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + batchScriptChunkSize, userIds.size()));
+            List<Object> args = new ArrayList<>(fixedArgs.size() + chunk.size() * 2);
+            args.addAll(fixedArgs);
+            for (long userId : chunk) {
+                CouponIssueRequest couponIssueRequest = new CouponIssueRequest(couponId, userId);
+                try {
+                    args.add(String.valueOf(userId));
+                    args.add(objectMapper.writeValueAsString(couponIssueRequest));
+                } catch (JsonProcessingException e) {
+                    throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(couponIssueRequest));
+                }
+            }
+            List<?> results = executeIssueScript(scriptName, script, keys, args.toArray());
+            boolean enqueued = false;
+            for (Object result : results) {
+                CouponIssueRequestCode code = recordResult(couponId, CouponIssueRequestCode.find(String.valueOf(result)));
+                enqueued |= code.isSuccess();
+                codes.add(code);
+            }
+            if (enqueued) {
+                couponIssueQueueRepository.registerCouponQueue(couponId, CouponIssueRequestCode.SUCCESS);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * 발급 요청 결과 집계 (coupon.issue.request{result, coupon.bucket})
+     * 쿠폰 ID를 그대로 태그로 쓰면 시계열이 무한히 늘어나므로 coupon-buckets 개의 버킷으로 나눠 집계
+     * 결과 코드별로 모든 버킷의 카운터를 한 번에 등록해 두고 이후 요청은 배열 조회만 수행
+     */
+    private CouponIssueRequestCode recordResult(long couponId, CouponIssueRequestCode code) {
+        resultCounters.computeIfAbsent(code, this::resultCounters)[Math.floorMod(couponId, couponBuckets)].increment();
+        return code;
+    }
+
+    private Counter[] resultCounters(CouponIssueRequestCode code) {
+        Counter[] counters = new Counter[couponBuckets];
+        for (int bucket = 0; bucket < couponBuckets; bucket++) {
+            counters[bucket] = meterRegistry.counter("coupon.issue.request",
+                    "result", code.name(),
+                    "coupon.bucket", String.valueOf(bucket));
+        }
+        return counters;
+    }
+}
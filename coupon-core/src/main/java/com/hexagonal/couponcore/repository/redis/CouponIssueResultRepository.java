@@ -0,0 +1,81 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueResultChannel;
+
+/**
+ * 발급 요청 처리 결과 Redis 저장소
+ * Consumer가 기록한 처리 결과와 발급 요청 이력으로 사용자별 처리 상태 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueResultRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponRedisKeys couponRedisKeys;
+    private final RedisScript<Long> issueResultScript = RedisScript.of(new ClassPathResource("scripts/issue-result.lua"), Long.class);
+    private final RedisScript<List> issueStatusScript = RedisScript.of(new ClassPathResource("scripts/issue-status.lua"), List.class);
+
+    /**
+     * 발급 요청 처리 결과 기록 후 결과 채널로 알림 (Lua 스크립트 한 번으로 HSET, EXPIRE, PUBLISH)
+     * 결과 기록 여부 키도 함께 남겨, 결과 Hash가 만료된 뒤에도 처리 대기 중인 요청과 구분할 수 있도록 함
+     * @param results 사용자 ID별 처리 결과
+     * @param ttl 결과 보관 기간
+     */
+    public void recordIssueResults(long couponId, Map<Long, CouponIssueResult> results, Duration ttl) {
+        List<Object> args = new ArrayList<>(results.size() * 2 + 3);
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(getIssueResultChannel());
+        args.add(couponId + ":" + results.keySet().stream().map(String::valueOf).collect(Collectors.joining(",")));
+        results.forEach((userId, result) -> {
+            args.add(String.valueOf(userId));
+            args.add(result.toValue());
+        });
+        redisTemplate.execute(issueResultScript, List.of(couponRedisKeys.getIssueResultKey(couponId), couponRedisKeys.getIssueResultRecordedKey(couponId)), args.toArray());
+    }
+
+    /**
+     * 발급 요청 처리 상태 조회 (Lua 스크립트 한 번으로 결과 Hash, 발급 요청 Set 확인)
+     * 1. 결과가 있으면 결과 (ISSUED, FAILED)
+     * 2. 발급 요청 이력이 없으면 NOT_REQUESTED
+     * 3. 결과 Hash가 만료되었는데 결과를 기록한 적이 있으면 UNKNOWN (결과 보관 기간이 지난 요청)
+     *    결과 Hash는 통째로 만료되므로 Hash가 남아 있는데 결과가 없다면 아직 처리되지 않은 요청
+     * 4. 그 외에는 PENDING
+     */
+    public CouponIssueResult issueStatus(long couponId, long userId) {
+        List<?> reply = redisTemplate.execute(
+                issueStatusScript,
+                List.of(couponRedisKeys.getIssueResultKey(couponId), couponRedisKeys.getIssueRequestKey(couponId), couponRedisKeys.getIssueResultRecordedKey(couponId)),
+                String.valueOf(userId)
+        );
+        String value = String.valueOf(reply.get(1));
+        if ("result".equals(String.valueOf(reply.get(0)))) {
+            return CouponIssueResult.fromValue(value);
+        }
+        return switch (CouponIssueResult.Status.valueOf(value)) {
+            case NOT_REQUESTED -> CouponIssueResult.NOT_REQUESTED;
+            case UNKNOWN -> CouponIssueResult.UNKNOWN;
+            default -> CouponIssueResult.PENDING;
+        };
+    }
+
+    /**
+     * 발급 요청 처리 결과 조회
+     * @return 처리 결과, 아직 처리되지 않았으면 null
+     */
+    public CouponIssueResult issueResult(long couponId, long userId) {
+        Object value = redisTemplate.opsForHash().get(couponRedisKeys.getIssueResultKey(couponId), String.valueOf(userId));
+        return value == null ? null : CouponIssueResult.fromValue(value.toString());
+    }
+}
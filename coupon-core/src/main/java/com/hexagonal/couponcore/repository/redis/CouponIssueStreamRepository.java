@@ -0,0 +1,92 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueStreamEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 발급 요청 Stream Redis 저장소 (coupon.queue.type=stream)
+ * Consumer Group 생성, 조회, ACK, Pending 엔트리 회수 담당
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueStreamRepository {
+    static final String STREAM_FIELD = "request";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> streamGroupCreateScript = RedisScript.of(new ClassPathResource("scripts/stream-group-create.lua"), Long.class);
+    private final RedisScript<Long> streamAckScript = RedisScript.of(new ClassPathResource("scripts/stream-ack.lua"), Long.class);
+    private final RedisScript<List> streamAutoClaimScript = RedisScript.of(new ClassPathResource("scripts/stream-auto-claim.lua"), List.class);
+
+    /**
+     * Stream Consumer Group 생성 (XGROUP CREATE ... MKSTREAM)
+     * 이미 그룹이 존재하면 아무 작업도 하지 않음
+     * @return 새로 생성했으면 true
+     */
+    public boolean xGroupCreate(String key, String group) {
+        Long created = redisTemplate.execute(streamGroupCreateScript, List.of(key), group);
+        return created != null && created == 1L;
+    }
+
+    /**
+     * Consumer Group으로 아직 전달되지 않은 엔트리를 최대 count개 조회 (XREADGROUP ... >)
+     * 조회된 엔트리는 XACK 전까지 해당 Consumer의 Pending 목록에 남음
+     */
+    public List<CouponIssueStreamEntry> xReadGroup(String key, String group, String consumer, long count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(key, ReadOffset.lastConsumed())
+        );
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .map(record -> new CouponIssueStreamEntry(record.getId().getValue(), String.valueOf(record.getValue().get(STREAM_FIELD))))
+                .toList();
+    }
+
+    /**
+     * 처리 완료된 엔트리를 ACK 후 Stream에서 삭제 (XACK + XDEL)
+     * 처리 완료된 엔트리가 Stream에 계속 쌓이지 않도록 함께 삭제
+     */
+    public void xAckDel(String key, String group, List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Object[] args = Stream.concat(Stream.of(group), ids.stream()).toArray();
+        redisTemplate.execute(streamAckScript, List.of(key), args);
+    }
+
+    /**
+     * 일정 시간 이상 ACK 되지 않은 Pending 엔트리를 현재 Consumer로 회수 (XAUTOCLAIM, Redis 6.2+)
+     * 처리 도중 종료된 Consumer의 요청을 다른 Consumer가 이어서 처리하기 위해 사용
+     * @param minIdleMillis 회수 대상이 되는 최소 미처리 시간
+     * @param count 최대 회수 개수
+     */
+    @SuppressWarnings("unchecked")
+    public List<CouponIssueStreamEntry> xAutoClaim(String key, String group, String consumer, long minIdleMillis, long count) {
+        List<String> claimed = redisTemplate.execute(streamAutoClaimScript, List.of(key),
+                group, consumer, String.valueOf(minIdleMillis), String.valueOf(count));
+        if (claimed == null) {
+            return List.of();
+        }
+        List<CouponIssueStreamEntry> entries = new ArrayList<>(claimed.size() / 2);
+        for (int i = 0; i + 1 < claimed.size(); i += 2) {
+            entries.add(new CouponIssueStreamEntry(claimed.get(i), claimed.get(i + 1)));
+        }
+        return entries;
+    }
+}
@@ -62,6 +62,21 @@ public record CouponRedisEntity(
         }
     }
 
+    /**
+     * 쿠폰 발급 가능 여부를 예외 없이 결과 코드로 반환
+     * 발급 거절이 대부분인 V2 요청 경로에서 예외 생성과 메시지 포맷팅 비용을 피하기 위해 사용
+     * @return SUCCESS, INVALID_COUPON_ISSUE_QUANTITY, INVALID_COUPON_ISSUE_DATE 중 하나
+     */
+    public CouponIssueRequestCode checkIssuable() {
+        if (!availableIssueQuantity) {
+            return CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY;
+        }
+        if (!availableIssueDate()) {
+            return CouponIssueRequestCode.INVALID_COUPON_ISSUE_DATE;
+        }
+        return CouponIssueRequestCode.SUCCESS;
+    }
+
     private boolean availableIssueDate() {
         LocalDateTime now = LocalDateTime.now();
         return dateIssuedStart.isBefore(now) && dateIssuedEnd.isAfter(now);
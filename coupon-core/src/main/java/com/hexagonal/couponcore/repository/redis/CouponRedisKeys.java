@@ -0,0 +1,208 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.hexagonal.couponcore.util.CouponRedisKeyLayout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰별 Redis 키 생성 컴포넌트
+ * 쿠폰별 키는 coupon.redis.key-layout 설정(CouponRedisKeyLayout)에 따라 형식이 달라짐
+ * - STANDARD: "issue.request.couponId=123" 형식
+ * - CLUSTER: "{coupon:123}:issued" 형식, 한 쿠폰의 키가 모두 같은 슬롯에 배치되어 Lua 스크립트에서 함께 사용 가능
+ * 배치 방식은 Spring 설정(프로파일)에서만 결정하며, 배치 방식과 관계없는 전역 키와 채널은 CouponRedisUtils 사용
+ */
+@Component
+public class CouponRedisKeys {
+    private final CouponRedisKeyLayout keyLayout;
+
+    public CouponRedisKeys(@Value("${coupon.redis.key-layout:standard}") CouponRedisKeyLayout keyLayout) {
+        this.keyLayout = keyLayout;
+    }
+
+    public CouponRedisKeyLayout getKeyLayout() {
+        return keyLayout;
+    }
+
+    /**
+     * 특정 쿠폰의 발급 요청 Set을 위한 Redis 키 생성
+     * - 각 쿠폰별로 고유한 Set을 생성하여 발급 요청한 사용자 ID들을 관리
+     * - 사용 예: "issue.request.couponId=123", "{coupon:123}:issued"
+     * @param couponId 쿠폰 ID
+     * @return Redis Set 키
+     */
+    public String getIssueRequestKey(long couponId) {
+        return couponKey("issue.request.couponId=%s", "issued", couponId);
+    }
+
+    /**
+     * 특정 쿠폰의 발급 요청 Queue를 위한 Redis 키 생성
+     * - coupon.queue.type=per-coupon 일 때 사용되는 쿠폰별 List의 키
+     * - 발급 요청 Set과 같은 슬롯에 배치되므로 Redis Cluster에서도 발급 Lua 스크립트 하나로 중복 체크와 적재 가능
+     * - 사용 예: "issue.request.queue.couponId=123", "{coupon:123}:queue"
+     * @param couponId 쿠폰 ID
+     * @return Redis List 키
+     */
+    public String getCouponIssueQueueKey(long couponId) {
+        return couponKey("issue.request.queue.couponId=%s", "queue", couponId);
+    }
+
+    /**
+     * 쿠폰별 발급 요청 Queue 키 검색 패턴
+     * - 쿠폰 ID 목록 Set에 등록되지 못한 Queue를 SCAN으로 찾아 다시 등록하기 위해 사용
+     * - 사용 예: "issue.request.queue.couponId=*", "{coupon:*}:queue"
+     * @return SCAN MATCH 패턴
+     */
+    public String getCouponIssueQueueKeyPattern() {
+        return couponKey("issue.request.queue.couponId=%s", "queue", "*");
+    }
+
+    /**
+     * 쿠폰별 발급 요청 Queue 키에서 쿠폰 ID 추출
+     * @param key getCouponIssueQueueKey로 생성된 키
+     * @return 쿠폰 ID, 쿠폰별 Queue 키 형식이 아니면 null
+     */
+    public Long getCouponIdFromIssueQueueKey(String key) {
+        String pattern = getCouponIssueQueueKeyPattern();
+        int wildcard = pattern.indexOf('*');
+        String prefix = pattern.substring(0, wildcard);
+        String suffix = pattern.substring(wildcard + 1);
+        if (key.length() <= prefix.length() + suffix.length() || !key.startsWith(prefix) || !key.endsWith(suffix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(key.substring(prefix.length(), key.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 쿠폰별 발급 요청 Queue 처리 권한(claim)을 위한 Redis 키 생성
+     * - Consumer가 Queue 앞쪽을 조회(LRANGE)하고 DB 반영 후 제거(LTRIM)하는 동안 다른 Consumer가 같은 Queue를 처리하지 않도록 SET NX PX로 점유
+     * - 값은 점유한 Consumer 이름이며, 점유 기간이 지나면 다른 Consumer가 이어서 처리
+     * - 사용 예: "issue.request.queue.claim.couponId=123", "{coupon:123}:queue.claim"
+     * @param couponId 쿠폰 ID
+     * @return Redis String 키
+     */
+    public String getCouponIssueQueueClaimKey(long couponId) {
+        return couponKey("issue.request.queue.claim.couponId=%s", "queue.claim", couponId);
+    }
+
+    /**
+     * 쿠폰별 미할당 재고 카운터를 위한 Redis 키 생성
+     * - 재고 임대(lease) 모드에서 API 노드들이 수량 블록을 나눠 가져가는 공유 카운터
+     * - 최초 임대 시 (총 수량 - 발급 요청 Set 크기)로 초기화
+     * - 사용 예: "issue.stock.couponId=123", "{coupon:123}:stock"
+     * @param couponId 쿠폰 ID
+     * @return Redis String 키
+     */
+    public String getIssueStockKey(long couponId) {
+        return couponKey("issue.stock.couponId=%s", "stock", couponId);
+    }
+
+    /**
+     * 쿠폰별 노드 임대 현황을 위한 Redis 키 생성
+     * - 필드 "노드ID": 노드가 임대받았지만 아직 발급 요청으로 사용하거나 반납하지 않은 수량
+     * - 필드 "노드ID:expires": 임대 만료 시각 (epoch millis), 노드가 주기적으로 갱신
+     * - 만료된 노드(비정상 종료 등)의 미사용 수량은 다른 노드가 임대할 때 미할당 재고로 회수
+     * - 사용 예: "issue.stock.lease.couponId=123", "{coupon:123}:stock.lease"
+     * @param couponId 쿠폰 ID
+     * @return Redis Hash 키
+     */
+    public String getIssueStockLeaseKey(long couponId) {
+        return couponKey("issue.stock.lease.couponId=%s", "stock.lease", couponId);
+    }
+
+    /**
+     * 쿠폰 매진 마커를 위한 Redis 키 생성
+     * - 발급 Lua 스크립트가 처음으로 수량 초과를 반환할 때 SET NX로 기록
+     * - 마커 기록에 성공한 요청만 매진 채널로 PUBLISH 하여 매진 알림이 한 번만 전파되도록 함
+     * - 사용 예: "coupon.sold-out.couponId=123", "{coupon:123}:sold-out"
+     * @param couponId 쿠폰 ID
+     * @return Redis String 키
+     */
+    public String getCouponSoldOutKey(long couponId) {
+        return couponKey("coupon.sold-out.couponId=%s", "sold-out", couponId);
+    }
+
+    /**
+     * 쿠폰 메타 정보 Hash를 위한 Redis 키 생성
+     * - 발급 Lua 스크립트가 캐시 조회 없이 수량과 발급 기간을 검증하기 위해 사용
+     * - 필드: total(총 발급 수량), start/end(발급 기간, epoch millis)
+     * - 사용 예: "coupon.meta.couponId=123", "{coupon:123}:meta"
+     * @param couponId 쿠폰 ID
+     * @return Redis Hash 키
+     */
+    public String getCouponMetaKey(long couponId) {
+        return couponKey("coupon.meta.couponId=%s", "meta", couponId);
+    }
+
+    /**
+     * 쿠폰별 대기열 Sorted Set을 위한 Redis 키 생성
+     * - 멤버는 사용자 ID, 점수는 대기열 진입 시각(epoch millis)으로 먼저 도착한 사용자가 앞 순번
+     * - 사용 예: "coupon.waiting.couponId=123", "{coupon:123}:waiting"
+     * @param couponId 쿠폰 ID
+     * @return Redis Sorted Set 키
+     */
+    public String getCouponWaitingKey(long couponId) {
+        return couponKey("coupon.waiting.couponId=%s", "waiting", couponId);
+    }
+
+    /**
+     * 대기열에서 입장 처리된 사용자의 발급 요청 결과 Hash를 위한 Redis 키 생성
+     * - 필드는 사용자 ID, 값은 발급 요청 결과 코드 이름
+     * - 사용 예: "coupon.waiting.result.couponId=123", "{coupon:123}:waiting.result"
+     * @param couponId 쿠폰 ID
+     * @return Redis Hash 키
+     */
+    public String getCouponWaitingResultKey(long couponId) {
+        return couponKey("coupon.waiting.result.couponId=%s", "waiting.result", couponId);
+    }
+
+    /**
+     * 쿠폰별 대기열 입장 처리 주기 락을 위한 Redis 키 생성
+     * - SET NX PX로 주기마다 하나의 노드만 입장 처리하여 전체 입장 속도를 노드 수와 무관하게 유지
+     * - 사용 예: "coupon.waiting.tick.couponId=123", "{coupon:123}:waiting.tick"
+     * @param couponId 쿠폰 ID
+     * @return Redis String 키
+     */
+    public String getCouponWaitingTickKey(long couponId) {
+        return couponKey("coupon.waiting.tick.couponId=%s", "waiting.tick", couponId);
+    }
+
+    /**
+     * 쿠폰별 발급 요청 처리 결과 Hash를 위한 Redis 키 생성
+     * - Consumer가 DB 반영 결과를 기록하며, 필드는 사용자 ID, 값은 ISSUED 또는 실패 사유 코드
+     * - 사용 예: "issue.result.couponId=123", "{coupon:123}:result"
+     * @param couponId 쿠폰 ID
+     * @return Redis Hash 키
+     */
+    public String getIssueResultKey(long couponId) {
+        return couponKey("issue.result.couponId=%s", "result", couponId);
+    }
+
+    /**
+     * 쿠폰의 발급 요청 처리 결과가 기록된 적이 있는지 나타내는 Redis 키 생성
+     * - 결과 Hash는 보관 기간이 지나면 만료되지만 발급 요청 Set은 남으므로, 결과가 만료된 요청과 처리 대기 중인 요청을 구분하기 위해 사용
+     * - 발급 요청 Set과 같이 만료 시간 없이 유지
+     * - 사용 예: "issue.result.recorded.couponId=123", "{coupon:123}:result.recorded"
+     * @param couponId 쿠폰 ID
+     * @return Redis 키
+     */
+    public String getIssueResultRecordedKey(long couponId) {
+        return couponKey("issue.result.recorded.couponId=%s", "result.recorded", couponId);
+    }
+
+    /**
+     * 쿠폰별 키 생성
+     * CLUSTER 배치에서는 "{coupon:쿠폰ID}"를 hash tag로 사용하여 한 쿠폰의 키가 모두 같은 슬롯에 배치되도록 함
+     * @param standardFormat STANDARD 배치의 키 형식
+     * @param suffix CLUSTER 배치에서 hash tag 뒤에 붙는 키 이름
+     */
+    private String couponKey(String standardFormat, String suffix, Object couponId) {
+        if (keyLayout == CouponRedisKeyLayout.CLUSTER) {
+            return "{coupon:%s}:%s".formatted(couponId, suffix);
+        }
+        return standardFormat.formatted(couponId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재고 임대(lease) Redis 저장소
+ * API 노드별 수량 블록 임대, 반납, 임대 만료 시각 갱신을 Lua 스크립트로 원자적으로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponStockLeaseRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponRedisKeys couponRedisKeys;
+    private final RedisScript<Long> stockLeaseAcquireScript = RedisScript.of(new ClassPathResource("scripts/stock-lease-acquire.lua"), Long.class);
+    private final RedisScript<Long> stockLeaseReleaseScript = RedisScript.of(new ClassPathResource("scripts/stock-lease-release.lua"), Long.class);
+    private final RedisScript<Long> stockLeaseRenewScript = RedisScript.of(new ClassPathResource("scripts/stock-lease-renew.lua"), Long.class);
+
+    /**
+     * 미할당 재고에서 최대 leaseSize 만큼의 수량 블록을 원자적으로 임대
+     * 재고 카운터가 없으면 (총 수량 - 발급 요청 Set 크기)로 초기화한 뒤 차감
+     * 임대 수량은 노드별로 기록하고, 임대가 만료된 노드의 미사용 수량은 먼저 미할당 재고로 회수
+     * @param totalIssueQuantity 쿠폰 총 발급 수량
+     * @param leaseSize 한 번에 임대할 최대 수량
+     * @param nodeId 임대받는 API 노드 ID
+     * @param ttl 임대 만료 시간 (노드가 갱신하지 않으면 이 시간 이후 회수 대상)
+     * @return 임대받은 수량, 남은 재고가 없으면 0
+     */
+    public int acquireStockLease(long couponId, int totalIssueQuantity, int leaseSize, String nodeId, Duration ttl) {
+        Long granted = redisTemplate.execute(
+                stockLeaseAcquireScript,
+                List.of(couponRedisKeys.getIssueStockKey(couponId), couponRedisKeys.getIssueRequestKey(couponId), couponRedisKeys.getIssueStockLeaseKey(couponId)),
+                String.valueOf(totalIssueQuantity),
+                String.valueOf(leaseSize),
+                nodeId,
+                String.valueOf(ttl.toMillis())
+        );
+        return granted == null ? 0 : granted.intValue();
+    }
+
+    /**
+     * 사용하지 않은 임대 수량을 미할당 재고로 반납
+     * 노드의 임대가 이미 만료되어 회수되었다면 반납하지 않음 (중복 반납 방지)
+     * @param quantity 반납할 수량
+     * @param nodeId 임대받은 API 노드 ID
+     */
+    public void releaseStockLease(long couponId, int quantity, String nodeId) {
+        redisTemplate.execute(stockLeaseReleaseScript, List.of(couponRedisKeys.getIssueStockKey(couponId), couponRedisKeys.getIssueStockLeaseKey(couponId)),
+                String.valueOf(quantity), nodeId);
+    }
+
+    /**
+     * 노드의 임대 만료 시각 갱신
+     * @param nodeId 임대받은 API 노드 ID
+     * @param ttl 갱신할 만료 시간
+     * @return 갱신했으면 true, 임대가 이미 만료되어 회수되었다면 false
+     */
+    public boolean renewStockLease(long couponId, String nodeId, Duration ttl) {
+        Long renewed = redisTemplate.execute(stockLeaseRenewScript, List.of(couponRedisKeys.getIssueStockLeaseKey(couponId)),
+                nodeId, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+}
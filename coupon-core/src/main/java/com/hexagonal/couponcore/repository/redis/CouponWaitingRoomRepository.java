@@ -0,0 +1,172 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getCouponWaitingCouponsKey;
+
+/**
+ * 쿠폰별 대기열 Redis 저장소
+ * 대기열 진입, 입장 처리, 되돌림, 종료와 입장 처리된 사용자의 발급 요청 결과 관리
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponWaitingRoomRepository {
+    private static final String WAITING_CLOSED_FIELD = "closed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponRedisKeys couponRedisKeys;
+    private final RedisScript<Long> waitingEnterScript = RedisScript.of(new ClassPathResource("scripts/waiting-enter.lua"), Long.class);
+    private final RedisScript<List> waitingAdmitScript = RedisScript.of(new ClassPathResource("scripts/waiting-admit.lua"), List.class);
+    private final RedisScript<Long> waitingRequeueScript = RedisScript.of(new ClassPathResource("scripts/waiting-requeue.lua"), Long.class);
+    private final RedisScript<Long> waitingCloseScript = RedisScript.of(new ClassPathResource("scripts/waiting-close.lua"), Long.class);
+
+    /**
+     * 대기열 진입
+     * 대기열이 종료되었으면 진입시키지 않고, 이미 대기 중이면 기존 순번 유지 (ZADD NX)
+     * 대기열 쿠폰 목록 Set은 대기열과 다른 슬롯이므로 스크립트 밖에서 등록
+     * (입장 처리가 빈 대기열을 목록에서 제거한 직후라도 다시 등록됨)
+     * @param score 도착 시각
+     * @return 대기 순번(0부터 시작), 대기열이 종료되었으면 null
+     */
+    public Long enterWaitingRoom(long couponId, long userId, long score) {
+        Long rank = redisTemplate.execute(
+                waitingEnterScript,
+                List.of(couponRedisKeys.getCouponWaitingKey(couponId), couponRedisKeys.getCouponWaitingResultKey(couponId)),
+                String.valueOf(userId),
+                String.valueOf(score),
+                WAITING_CLOSED_FIELD
+        );
+        if (rank == null || rank < 0) {
+            return null;
+        }
+        redisTemplate.opsForSet().add(getCouponWaitingCouponsKey(), String.valueOf(couponId));
+        return rank;
+    }
+
+    /**
+     * 대기열 앞에서부터 최대 count 명을 꺼내 입장 처리
+     * 입장 처리 주기 락(SET NX PX)을 획득한 노드만 꺼내므로 노드 수와 관계없이 주기당 count 명만 입장
+     * 대기열이 비어있으면 대기열 쿠폰 목록에서 제거 (목록 Set은 대기열과 다른 슬롯이므로 스크립트 밖에서 제거 후 재확인)
+     * @param tickMillis 입장 처리 주기 (락 유지 시간)
+     * @return 입장 순서대로의 사용자 ID와 대기 점수(도착 시각), 락을 획득하지 못했거나 대기열이 비어있으면 빈 Map
+     *         발급 요청에 실패하면 이 점수로 requeueWaitingUsers 를 호출하여 원래 순번으로 되돌림
+     */
+    public Map<Long, Double> admitWaitingUsers(long couponId, int count, long tickMillis) {
+        List<?> popped = redisTemplate.execute(
+                waitingAdmitScript,
+                List.of(couponRedisKeys.getCouponWaitingKey(couponId), couponRedisKeys.getCouponWaitingTickKey(couponId)),
+                String.valueOf(count),
+                String.valueOf(tickMillis)
+        );
+        if (popped == null || popped.isEmpty()) {
+            unregisterEmptyWaitingRoom(couponId);
+            return Map.of();
+        }
+        // ZPOPMIN 결과는 [멤버, 점수, 멤버, 점수, ...]
+        Map<Long, Double> users = new LinkedHashMap<>(popped.size());
+        for (int i = 0; i < popped.size(); i += 2) {
+            users.put(Long.parseLong(String.valueOf(popped.get(i))), Double.parseDouble(String.valueOf(popped.get(i + 1))));
+        }
+        return users;
+    }
+
+    /**
+     * 입장 처리에 실패한 사용자를 원래 대기 점수로 대기열에 되돌림
+     * 그 사이 대기열이 종료되었다면 되돌리지 않음 (상태 조회 시 종료 사유 반환)
+     * @param users admitWaitingUsers 가 반환한 사용자 ID와 대기 점수
+     * @return 되돌린 인원
+     */
+    public long requeueWaitingUsers(long couponId, Map<Long, Double> users) {
+        List<String> args = new ArrayList<>(users.size() * 2 + 1);
+        args.add(WAITING_CLOSED_FIELD);
+        users.forEach((userId, score) -> {
+            args.add(String.valueOf(userId));
+            args.add(BigDecimal.valueOf(score).toPlainString());
+        });
+        Long requeued = redisTemplate.execute(
+                waitingRequeueScript,
+                List.of(couponRedisKeys.getCouponWaitingKey(couponId), couponRedisKeys.getCouponWaitingResultKey(couponId)),
+                args.toArray()
+        );
+        if (requeued != null && requeued > 0) {
+            redisTemplate.opsForSet().add(getCouponWaitingCouponsKey(), String.valueOf(couponId));
+        }
+        return requeued == null ? 0 : requeued;
+    }
+
+    /**
+     * 대기열이 비어있다면 대기열 쿠폰 목록에서 제거
+     * 제거 직후 대기열을 다시 확인하여 그 사이 진입한 사용자가 있다면 목록에 다시 등록
+     */
+    private void unregisterEmptyWaitingRoom(long couponId) {
+        String waitingKey = couponRedisKeys.getCouponWaitingKey(couponId);
+        if (zCard(waitingKey) > 0) {
+            return;
+        }
+        redisTemplate.opsForSet().remove(getCouponWaitingCouponsKey(), String.valueOf(couponId));
+        if (zCard(waitingKey) > 0) {
+            redisTemplate.opsForSet().add(getCouponWaitingCouponsKey(), String.valueOf(couponId));
+        }
+    }
+
+    private long zCard(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 대기열 종료 (매진, 발급 기간 종료 시 남은 대기자 일괄 거절)
+     * 대기열을 삭제하고 결과 Hash에 종료 사유를 한 번만 기록하여 남은 대기자별 결과를 쓰지 않음
+     * 대기열 삭제와 종료 사유 기록은 한 스크립트에서 처리하여, 그 사이 진입한 사용자가 종료된 대기열에 남지 않도록 함
+     * @param reason 남은 대기자에게 반환할 결과 코드
+     * @param ttl 결과 보관 기간
+     */
+    public void closeWaitingRoom(long couponId, CouponIssueRequestCode reason, Duration ttl) {
+        redisTemplate.execute(
+                waitingCloseScript,
+                List.of(couponRedisKeys.getCouponWaitingKey(couponId), couponRedisKeys.getCouponWaitingResultKey(couponId)),
+                WAITING_CLOSED_FIELD,
+                reason.name(),
+                String.valueOf(ttl.toMillis())
+        );
+        // 목록 Set은 다른 슬롯이므로 스크립트 밖에서 제거 (실패해도 다음 입장 처리에서 빈 대기열로 제거됨)
+        redisTemplate.opsForSet().remove(getCouponWaitingCouponsKey(), String.valueOf(couponId));
+    }
+
+    /**
+     * 입장 처리된 사용자들의 발급 요청 결과 저장
+     * @param results 사용자 ID별 결과 코드
+     * @param ttl 결과 보관 기간
+     */
+    public void putWaitingResults(long couponId, Map<Long, CouponIssueRequestCode> results, Duration ttl) {
+        Map<String, String> values = new HashMap<>(results.size() * 2);
+        results.forEach((userId, code) -> values.put(String.valueOf(userId), code.name()));
+        String key = couponRedisKeys.getCouponWaitingResultKey(couponId);
+        redisTemplate.opsForHash().putAll(key, values);
+        redisTemplate.expire(key, ttl);
+    }
+
+    /**
+     * 입장 처리된 사용자의 발급 요청 결과 조회
+     * 개별 결과가 없고 대기열이 종료되었다면 종료 사유 반환
+     * @return 결과 코드, 아직 입장 처리되지 않았으면 null
+     */
+    public CouponIssueRequestCode waitingResult(long couponId, long userId) {
+        List<Object> codes = redisTemplate.opsForHash().multiGet(couponRedisKeys.getCouponWaitingResultKey(couponId),
+                List.of(String.valueOf(userId), WAITING_CLOSED_FIELD));
+        Object code = codes.get(0) != null ? codes.get(0) : codes.get(1);
+        return code == null ? null : CouponIssueRequestCode.valueOf(code.toString());
+    }
+}
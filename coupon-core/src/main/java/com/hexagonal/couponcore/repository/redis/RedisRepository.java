@@ -1,32 +1,36 @@
 package com.hexagonal.couponcore.repository.redis;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.hexagonal.couponcore.exception.CouponIssueException;
-import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisListCommands.Direction;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.util.List;
-
-import static com.hexagonal.couponcore.exception.ErrorCode.FAIL_COUPON_ISSUE_REQUEST;
-import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestKey;
-import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class RedisRepository {  // Redis Set 연산 관련 메서드들
     private final RedisTemplate<String, String> redisTemplate;
-    private final RedisScript<String> issueScript = issueRequestScript();
-    private final String issueRequestQueueKey = getIssueRequestQueueKey();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisScript<Long> requeueScript = RedisScript.of(new ClassPathResource("scripts/requeue.lua"), Long.class);
+    private final RedisScript<Long> distributeScript = RedisScript.of(new ClassPathResource("scripts/distribute.lua"), Long.class);
 
     public Boolean zAdd(String key, String value, double score) {
         return redisTemplate.opsForZSet().addIfAbsent(key, value, score);
     }
 
+    /**
+     * Sorted Set에서 멤버의 순위 조회 (점수 오름차순, 0부터 시작)
+     * @return 순위, 멤버가 없으면 null
+     */
+    public Long zRank(String key, String value) {
+        return redisTemplate.opsForZSet().rank(key, value);
+    }
+
     // Set에 값 추가
     public Long sAdd(String key, String value) {
         return redisTemplate.opsForSet().add(key, value);
@@ -62,62 +66,107 @@ public class RedisRepository {  // Redis Set 연산 관련 메서드들
     }
 
     /**
-     * List의 특정 위치 요소 조회
-     * @param index 조회할 위치 (0부터 시작)
+     * List의 왼쪽(처음)에서 최대 count개의 요소를 한 번에 제거 및 반환 (LPOP count, Redis 6.2+)
+     * @param count 최대 조회 개수
+     * @return 제거된 요소 목록 (List가 비어있으면 빈 목록)
      */
-    public String lIndex(String key, long index) {
-        return redisTemplate.opsForList().index(key, index);
+    public List<String> lPop(String key, long count) {
+        List<String> values = redisTemplate.opsForList().leftPop(key, count);
+        return values == null ? List.of() : values;
     }
 
     /**
-     * Lua 스크립트를 사용한 원자적 쿠폰 발급 요청 처리
-     * @param couponId
-     * @param userId
-     * @param totalIssueQuantity
-     * @return 발급 결과 코드 (1: 성공, 2: 중복발급, 3: 수량초과)
+     * source List의 첫 번째 요소를 destination List의 끝으로 원자적으로 이동 (BLMOVE LEFT RIGHT, Redis 6.2+)
+     * source가 비어있으면 요소가 들어올 때까지 최대 timeout 동안 대기
+     * @return 이동된 요소, timeout 동안 요소가 없으면 null
      */
-    public void issueRequest(long couponId, long userId, int totalIssueQuantity) {
-        String issueRequestKey = getIssueRequestKey(couponId);
-        CouponIssueRequest couponIssueRequest = new CouponIssueRequest(couponId, userId);
-
-        try {
-            // Lua 스크립트 실행으로 원자적 처리 보장
-            String code = redisTemplate.execute(
-                    issueScript,
-                    List.of(issueRequestKey, issueRequestQueueKey),
-                    String.valueOf(userId),
-                    String.valueOf(totalIssueQuantity),
-                    objectMapper.writeValueAsString(couponIssueRequest)
-            );
-            CouponIssueRequestCode.checkRequestResult(CouponIssueRequestCode.find(code));
-        } catch (JsonProcessingException e) {
-            throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(couponIssueRequest));
-        }
+    public String bLMove(String sourceKey, String destinationKey, Duration timeout) {
+        return redisTemplate.opsForList().move(sourceKey, Direction.LEFT, destinationKey, Direction.RIGHT, timeout);
     }
 
     /**
-     * 쿠폰 발급 처리를 위한 Lua 스크립트
-     * 1. 중복 발급 체크
-     * 2. 수량 체크
-     * 3. 발급 요청 처리
+     * source List의 첫 번째 요소를 destination List의 끝으로 원자적으로 이동 (LMOVE LEFT RIGHT, Redis 6.2+)
+     * source와 destination이 같으면 첫 번째 요소를 끝으로 회전
+     * @return 이동된 요소, source가 비어있으면 null
      */
-    private RedisScript<String> issueRequestScript() {
-        String script = """
-                -- 중복 발급 체크
-                if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
-                    return '2'
-                end
-                
-                -- 수량 체크 및 발급 처리  
-                if tonumber(ARGV[2]) > redis.call('SCARD', KEYS[1]) then
-                    redis.call('SADD', KEYS[1], ARGV[1])
-                    redis.call('RPUSH', KEYS[2], ARGV[3])
-                    return '1'
-                end
-                                
-                return '3'
-                """;
-
-        return RedisScript.of(script, String.class);
+    public String lMove(String sourceKey, String destinationKey) {
+        return redisTemplate.opsForList().move(sourceKey, Direction.LEFT, destinationKey, Direction.RIGHT);
+    }
+
+    /**
+     * List에서 value와 일치하는 첫 번째 요소 제거
+     */
+    public Long lRem(String key, String value) {
+        return redisTemplate.opsForList().remove(key, 1, value);
+    }
+
+    /**
+     * source List의 모든 요소를 순서를 유지한 채 destination List의 앞쪽으로 되돌림
+     * 처리 중 List에 남은 요청을 Queue로 복구하여 가장 먼저 다시 처리되도록 함
+     * @return 복구된 요소 수
+     */
+    public Long requeue(String sourceKey, String destinationKey) {
+        return redisTemplate.execute(requeueScript, List.of(sourceKey, destinationKey));
+    }
+
+    /**
+     * source List 앞쪽에서 조회해 둔 요소들을 각각 지정한 destination List의 끝으로 원자적으로 이동
+     * 조회 이후 source 앞쪽이 바뀌었다면(다른 Consumer가 먼저 가져감) 아무것도 이동하지 않음
+     * @param values source 앞쪽에서 LRANGE로 조회한 요소 목록 (순서 유지)
+     * @param destinationKeys 이동 대상 List 키 목록
+     * @param destinations values 각 요소의 이동 대상 (destinationKeys 인덱스, 음수이면 source에서 제거만 함)
+     * @return 이동했으면 true, source 앞쪽이 조회 시점과 달라 이동하지 않았으면 false
+     */
+    public boolean distribute(String sourceKey, List<String> values, List<String> destinationKeys, List<Integer> destinations) {
+        List<String> keys = Stream.concat(Stream.of(sourceKey), destinationKeys.stream()).toList();
+        Object[] args = Stream.of(Stream.of(String.valueOf(values.size())), values.stream(), destinations.stream().map(String::valueOf))
+                .flatMap(arg -> arg)
+                .toArray();
+        Long moved = redisTemplate.execute(distributeScript, keys, args);
+        return moved != null && moved == 1L;
+    }
+
+    // Set의 모든 멤버 조회
+    public Set<String> sMembers(String key) {
+        return redisTemplate.opsForSet().members(key);
+    }
+
+    // Set에서 값 제거
+    public Long sRem(String key, String value) {
+        return redisTemplate.opsForSet().remove(key, value);
+    }
+
+    // 만료 시간과 함께 값 저장
+    public void set(String key, String value, Duration timeout) {
+        redisTemplate.opsForValue().set(key, value, timeout);
+    }
+
+    // 키 존재 여부 확인
+    public Boolean hasKey(String key) {
+        return redisTemplate.hasKey(key);
+    }
+
+    /**
+     * List의 start부터 end까지 요소 조회 (end 포함, -1은 마지막 요소)
+     */
+    public List<String> lRange(String key, long start, long end) {
+        List<String> values = redisTemplate.opsForList().range(key, start, end);
+        return values == null ? List.of() : values;
+    }
+
+    /**
+     * List를 start부터 end까지의 요소만 남기고 잘라냄 (end 포함, -1은 마지막 요소)
+     * LRANGE로 조회한 요청을 처리한 뒤 앞쪽에서 제거할 때 사용
+     */
+    public void lTrim(String key, long start, long end) {
+        redisTemplate.opsForList().trim(key, start, end);
+    }
+
+    /**
+     * List의 특정 위치 요소 조회
+     * @param index 조회할 위치 (0부터 시작)
+     */
+    public String lIndex(String key, long index) {
+        return redisTemplate.opsForList().index(key, index);
     }
 }
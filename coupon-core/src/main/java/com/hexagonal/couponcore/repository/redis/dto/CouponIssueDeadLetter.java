@@ -0,0 +1,11 @@
+package com.hexagonal.couponcore.repository.redis.dto;
+
+/**
+ * Dead Letter Queue에 보관되는 실패한 발급 요청
+ * @param value 원본 발급 요청 (CouponIssueRequest JSON)
+ * @param reason 실패 사유 코드 (ErrorCode 이름, INVALID_REQUEST, RETRY_EXHAUSTED 등)
+ * @param message 실패 상세 메시지
+ * @param failedAt 실패 시각 (epoch millis)
+ */
+public record CouponIssueDeadLetter(String value, String reason, String message, long failedAt) {
+}
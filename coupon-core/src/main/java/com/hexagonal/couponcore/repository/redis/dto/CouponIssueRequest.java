@@ -1,4 +1,23 @@
 package com.hexagonal.couponcore.repository.redis.dto;
 
-public record CouponIssueRequest(long couponId, long userId) {
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 발급 요청 Queue에 적재되는 발급 요청
+ * @param couponId 쿠폰 ID
+ * @param userId 사용자 ID
+ * @param requestId 요청 추적용 ID
+ * @param enqueuedAt Queue 적재 시각 (epoch millis), 적재 시각이 없는 이전 형식 요청은 0
+ */
+public record CouponIssueRequest(long couponId, long userId, String requestId, long enqueuedAt) {
+    /**
+     * 새 발급 요청 생성
+     * 요청 ID와 적재 시각을 함께 기록하여 Consumer에서 대기 시간과 처리 완료까지의 시간을 측정할 수 있도록 함
+     * 요청 경로에서 SecureRandom 을 사용하지 않도록 ThreadLocalRandom 으로 요청 ID 생성
+     */
+    public CouponIssueRequest(long couponId, long userId) {
+        this(couponId, userId, new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString(),
+                System.currentTimeMillis());
+    }
 }
@@ -0,0 +1,40 @@
+package com.hexagonal.couponcore.repository.redis.dto;
+
+/**
+ * 발급 요청의 최종 처리 결과
+ * Redis 결과 Hash에는 ISSUED 또는 실패 사유 코드(ErrorCode 이름 등)만 저장하여 값 크기를 최소화
+ * @param status 처리 상태
+ * @param reason 실패 사유 코드 (FAILED 일 때만 존재)
+ */
+public record CouponIssueResult(Status status, String reason) {
+    public static final CouponIssueResult ISSUED = new CouponIssueResult(Status.ISSUED, null);
+    public static final CouponIssueResult PENDING = new CouponIssueResult(Status.PENDING, null);
+    public static final CouponIssueResult NOT_REQUESTED = new CouponIssueResult(Status.NOT_REQUESTED, null);
+    public static final CouponIssueResult UNKNOWN = new CouponIssueResult(Status.UNKNOWN, null);
+
+    public static CouponIssueResult failed(String reason) {
+        return new CouponIssueResult(Status.FAILED, reason);
+    }
+
+    /**
+     * 결과 Hash 저장 값에서 복원
+     */
+    public static CouponIssueResult fromValue(String value) {
+        return Status.ISSUED.name().equals(value) ? ISSUED : failed(value);
+    }
+
+    /**
+     * 결과 Hash 저장 값으로 변환
+     */
+    public String toValue() {
+        return status == Status.ISSUED ? status.name() : reason;
+    }
+
+    public enum Status {
+        ISSUED,         // DB 발급 완료
+        FAILED,         // 발급 실패 (Dead Letter Queue로 이동)
+        PENDING,        // 발급 요청 접수 후 처리 대기 중
+        NOT_REQUESTED,  // 발급 요청 이력 없음
+        UNKNOWN         // 발급 요청은 접수되었으나 결과 보관 기간이 지나 결과를 확인할 수 없음 (더 이상 처리 대기 중이 아님)
+    }
+}
@@ -0,0 +1,9 @@
+package com.hexagonal.couponcore.repository.redis.dto;
+
+/**
+ * Redis Stream에서 읽어온 발급 요청 항목
+ * @param id Stream 엔트리 ID (XACK 시 사용)
+ * @param value 직렬화된 발급 요청 (CouponIssueRequest JSON)
+ */
+public record CouponIssueStreamEntry(String id, String value) {
+}
@@ -0,0 +1,28 @@
+package com.hexagonal.couponcore.repository.redis.dto;
+
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+
+/**
+ * 쿠폰 대기열에서의 사용자 상태
+ * @param state 대기 상태
+ * @param position 대기 순번 (1부터 시작, WAITING 일 때만 존재)
+ * @param result 발급 요청 결과 코드 (ADMITTED, REJECTED 일 때만 존재)
+ */
+public record CouponWaitingStatus(State state, Long position, CouponIssueRequestCode result) {
+    public static final CouponWaitingStatus NOT_FOUND = new CouponWaitingStatus(State.NOT_FOUND, null, null);
+
+    public static CouponWaitingStatus waiting(long rank) {
+        return new CouponWaitingStatus(State.WAITING, rank + 1, null);
+    }
+
+    public static CouponWaitingStatus finished(CouponIssueRequestCode result) {
+        return new CouponWaitingStatus(result.isSuccess() ? State.ADMITTED : State.REJECTED, null, result);
+    }
+
+    public enum State {
+        WAITING,    // 대기 중
+        ADMITTED,   // 입장하여 발급 요청 접수 완료
+        REJECTED,   // 입장했으나 발급 요청 거절 또는 매진으로 일괄 거절
+        NOT_FOUND   // 대기열에 없음
+    }
+}
@@ -4,20 +4,24 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hexagonal.couponcore.component.DistributeLockExecutor;
 import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueRepository;
 import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
 import com.hexagonal.couponcore.repository.redis.RedisRepository;
 import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.hexagonal.couponcore.exception.ErrorCode.FAIL_COUPON_ISSUE_REQUEST;
-import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestKey;
-import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
 
 @RequiredArgsConstructor
 @Service
 public class AsyncCouponIssueServiceV1 {
     private final RedisRepository redisRepository;
+    private final CouponIssueQueueRepository couponIssueQueueRepository;
+    private final CouponRedisKeys couponRedisKeys;
     private final CouponIssueRedisService couponIssueRedisService;
     private final CouponIssueService couponIssueService;
     private final DistributeLockExecutor distributeLockExecutor;
@@ -46,6 +50,24 @@ public class AsyncCouponIssueServiceV1 {
         });
     }
 
+    /**
+     * 비동기 쿠폰 발급 처리 (분산 락 비동기 대기)
+     * 처리 과정은 issue와 같지만, 락 대기 중 호출 스레드(Tomcat Worker)를 점유하지 않도록 락 획득 이후 과정을 CompletableFuture로 반환
+     * 쿠폰 조회와 발급 기간 검증은 호출 스레드에서 바로 수행하므로 검증 실패는 즉시 예외로 전달
+     * @param couponId 발급할 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 발급 요청 저장 완료 시 완료되는 Future, 락 획득 실패나 수량/중복 검증 실패 시 해당 예외로 완료
+     */
+    public CompletableFuture<Void> issueAsync(long couponId, long userId) {
+        CouponRedisEntity coupon = couponCacheService.getCouponCache(couponId);
+        coupon.checkIssuableCoupon();
+
+        return distributeLockExecutor.executeAsync("lock_%s".formatted(couponId), 3000, 3000, () -> {
+            couponIssueRedisService.checkCouponIssueQuantity(coupon, userId);
+            issueRequest(couponId, userId);
+        });
+    }
+
     /**
      * Redis에 쿠폰 발급 요청 정보 저장
      * 1. 발급 요청 Set애 사용자 ID 저장 (중복 체크용)
@@ -57,8 +79,8 @@ public class AsyncCouponIssueServiceV1 {
         CouponIssueRequest issueRequest = new CouponIssueRequest(couponId, userId);
         try {
             String value = objectMapper.writeValueAsString(issueRequest);
-            redisRepository.sAdd(getIssueRequestKey(couponId), String.valueOf(userId));
-            redisRepository.rPush(getIssueRequestQueueKey(), value);
+            redisRepository.sAdd(couponRedisKeys.getIssueRequestKey(couponId), String.valueOf(userId));
+            couponIssueQueueRepository.issueRequestQueuePush(couponId, value);
         } catch (JsonProcessingException e) {
             throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(issueRequest));
         }
@@ -1,44 +1,213 @@
 package com.hexagonal.couponcore.service;
 
+import com.hexagonal.couponcore.component.CouponSoldOutRegistry;
+import com.hexagonal.couponcore.component.CouponStockLeaseManager;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
 import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
-import com.hexagonal.couponcore.repository.redis.RedisRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.COUPON_NOT_EXIST;
+
 /**
  * V2 비동기 쿠폰 발급 서비스
  * Redis Lua 스크립트를 활용한 원자적 쿠폰 발급 처리
+ * coupon.issue.lease.enabled=true 이면 수량 체크는 노드가 임대받은 재고로 로컬에서 처리
+ * coupon.issue.server-side-validation.enabled=true 이면 캐시 조회 없이 Lua 스크립트에서 기간, 수량, 중복을 모두 검증
  */
 @Service
 @RequiredArgsConstructor
 public class AsyncCouponIssueServiceV2 {
-    private final RedisRepository redisRepository;
+    private final CouponIssueRequestRepository couponIssueRequestRepository;
     private final CouponCacheService couponCacheService;
+    private final CouponSoldOutRegistry couponSoldOutRegistry;
+    private final Optional<CouponStockLeaseManager> couponStockLeaseManager;
+
+    @Value("${coupon.issue.server-side-validation.enabled:false}")
+    private boolean serverSideValidation;
 
     /**
      * 쿠폰 발급 요청 처리
-     * 1. Redis 캐시에서 쿠폰 정보 조회
-     * 2. 발급 가능 여부 검증
-     * 3. Redis Lua 스크립트로 원자적 발급 처리
+     * 결과 코드가 실패이면 CouponIssueException 발생
      * @param couponId 쿠폰 ID
      * @param userId 사용자 ID
      */
     public void issue(long couponId, long userId) {
-        CouponRedisEntity coupon = couponCacheService.getCouponLocalCache(couponId);
-        coupon.checkIssuableCoupon();
-        issueRequest(couponId, userId, coupon.totalQuantity());
+        CouponIssueRequestCode.checkRequestResult(tryIssue(couponId, userId));
     }
 
     /**
-     * 실제 발급 요청 처리
+     * 쿠폰 발급 요청 처리 (예외 없이 결과 코드 반환)
+     * 발급 거절(중복, 매진, 기간 외)이 대부분인 요청 경로에서 예외 생성, 스택 트레이스, 메시지 포맷팅 비용 없이
+     * 미리 정의된 결과 코드만 반환하여 거절 비용을 성공 요청 수준으로 유지
+     * 1. 매진된 쿠폰이면 캐시 조회와 Redis 호출 없이 즉시 거절
+     * 2. Redis 캐시에서 쿠폰 정보 조회 (존재하지 않는 쿠폰이면 쿠폰 없음 코드, 반복 요청은 짧게 기록된 결과로 DB 조회 없이 거절)
+     * 3. 발급 가능 여부 검증
+     * 4. Redis Lua 스크립트로 원자적 발급 처리
      * @param couponId 쿠폰 ID
      * @param userId 사용자 ID
-     * @param totalIssueQuantity null인 경우 무제한 발급으로 처리
+     * @return 발급 결과 코드
+     */
+    public CouponIssueRequestCode tryIssue(long couponId, long userId) {
+        if (couponSoldOutRegistry.isSoldOut(couponId)) {
+            return CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY;
+        }
+        if (serverSideValidation && couponStockLeaseManager.isEmpty()) {
+            return issueRequestWithValidation(couponId, userId);
+        }
+        Optional<CouponRedisEntity> found = couponCacheService.findCouponLocalCache(couponId);
+        if (found.isEmpty()) {
+            return CouponIssueRequestCode.COUPON_NOT_EXIST;
+        }
+        CouponRedisEntity coupon = found.get();
+        CouponIssueRequestCode issuable = coupon.checkIssuable();
+        if (!issuable.isSuccess()) {
+            return issuable;
+        }
+        return couponStockLeaseManager
+                .map(leaseManager -> issueRequestWithLease(leaseManager, coupon, userId))
+                .orElseGet(() -> issueRequest(coupon, userId));
+    }
+
+    /**
+     * 한 쿠폰에 대한 여러 사용자의 발급 요청 일괄 처리 (파트너 연동, 캠페인 일괄 발급용)
+     * 쿠폰 조회와 발급 가능 여부 검증은 한 번만 수행하고, Redis 발급 처리는 chunk 단위 Lua 스크립트로 묶어 왕복 횟수를 줄임
+     * 서버 측 검증 모드에서도 캐시된 쿠폰 정보로 검증한 뒤 일괄 스크립트를 사용
+     * @param couponId 쿠폰 ID
+     * @param userIds 요청 순서대로 정렬된 사용자 ID 목록
+     * @return userIds와 같은 순서의 발급 결과 코드 목록
+     */
+    public List<CouponIssueRequestCode> tryIssueBatch(long couponId, List<Long> userIds) {
+        if (couponSoldOutRegistry.isSoldOut(couponId)) {
+            return Collections.nCopies(userIds.size(), CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY);
+        }
+        Optional<CouponRedisEntity> found = couponCacheService.findCouponLocalCache(couponId);
+        if (found.isEmpty()) {
+            return Collections.nCopies(userIds.size(), CouponIssueRequestCode.COUPON_NOT_EXIST);
+        }
+        CouponRedisEntity coupon = found.get();
+        CouponIssueRequestCode issuable = coupon.checkIssuable();
+        if (!issuable.isSuccess()) {
+            return Collections.nCopies(userIds.size(), issuable);
+        }
+        return couponStockLeaseManager
+                .map(leaseManager -> issueBatchWithLease(leaseManager, coupon, userIds))
+                .orElseGet(() -> issueBatch(coupon, userIds));
+    }
+
+    private List<CouponIssueRequestCode> issueBatch(CouponRedisEntity coupon, List<Long> userIds) {
+        List<CouponIssueRequestCode> codes = couponIssueRequestRepository.tryIssueRequests(coupon.id(), userIds,
+                coupon.totalQuantity() == null ? Integer.MAX_VALUE : coupon.totalQuantity(), coupon.dateIssuedEnd());
+        if (codes.contains(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY)) {
+            couponSoldOutRegistry.markSoldOut(coupon.id());
+        }
+        return codes;
+    }
+
+    /**
+     * 재고 임대 모드 일괄 발급 요청 처리
+     * 요청 수만큼 임대 재고를 확보하고, 확보한 요청만 Redis 중복 체크 후 Queue 적재
+     * 재고를 확보하지 못한 요청은 수량 초과, 중복 요청은 확보한 수량을 다시 반환
+     * 노드의 임대가 회수되었다면(수량 초과 응답) 확보한 수량은 반환하지 않고 로컬 임대를 폐기
      */
-    private void issueRequest(long couponId, long userId, Integer totalIssueQuantity) {
-        if (totalIssueQuantity == null) {
-            redisRepository.issueRequest(couponId, userId, Integer.MAX_VALUE);
+    private List<CouponIssueRequestCode> issueBatchWithLease(CouponStockLeaseManager leaseManager, CouponRedisEntity coupon, List<Long> userIds) {
+        int acquired = 0;
+        while (acquired < userIds.size() && leaseManager.tryAcquire(coupon)) {
+            acquired++;
+        }
+        List<CouponIssueRequestCode> codes = new ArrayList<>(userIds.size());
+        try {
+            codes.addAll(couponIssueRequestRepository.tryIssueRequestsWithoutQuantityCheck(coupon.id(), userIds.subList(0, acquired), leaseManager.nodeId()));
+        } catch (RuntimeException e) {
+            for (int i = 0; i < acquired; i++) {
+                leaseManager.release(coupon.id());
+            }
+            throw e;
+        }
+        if (codes.contains(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY)) {
+            leaseManager.invalidate(coupon.id());
+        } else {
+            codes.stream()
+                    .filter(code -> !code.isSuccess())
+                    .forEach(code -> leaseManager.release(coupon.id()));
+        }
+        codes.addAll(Collections.nCopies(userIds.size() - acquired, CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY));
+        return codes;
+    }
+
+    /**
+     * 실제 발급 요청 처리
+     * 수량 초과 응답을 받으면 매진 알림을 기다리지 않고 현재 노드에 바로 매진 기록
+     * 총 발급 수량이 null인 경우 무제한 발급으로 처리하며, 매진 마커는 발급 종료 시각에 만료
+     * @param coupon 캐시된 쿠폰 정보
+     * @param userId 사용자 ID
+     */
+    private CouponIssueRequestCode issueRequest(CouponRedisEntity coupon, long userId) {
+        CouponIssueRequestCode code = couponIssueRequestRepository.tryIssueRequest(coupon.id(), userId,
+                coupon.totalQuantity() == null ? Integer.MAX_VALUE : coupon.totalQuantity(), coupon.dateIssuedEnd());
+        if (code == CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY) {
+            couponSoldOutRegistry.markSoldOut(coupon.id());
+        }
+        return code;
+    }
+
+    /**
+     * 서버 측 검증 발급 요청 처리
+     * 한 번의 Lua 스크립트 실행으로 기간, 수량, 중복을 검증하며
+     * Redis에 쿠폰 메타 정보가 없을 때만 쿠폰 정보를 조회해 저장한 뒤 한 번 더 요청
+     * 존재하지 않는 쿠폰이면 메타 정보에 짧게 기록하여 반복 요청이 캐시와 DB를 조회하지 않도록 함
+     */
+    private CouponIssueRequestCode issueRequestWithValidation(long couponId, long userId) {
+        CouponIssueRequestCode code = couponIssueRequestRepository.issueRequestWithValidation(couponId, userId);
+        if (code == CouponIssueRequestCode.COUPON_META_NOT_EXIST) {
+            try {
+                couponIssueRequestRepository.putCouponMeta(couponCacheService.getCouponCache(couponId));
+            } catch (CouponIssueException e) {
+                if (e.getErrorCode() != COUPON_NOT_EXIST) {
+                    throw e;
+                }
+                couponIssueRequestRepository.putCouponMetaNotExist(couponId);
+                return CouponIssueRequestCode.COUPON_NOT_EXIST;
+            }
+            code = couponIssueRequestRepository.issueRequestWithValidation(couponId, userId);
+        }
+        if (code == CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY) {
+            couponSoldOutRegistry.markSoldOut(couponId);
+        }
+        return code;
+    }
+
+    /**
+     * 재고 임대 모드 발급 요청 처리
+     * 1. 임대받은 재고에서 수량 1개 확보 (소진 시에만 Redis 재임대)
+     * 2. Redis에서 중복 체크 후 Queue 적재
+     * 3. 중복 요청이면 확보한 수량을 다시 반환
+     * 4. 노드의 임대가 회수되었다면(수량 초과 응답) 확보한 수량은 반환하지 않고 로컬 임대를 폐기
+     */
+    private CouponIssueRequestCode issueRequestWithLease(CouponStockLeaseManager leaseManager, CouponRedisEntity coupon, long userId) {
+        if (!leaseManager.tryAcquire(coupon)) {
+            return CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY;
+        }
+        CouponIssueRequestCode code;
+        try {
+            code = couponIssueRequestRepository.issueRequestWithoutQuantityCheck(coupon.id(), userId, leaseManager.nodeId());
+        } catch (RuntimeException e) {
+            leaseManager.release(coupon.id());
+            throw e;
+        }
+        if (code == CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY) {
+            leaseManager.invalidate(coupon.id());
+        } else if (code != CouponIssueRequestCode.SUCCESS) {
+            leaseManager.release(coupon.id());
         }
-        redisRepository.issueRequest(couponId, userId, totalIssueQuantity);
+        return code;
     }
 }
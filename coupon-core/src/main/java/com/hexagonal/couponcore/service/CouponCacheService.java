@@ -1,13 +1,24 @@
 package com.hexagonal.couponcore.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hexagonal.couponcore.exception.CouponIssueException;
 import com.hexagonal.couponcore.model.Coupon;
 import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.aop.framework.AopContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.COUPON_NOT_EXIST;
+
 /**
  *  쿠폰 정보 캐싱 서비스
  *  Redis(분산 캐시)와 Caffeine(로컬 캐시)을 함께 사용하는 Two-Level 캐시 구현
@@ -17,6 +28,23 @@ import org.springframework.stereotype.Service;
 public class CouponCacheService {
     private final CouponIssueService couponIssueService;
 
+    @Value("${coupon.cache.local.not-exist-expire-seconds:5}")
+    private long notExistExpireSeconds;
+
+    /**
+     * 존재하지 않는 쿠폰 ID 로컬 기록 (negative cache)
+     * 쿠폰 없음은 예외로 끝나 로컬/Redis 캐시에 남지 않으므로 따로 짧게 기록하여 반복 요청이 DB를 조회하지 않도록 함
+     */
+    private Cache<Long, Boolean> notExistCouponIds;
+
+    @PostConstruct
+    void initNotExistCouponIds() {
+        notExistCouponIds = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(notExistExpireSeconds))
+                .maximumSize(10000)
+                .build();
+    }
+
     /**
      * 쿠폰 정보 캐시조회
      * @param couponId 쿠폰 ID
@@ -32,12 +60,33 @@ public class CouponCacheService {
     /**
      * 로컬 캐시에서 쿠폰 정보 조회
      * 캐시 미스 시 Redis 캐시 조회
+     * sync = true: 같은 쿠폰 ID의 동시 캐시 미스는 한 스레드만 조회하고 나머지는 그 결과를 기다림
      */
-    @Cacheable(cacheNames = "coupon", cacheManager = "localCacheManager")
+    @Cacheable(cacheNames = "coupon", cacheManager = "localCacheManager", sync = true)
     public CouponRedisEntity getCouponLocalCache(long couponId) {
         return proxy().getCouponCache(couponId);
     }
 
+    /**
+     * 로컬 캐시에서 쿠폰 정보 조회 (존재하지 않는 쿠폰이면 예외 없이 빈 값 반환)
+     * 예외 없이 결과 코드를 반환하는 V2 발급 경로용
+     * 존재하지 않는 쿠폰은 첫 조회에서만 DB를 조회하고, 이후 not-exist-expire-seconds 동안은 DB 조회와 예외 생성 없이 빈 값 반환
+     */
+    public Optional<CouponRedisEntity> findCouponLocalCache(long couponId) {
+        if (notExistCouponIds.getIfPresent(couponId) != null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(proxy().getCouponLocalCache(couponId));
+        } catch (CouponIssueException e) {
+            if (e.getErrorCode() != COUPON_NOT_EXIST) {
+                throw e;
+            }
+            notExistCouponIds.put(couponId, Boolean.TRUE);
+            return Optional.empty();
+        }
+    }
+
     /**
      * Redis 캐시 강제 갱신
      */
@@ -54,6 +103,14 @@ public class CouponCacheService {
         return getCouponLocalCache(couponId);
     }
 
+    /**
+     * 로컬 캐시 항목 제거
+     * 다른 노드에서 쿠폰 정보가 갱신되었을 때 사용하며, 다음 조회 시 Redis 캐시에서 다시 적재
+     */
+    @CacheEvict(cacheNames = "coupon", cacheManager = "localCacheManager")
+    public void evictCouponLocalCache(long couponId) {
+    }
+
     private CouponCacheService proxy() {
         return ((CouponCacheService) AopContext.currentProxy());
     }
@@ -2,18 +2,19 @@ package com.hexagonal.couponcore.service;
 
 import com.hexagonal.couponcore.exception.CouponIssueException;
 import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
 import com.hexagonal.couponcore.repository.redis.RedisRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import static com.hexagonal.couponcore.exception.ErrorCode.DUPLICATED_COUPON_ISSUE;
 import static com.hexagonal.couponcore.exception.ErrorCode.INVALID_COUPON_ISSUE_QUANTITY;
-import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestKey;
 
 @RequiredArgsConstructor
 @Service
 public class CouponIssueRedisService {
     private final RedisRepository redisRepository;
+    private final CouponRedisKeys couponRedisKeys;
 
     /**
      * 쿠폰 발급 가능 여부 종합 검증
@@ -45,7 +46,7 @@ public class CouponIssueRedisService {
             return true;
         }
 
-        String key = getIssueRequestKey(couponId);
+        String key = couponRedisKeys.getIssueRequestKey(couponId);
         return totalQuantity > redisRepository.sCard(key);
     }
 
@@ -59,7 +60,7 @@ public class CouponIssueRedisService {
      * @return 발급 가능 여부 (true: 발급 가능, false: 이미 발급됨)
      */
     public boolean availableUserIssueQuantity(long couponId, long userId) {
-        String key = getIssueRequestKey(couponId);
+        String key = couponRedisKeys.getIssueRequestKey(couponId);
         return !redisRepository.sIsMember(key, String.valueOf(userId));
     }
 }
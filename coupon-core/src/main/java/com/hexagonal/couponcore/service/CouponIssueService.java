@@ -4,15 +4,32 @@ import com.hexagonal.couponcore.exception.CouponIssueException;
 import com.hexagonal.couponcore.model.Coupon;
 import com.hexagonal.couponcore.model.CouponIssue;
 import com.hexagonal.couponcore.model.event.CouponIssueCompleteEvent;
+import com.hexagonal.couponcore.repository.mysql.CouponIssueJdbcRepository;
 import com.hexagonal.couponcore.repository.mysql.CouponIssueJpaRepository;
 import com.hexagonal.couponcore.repository.mysql.CouponJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static com.hexagonal.couponcore.exception.ErrorCode.COUPON_NOT_EXIST;
 import static com.hexagonal.couponcore.exception.ErrorCode.DUPLICATED_COUPON_ISSUE;
+import static com.hexagonal.couponcore.exception.ErrorCode.INVALID_COUPON_ISSUE_QUANTITY;
 
 /**
  * 쿠폰 발급 관련 핵심 비즈니스 로직을 처리하는 서비스 클래스
@@ -24,25 +41,109 @@ public class CouponIssueService {
 
     private final CouponJpaRepository couponJpaRepository;
     private final CouponIssueJpaRepository couponIssueJpaRepository;
+    private final CouponIssueJdbcRepository couponIssueJdbcRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> resultCounters = new ConcurrentHashMap<>();
+
+    @Value("${coupon.issue.strategy:pessimistic-lock}")
+    private CouponIssueStrategy issueStrategy;
+
+    private Timer lockTimer;
+
+    /**
+     * 발급 방식별 쿠폰 행 락 대기 시간 Timer 등록
+     * - PESSIMISTIC_LOCK: SELECT FOR UPDATE 로 락을 획득하기까지의 시간
+     * - CONDITIONAL_UPDATE: 조건부 UPDATE 실행 시간 (행 락 대기 포함)
+     */
+    @PostConstruct
+    void registerMeters() {
+        lockTimer = Timer.builder("coupon.issue.db.lock")
+                .description("쿠폰 행 락 대기 시간")
+                .tag("strategy", issueStrategy.name())
+                .register(meterRegistry);
+    }
 
     /**
      * 쿠폰 발급 프로세스 실행
-     * 1. 비관적 락으로 쿠폰 조회
-     * 2. 발급 처리
-     * 3. 발급 이력 저장
-     * 4. 쿠폰 소진 시 이벤트 발행
+     * coupon.issue.strategy 설정에 따라 비관적 락 또는 조건부 UPDATE 방식으로 처리하며,
+     * 방식별 락 대기 시간(coupon.issue.db.lock)과 발급 결과(coupon.issue.db)를 기록
      * @param couponId 발급할 쿠폰 ID
      * @param userId 발급 대상 사용자 ID
      */
     @Transactional
     public void issue(long couponId, long userId) {
-        Coupon coupon = findCouponWithLock(couponId);
+        try {
+            if (issueStrategy == CouponIssueStrategy.CONDITIONAL_UPDATE) {
+                issueWithConditionalUpdate(couponId, userId);
+            } else {
+                issueWithLock(couponId, userId);
+            }
+            countIssueResult("SUCCESS");
+        } catch (CouponIssueException e) {
+            countIssueResult(e.getErrorCode().name());
+            throw e;
+        }
+    }
+
+    /**
+     * 비관적 락 방식 발급
+     * 1. 비관적 락으로 쿠폰 조회
+     * 2. 발급 처리
+     * 3. 발급 이력 저장
+     * 4. 쿠폰 소진 시 이벤트 발행
+     */
+    private void issueWithLock(long couponId, long userId) {
+        Coupon coupon = lockTimer.record(() -> findCouponWithLock(couponId));
         coupon.issue();  // 쿠폰 발급 가능 여부 확인 및 발급 처리
         saveCouponIssue(couponId, userId);
         publishCouponEvent(coupon);  // 쿠폰 소진 시 이벤트 발행
     }
 
+    /**
+     * 조건부 UPDATE 방식 발급
+     * 1. 수량/기간 조건을 만족할 때만 발급 수량을 증가시키는 UPDATE 실행 (락 대기 없음)
+     * 2. 갱신된 행이 없으면 쿠폰을 조회하여 실패 사유에 맞는 예외 반환
+     * 3. 발급 이력 저장 (중복 발급이면 예외 발생 후 수량 증가도 롤백)
+     * 4. 쿠폰 소진 시 이벤트 발행
+     */
+    private void issueWithConditionalUpdate(long couponId, long userId) {
+        int updated = lockTimer.record(() -> couponJpaRepository.increaseIssuedQuantity(couponId, LocalDateTime.now()));
+        if (updated == 0) {
+            findCoupon(couponId).checkIssuableCoupon(1);
+            throw new CouponIssueException(INVALID_COUPON_ISSUE_QUANTITY,
+                    "발급 가능한 수량을 초과합니다. couponId: %s".formatted(couponId));
+        }
+        saveCouponIssue(couponId, userId);
+        publishCouponEvent(findCoupon(couponId));
+    }
+
+    /**
+     * 쿠폰 일괄 발급 프로세스 실행
+     * 같은 쿠폰에 대한 여러 발급 요청을 하나의 트랜잭션으로 처리
+     * 1. 비관적 락으로 쿠폰 조회 (요청 묶음당 1회)
+     * 2. 이미 발급된 사용자 제외
+     * 3. 발급 수량 일괄 증가
+     * 4. 발급 이력 multi-row insert
+     * 5. 쿠폰 소진 시 이벤트 발행
+     * @param couponId 발급할 쿠폰 ID
+     * @param userIds 발급 대상 사용자 ID 목록
+     * @return 실제로 발급된 사용자 ID 목록
+     */
+    @Transactional
+    public List<Long> issueBatch(long couponId, List<Long> userIds) {
+        Coupon coupon = findCouponWithLock(couponId);
+        List<Long> targetUserIds = excludeAlreadyIssuance(couponId, userIds);
+        if (targetUserIds.isEmpty()) {
+            return targetUserIds;
+        }
+        coupon.issue(targetUserIds.size());
+        couponIssueJdbcRepository.saveAll(couponId, targetUserIds);
+        publishCouponEvent(coupon);
+        return targetUserIds;
+    }
+
     /*
         lock 획득
         트랜잭션 시작
@@ -84,31 +185,69 @@ public class CouponIssueService {
 
     /**
      * 쿠폰 발급 이력 저장
+     * 중복 발급 검증은 (coupon_id, user_id) 유니크 인덱스에 위임하여 별도 조회 없이 INSERT 한 번으로 처리
+     * - 조회 후 저장(SELECT-then-INSERT) 방식은 발급 이력이 쌓일수록 느려지고 락 보유 시간이 길어짐
+     * - 유니크 제약 위반 시 중복 발급 예외로 변환되며, 트랜잭션은 롤백됨
      * @param couponId 발급할 쿠폰 ID
      * @param userId 발급 대상 사용자 ID
      * @return 저장된 쿠폰 발급 이력
      */
     @Transactional
     public CouponIssue saveCouponIssue(long couponId, long userId) {
-        checkAlreadyIssuance(couponId, userId);
         CouponIssue issue = CouponIssue.builder()
                 .couponId(couponId)
                 .userId(userId)
                 .build();
-        return couponIssueJpaRepository.save(issue);
+        try {
+            return couponIssueJpaRepository.save(issue);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicatedCouponIssue(e)) {
+                throw e;
+            }
+            throw new CouponIssueException(DUPLICATED_COUPON_ISSUE,
+                    "이미 발급된 쿠폰입니다. user_id: %s, coupon_id: %s".formatted(userId, couponId));
+        }
     }
 
     /**
-     * 쿠폰 중복 발급 검증
-     * @param couponId 검증할 쿠폰 ID
-     * @param userId 검증할 사용자 ID
+     * (coupon_id, user_id) 유니크 제약 위반(중복 발급)인지 판단
+     * 그 외 무결성 제약 위반(NOT NULL, 컬럼 길이 등)은 중복 발급으로 응답하지 않도록 구분
+     * - DuplicateKeyException 이거나, Hibernate가 추출한 제약 이름 또는 드라이버 메시지에 유니크 제약 이름이 포함된 경우
+     *   (MySQL: "Duplicate entry ... for key 'coupon_issues.uk_...'", H2: "Unique index or primary key violation: \"PUBLIC.UK_... ")
      */
-    private void checkAlreadyIssuance(long couponId, long userId) {
-        CouponIssue issue = couponIssueJpaRepository.findFirstCouponIssue(couponId, userId);
-        if (issue != null) {
-            throw new CouponIssueException(DUPLICATED_COUPON_ISSUE,
-                    "이미 발급된 쿠폰입니다. user_id: %s, coupon_id: %s".formatted(userId, couponId));
+    private boolean isDuplicatedCouponIssue(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        if (e.getCause() instanceof ConstraintViolationException violation && containsConstraintName(violation.getConstraintName())) {
+            return true;
         }
+        return containsConstraintName(e.getMostSpecificCause().getMessage());
+    }
+
+    private boolean containsConstraintName(String value) {
+        return value != null && value.toLowerCase().contains(CouponIssue.UK_COUPON_ID_USER_ID);
+    }
+
+    /**
+     * 일괄 발급 대상 중 이미 발급된 사용자와 요청 내 중복 사용자를 제외
+     * (coupon_id, user_id) 유니크 인덱스를 사용하는 IN 조회 1회로 처리
+     * @param couponId 검증할 쿠폰 ID
+     * @param userIds 검증할 사용자 ID 목록
+     * @return 발급 가능한 사용자 ID 목록 (요청 순서 유지)
+     */
+    private List<Long> excludeAlreadyIssuance(long couponId, List<Long> userIds) {
+        Set<Long> issuedUserIds = new HashSet<>(couponIssueJpaRepository.findIssuedUserIds(couponId, userIds));
+        return userIds.stream()
+                .distinct()
+                .filter(userId -> !issuedUserIds.contains(userId))
+                .toList();
+    }
+
+    private void countIssueResult(String result) {
+        resultCounters.computeIfAbsent(result, key ->
+                meterRegistry.counter("coupon.issue.db", "strategy", issueStrategy.name(), "result", key)
+        ).increment();
     }
 
     /**
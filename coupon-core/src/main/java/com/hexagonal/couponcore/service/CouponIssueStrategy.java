@@ -0,0 +1,9 @@
+package com.hexagonal.couponcore.service;
+
+/**
+ * 동기식 쿠폰 발급 시 DB 동시성 제어 방식
+ */
+public enum CouponIssueStrategy {
+    PESSIMISTIC_LOCK,    // SELECT FOR UPDATE 후 엔티티 수정
+    CONDITIONAL_UPDATE   // 락 없이 조건부 UPDATE 한 번으로 수량 증가
+}
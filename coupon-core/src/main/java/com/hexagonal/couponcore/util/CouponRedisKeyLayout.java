@@ -0,0 +1,9 @@
+package com.hexagonal.couponcore.util;
+
+/**
+ * 쿠폰별 Redis 키 배치 방식
+ */
+public enum CouponRedisKeyLayout {
+    STANDARD, // 단일 Redis 서버 (issue.request.couponId=123)
+    CLUSTER   // Redis Cluster, 쿠폰별 키를 같은 hash tag로 묶어 한 슬롯에 배치 ({coupon:123}:issued)
+}
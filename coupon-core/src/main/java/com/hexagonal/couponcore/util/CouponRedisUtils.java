@@ -1,15 +1,19 @@
 package com.hexagonal.couponcore.util;
 
+/**
+ * Redis 전역 키, 채널 이름 생성 유틸리티
+ * 전역 키(Queue, Dead Letter Queue 등)와 채널은 키 배치 방식과 관계없이 고정
+ * 쿠폰별 키는 coupon.redis.key-layout 설정에 따라 형식이 달라지므로 CouponRedisKeys 사용
+ */
 public class CouponRedisUtils {
     /**
-     * 특정 쿠폰의 발급 요청 Set을 위한 Redis 키 생성
-     * - 각 쿠폰별로 고유한 Set을 생성하여 발급 요청한 사용자 ID들을 관리
-     * - 사용 예: "issue.request.couponId=123"
-     * @param couponId 쿠폰 ID
+     * 쿠폰별 발급 요청 Queue에 처리할 요청이 있는 쿠폰 ID 목록 Set의 Redis 키
+     * - API가 쿠폰별 Queue에 요청을 적재한 뒤 등록하고, Consumer가 처리할 Queue를 찾기 위해 사용
+     * - 고정 키: "issue.request.coupons"
      * @return Redis Set 키
      */
-    public static String getIssueRequestKey(long couponId) {
-        return "issue.request.couponId=%s".formatted(couponId);
+    public static String getIssueRequestCouponsKey() {
+        return "issue.request.coupons";
     }
 
     /**
@@ -22,4 +26,115 @@ public class CouponRedisUtils {
     public static String getIssueRequestQueueKey() {
         return "issue.request";
     }
+
+    /**
+     * 쿠폰 발급 요청 Stream을 위한 Redis 키 생성
+     * - coupon.queue.type=stream 일 때 사용되는 단일 Stream의 키
+     * - 고정 키: "issue.request.stream"
+     * @return Redis Stream 키
+     */
+    public static String getIssueRequestStreamKey() {
+        return "issue.request.stream";
+    }
+
+    /**
+     * 쿠폰 발급 요청 Stream을 소비하는 Consumer Group 이름
+     * - 모든 coupon-consumer 인스턴스가 같은 그룹에 속해 요청을 나눠서 처리
+     * @return Consumer Group 이름
+     */
+    public static String getIssueRequestConsumerGroup() {
+        return "issue.request.group";
+    }
+
+    /**
+     * Consumer별 처리 중(processing) List를 위한 Redis 키 생성
+     * - BLMOVE로 Queue에서 옮겨온 요청을 커밋 완료 전까지 보관
+     * - 사용 예: "issue.request.processing.consumer-1"
+     * @param consumerName Consumer 이름
+     * @return Redis List 키
+     */
+    public static String getIssueRequestProcessingKey(String consumerName) {
+        return "issue.request.processing.%s".formatted(consumerName);
+    }
+
+    /**
+     * 처리 중 List를 사용하는 Consumer 목록 Set의 Redis 키
+     * - 종료된 Consumer의 처리 중 List를 찾아 복구하기 위해 사용
+     * - 고정 키: "issue.request.consumers"
+     * @return Redis Set 키
+     */
+    public static String getIssueRequestConsumersKey() {
+        return "issue.request.consumers";
+    }
+
+    /**
+     * Consumer 생존 확인(heartbeat)을 위한 Redis 키 생성
+     * - TTL이 만료되면 해당 Consumer는 종료된 것으로 판단
+     * - 사용 예: "issue.request.consumer.consumer-1"
+     * @param consumerName Consumer 이름
+     * @return Redis 키
+     */
+    public static String getIssueRequestConsumerHeartbeatKey(String consumerName) {
+        return "issue.request.consumer.%s".formatted(consumerName);
+    }
+
+    /**
+     * 처리에 실패한 발급 요청을 보관하는 Dead Letter Queue의 Redis 키
+     * - 재시도해도 성공할 수 없는 요청을 실패 사유와 함께 보관하여 Queue 처리가 막히지 않도록 함
+     * - 고정 키: "issue.request.dead"
+     * @return Redis List 키
+     */
+    public static String getIssueRequestDeadLetterKey() {
+        return "issue.request.dead";
+    }
+
+    /**
+     * Consumer가 처리 완료한 발급 요청 누적 수 카운터의 Redis 키
+     * - 모든 Consumer가 처리한 요청 수만큼 INCRBY 하며, API 노드는 주기적으로 조회한 증가량으로 Queue 소진 속도를 계산
+     * - 고정 키: "issue.request.drained"
+     * @return Redis String 키
+     */
+    public static String getIssueRequestDrainedKey() {
+        return "issue.request.drained";
+    }
+
+    /**
+     * 쿠폰 매진 알림을 전파하는 Pub/Sub 채널
+     * - 메시지 본문은 매진된 쿠폰 ID
+     * - 고정 채널: "coupon.sold-out"
+     * @return Redis Pub/Sub 채널 이름
+     */
+    public static String getCouponSoldOutChannel() {
+        return "coupon.sold-out";
+    }
+
+    /**
+     * 쿠폰 로컬 캐시 무효화를 전파하는 Pub/Sub 채널
+     * - 메시지 본문은 "노드ID:쿠폰ID"
+     * - 고정 채널: "coupon.cache.invalidate"
+     * @return Redis Pub/Sub 채널 이름
+     */
+    public static String getCouponCacheInvalidateChannel() {
+        return "coupon.cache.invalidate";
+    }
+
+    /**
+     * 대기열이 존재하는 쿠폰 ID 목록 Set의 Redis 키
+     * - 스케줄러가 입장 처리할 쿠폰을 찾기 위해 사용하며, 대기열이 비면 스케줄러가 제거
+     * - 고정 키: "coupon.waiting.coupons"
+     * @return Redis Set 키
+     */
+    public static String getCouponWaitingCouponsKey() {
+        return "coupon.waiting.coupons";
+    }
+
+    /**
+     * 발급 요청 처리 결과 기록을 알리는 Pub/Sub 채널
+     * - 메시지 본문은 "쿠폰ID:사용자ID,사용자ID,..." (결과 기록 묶음 단위로 1회 발행)
+     * - 고정 채널: "issue.result"
+     * @return Redis Pub/Sub 채널 이름
+     */
+    public static String getIssueResultChannel() {
+        return "issue.result";
+    }
 }
@@ -0,0 +1,11 @@
+-- 쿠폰 메타 정보 저장 Lua 스크립트
+-- KEYS[1]: 쿠폰 메타 Hash
+-- ARGV[1]: 만료 시간(ms), ARGV[2..]: (필드, 값) 쌍
+-- 이전 필드(존재하지 않는 쿠폰 기록 등)가 남지 않도록 삭제 후 저장하고 만료 시간 설정
+
+redis.call('DEL', KEYS[1])
+for i = 2, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,13 @@
+-- 쿠폰별 Queue 처리 완료 Lua 스크립트
+-- KEYS[1]: 쿠폰별 Queue, KEYS[2]: 처리 권한
+-- ARGV[1]: Consumer 이름, ARGV[2]: Queue 앞쪽에서 제거할 요청 수
+
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+local count = tonumber(ARGV[2])
+if count > 0 then
+    redis.call('LTRIM', KEYS[1], count, -1)
+end
+redis.call('DEL', KEYS[2])
+return 1
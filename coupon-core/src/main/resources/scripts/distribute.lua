@@ -0,0 +1,23 @@
+-- 분배 Lua 스크립트
+-- KEYS[1]: source List, KEYS[2..]: 이동 대상 List
+-- ARGV[1]: 요소 수(n), ARGV[2..n+1]: 조회해 둔 요소, ARGV[n+2..2n+1]: 요소별 이동 대상 (KEYS 인덱스 기준 0부터, 음수면 제거만)
+-- source 앞쪽 n개가 조회해 둔 요소와 모두 같을 때만 이동 후 source에서 제거
+
+local count = tonumber(ARGV[1])
+local head = redis.call('LRANGE', KEYS[1], 0, count - 1)
+if #head ~= count then
+    return 0
+end
+for i = 1, count do
+    if head[i] ~= ARGV[i + 1] then
+        return 0
+    end
+end
+for i = 1, count do
+    local destination = tonumber(ARGV[count + i + 1])
+    if destination >= 0 then
+        redis.call('RPUSH', KEYS[destination + 2], ARGV[i + 1])
+    end
+end
+redis.call('LTRIM', KEYS[1], count, -1)
+return 1
@@ -0,0 +1,30 @@
+-- 재고 임대 모드의 일괄 발급 요청 Lua 스크립트
+-- KEYS[1]: 발급 요청 Set, KEYS[2]: 발급 요청 Queue, KEYS[3]: 노드 임대 현황
+-- ARGV[1]: Queue 유형, ARGV[2]: 노드 ID, ARGV[3..]: (사용자 ID, 발급 요청) 쌍
+-- 노드의 임대가 회수되었다면 모두 수량 초과, 적재한 요청 수만큼 미사용 임대 수량 차감
+
+local codes = {}
+if redis.call('HEXISTS', KEYS[3], ARGV[2] .. ':expires') == 0 then
+    for i = 3, #ARGV, 2 do
+        codes[#codes + 1] = '3'
+    end
+    return codes
+end
+local issued = 0
+for i = 3, #ARGV, 2 do
+    if redis.call('SADD', KEYS[1], ARGV[i]) == 0 then
+        codes[#codes + 1] = '2'
+    else
+        if ARGV[1] == 'STREAM' then
+            redis.call('XADD', KEYS[2], '*', 'request', ARGV[i + 1])
+        else
+            redis.call('RPUSH', KEYS[2], ARGV[i + 1])
+        end
+        issued = issued + 1
+        codes[#codes + 1] = '1'
+    end
+end
+if issued > 0 then
+    redis.call('HINCRBY', KEYS[3], ARGV[2], -issued)
+end
+return codes
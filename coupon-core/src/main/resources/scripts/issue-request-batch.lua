@@ -0,0 +1,30 @@
+-- 일괄 발급 요청 Lua 스크립트
+-- KEYS[1]: 발급 요청 Set, KEYS[2]: 발급 요청 Queue, KEYS[3]: 매진 마커
+-- ARGV[1]: 총 발급 수량, ARGV[2]: Queue 유형, ARGV[3]: 매진 채널, ARGV[4]: 쿠폰 ID, ARGV[5]: 매진 마커 유지 시간(ms),
+-- ARGV[6..]: (사용자 ID, 발급 요청) 쌍
+-- 요청마다 중복, 수량 체크 후 발급 요청 처리하며 수량 초과가 있었다면 최초 매진 시 1회만 전파
+
+local total = tonumber(ARGV[1])
+local codes = {}
+local soldOut = false
+for i = 6, #ARGV, 2 do
+    if redis.call('SISMEMBER', KEYS[1], ARGV[i]) == 1 then
+        codes[#codes + 1] = '2'
+    elseif total > redis.call('SCARD', KEYS[1]) then
+        redis.call('SADD', KEYS[1], ARGV[i])
+        if ARGV[2] == 'STREAM' then
+            redis.call('XADD', KEYS[2], '*', 'request', ARGV[i + 1])
+        else
+            redis.call('RPUSH', KEYS[2], ARGV[i + 1])
+        end
+        codes[#codes + 1] = '1'
+    else
+        codes[#codes + 1] = '3'
+        soldOut = true
+    end
+end
+
+if soldOut and redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[5]) then
+    redis.call('PUBLISH', ARGV[3], ARGV[4])
+end
+return codes
@@ -0,0 +1,40 @@
+-- 서버 측 검증 발급 요청 Lua 스크립트
+-- KEYS[1]: 쿠폰 메타 Hash, KEYS[2]: 발급 요청 Set, KEYS[3]: 발급 요청 Queue, KEYS[4]: 매진 마커
+-- ARGV[1]: 사용자 ID, ARGV[2]: 발급 요청, ARGV[3]: Queue 유형, ARGV[4]: 매진 채널, ARGV[5]: 쿠폰 ID
+-- 1. 메타 정보 존재 확인 (존재하지 않는 쿠폰으로 기록되어 있으면 '6')
+-- 2. Redis 서버 시간 기준 발급 기간 체크
+-- 3. 중복 발급 체크
+-- 4. 수량 체크 및 발급 요청 처리 (최초 매진 시 매진 채널로 전파, 매진 마커는 발급 종료 시각에 만료)
+
+local meta = redis.call('HMGET', KEYS[1], 'total', 'start', 'end', 'missing')
+if meta[4] then
+    return '6'
+end
+if not meta[1] then
+    return '5'
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+if now <= tonumber(meta[2]) or now >= tonumber(meta[3]) then
+    return '4'
+end
+
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return '2'
+end
+
+if tonumber(meta[1]) > redis.call('SCARD', KEYS[2]) then
+    redis.call('SADD', KEYS[2], ARGV[1])
+    if ARGV[3] == 'STREAM' then
+        redis.call('XADD', KEYS[3], '*', 'request', ARGV[2])
+    else
+        redis.call('RPUSH', KEYS[3], ARGV[2])
+    end
+    return '1'
+end
+
+if redis.call('SET', KEYS[4], '1', 'NX', 'PX', math.max(tonumber(meta[3]) - now, 1000)) then
+    redis.call('PUBLISH', ARGV[4], ARGV[5])
+end
+return '3'
@@ -0,0 +1,18 @@
+-- 재고 임대 모드의 발급 요청 Lua 스크립트
+-- KEYS[1]: 발급 요청 Set, KEYS[2]: 발급 요청 Queue, KEYS[3]: 노드 임대 현황
+-- ARGV[1]: 사용자 ID, ARGV[2]: 발급 요청, ARGV[3]: Queue 유형, ARGV[4]: 노드 ID
+-- 노드의 임대가 회수되었다면 수량 초과, SADD 결과로 중복 여부를 판단하고 새로운 요청만 Queue에 적재한 뒤 미사용 임대 수량 차감
+
+if redis.call('HEXISTS', KEYS[3], ARGV[4] .. ':expires') == 0 then
+    return '3'
+end
+if redis.call('SADD', KEYS[1], ARGV[1]) == 0 then
+    return '2'
+end
+if ARGV[3] == 'STREAM' then
+    redis.call('XADD', KEYS[2], '*', 'request', ARGV[2])
+else
+    redis.call('RPUSH', KEYS[2], ARGV[2])
+end
+redis.call('HINCRBY', KEYS[3], ARGV[4], -1)
+return '1'
@@ -0,0 +1,30 @@
+-- 쿠폰 발급 처리를 위한 Lua 스크립트
+-- KEYS[1]: 발급 요청 Set, KEYS[2]: 발급 요청 Queue, KEYS[3]: 매진 마커
+-- ARGV[1]: 사용자 ID, ARGV[2]: 총 발급 수량, ARGV[3]: 발급 요청, ARGV[4]: Queue 유형, ARGV[5]: 매진 채널, ARGV[6]: 쿠폰 ID, ARGV[7]: 매진 마커 유지 시간(ms)
+-- 1. 중복 발급 체크
+-- 2. 수량 체크
+-- 3. 발급 요청 처리
+-- 4. 수량이 처음 소진된 시점에 매진 마커를 기록하고 매진 채널로 전파 (SET NX 성공 시 1회만 PUBLISH)
+--    매진 마커는 ARGV[7] 밀리초 후(발급 종료 시각) 만료
+
+-- 중복 발급 체크
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return '2'
+end
+
+-- 수량 체크 및 발급 처리
+if tonumber(ARGV[2]) > redis.call('SCARD', KEYS[1]) then
+    redis.call('SADD', KEYS[1], ARGV[1])
+    if ARGV[4] == 'STREAM' then
+        redis.call('XADD', KEYS[2], '*', 'request', ARGV[3])
+    else
+        redis.call('RPUSH', KEYS[2], ARGV[3])
+    end
+    return '1'
+end
+
+-- 최초 매진 시 전체 API 노드에 전파
+if redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[7]) then
+    redis.call('PUBLISH', ARGV[5], ARGV[6])
+end
+return '3'
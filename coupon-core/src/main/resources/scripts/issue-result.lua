@@ -0,0 +1,10 @@
+-- 발급 요청 처리 결과 기록 Lua 스크립트
+-- KEYS[1]: 결과 Hash, KEYS[2]: 결과 기록 여부
+-- ARGV[1]: 보관 기간(초), ARGV[2]: 결과 채널, ARGV[3]: 알림 메시지, ARGV[4..]: (사용자 ID, 결과) 쌍
+
+for i = 4, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+redis.call('SET', KEYS[2], '1')
+return redis.call('PUBLISH', ARGV[2], ARGV[3])
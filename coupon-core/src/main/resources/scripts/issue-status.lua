@@ -0,0 +1,16 @@
+-- 발급 요청 처리 상태 조회 Lua 스크립트
+-- KEYS[1]: 결과 Hash, KEYS[2]: 발급 요청 Set, KEYS[3]: 결과 기록 여부
+-- ARGV[1]: 사용자 ID
+-- 반환: {'result', 결과} 또는 {'status', 상태}
+
+local result = redis.call('HGET', KEYS[1], ARGV[1])
+if result then
+    return {'result', result}
+end
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 0 then
+    return {'status', 'NOT_REQUESTED'}
+end
+if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('EXISTS', KEYS[3]) == 1 then
+    return {'status', 'UNKNOWN'}
+end
+return {'status', 'PENDING'}
@@ -0,0 +1,10 @@
+-- 처리 중 List 복구 Lua 스크립트
+-- KEYS[1]: 처리 중 List, KEYS[2]: 발급 요청 Queue
+-- 마지막 요소부터 LPUSH 하여 원래 순서대로 Queue 앞쪽에 배치한 뒤 처리 중 List 삭제
+
+local items = redis.call('LRANGE', KEYS[1], 0, -1)
+for i = #items, 1, -1 do
+    redis.call('LPUSH', KEYS[2], items[i])
+end
+redis.call('DEL', KEYS[1])
+return #items
@@ -0,0 +1,33 @@
+-- 재고 임대 Lua 스크립트
+-- KEYS[1]: 미할당 재고 카운터, KEYS[2]: 발급 요청 Set, KEYS[3]: 노드 임대 현황
+-- ARGV[1]: 총 발급 수량, ARGV[2]: 임대 요청 수량, ARGV[3]: 노드 ID, ARGV[4]: 임대 만료 시간(ms)
+-- 1. 재고 카운터가 없으면 (총 수량 - 발급 요청 Set 크기)로 초기화
+-- 2. 만료 시각이 지난 노드의 미사용 임대 수량을 재고로 회수하고 노드 기록 삭제 (시각은 Redis TIME 기준)
+-- 3. 재고에서 임대 수량 차감 후 노드 임대 수량 증가, 만료 시각 갱신
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    local remaining = tonumber(ARGV[1]) - redis.call('SCARD', KEYS[2])
+    redis.call('SET', KEYS[1], math.max(remaining, 0))
+end
+local fields = redis.call('HGETALL', KEYS[3])
+for i = 1, #fields, 2 do
+    local field = fields[i]
+    if string.sub(field, -8) == ':expires' and tonumber(fields[i + 1]) < now then
+        local node = string.sub(field, 1, -9)
+        local unused = tonumber(redis.call('HGET', KEYS[3], node) or '0')
+        if unused > 0 then
+            redis.call('INCRBY', KEYS[1], unused)
+        end
+        redis.call('HDEL', KEYS[3], node, field)
+    end
+end
+local granted = math.min(tonumber(redis.call('GET', KEYS[1])), tonumber(ARGV[2]))
+if granted <= 0 then
+    return 0
+end
+redis.call('DECRBY', KEYS[1], granted)
+redis.call('HINCRBY', KEYS[3], ARGV[3], granted)
+redis.call('HSET', KEYS[3], ARGV[3] .. ':expires', now + tonumber(ARGV[4]))
+return granted
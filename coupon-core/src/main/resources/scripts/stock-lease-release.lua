@@ -0,0 +1,10 @@
+-- 재고 반납 Lua 스크립트
+-- KEYS[1]: 미할당 재고 카운터, KEYS[2]: 노드 임대 현황
+-- ARGV[1]: 반납 수량, ARGV[2]: 노드 ID
+-- 재고 카운터가 초기화되지 않은 상태(삭제 등)이거나 노드의 임대가 이미 회수되었다면 반납하지 않음
+
+if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('HEXISTS', KEYS[2], ARGV[2] .. ':expires') == 0 then
+    return 0
+end
+redis.call('HINCRBY', KEYS[2], ARGV[2], -tonumber(ARGV[1]))
+return redis.call('INCRBY', KEYS[1], ARGV[1])
@@ -0,0 +1,12 @@
+-- 임대 만료 시각 갱신 Lua 스크립트
+-- KEYS[1]: 노드 임대 현황
+-- ARGV[1]: 노드 ID, ARGV[2]: 임대 만료 시간(ms)
+-- 이미 회수된 노드라면 갱신하지 않고 0 반환
+
+if redis.call('HEXISTS', KEYS[1], ARGV[1] .. ':expires') == 0 then
+    return 0
+end
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+redis.call('HSET', KEYS[1], ARGV[1] .. ':expires', now + tonumber(ARGV[2]))
+return 1
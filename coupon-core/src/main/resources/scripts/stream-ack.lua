@@ -0,0 +1,6 @@
+-- ACK 및 삭제 Lua 스크립트
+-- KEYS[1]: Stream
+-- ARGV[1]: Consumer Group, ARGV[2..]: 엔트리 ID 목록
+
+redis.call('XACK', KEYS[1], ARGV[1], unpack(ARGV, 2))
+return redis.call('XDEL', KEYS[1], unpack(ARGV, 2))
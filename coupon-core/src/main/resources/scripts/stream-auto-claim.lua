@@ -0,0 +1,24 @@
+-- Pending 엔트리 회수 Lua 스크립트
+-- KEYS[1]: Stream
+-- ARGV[1]: Consumer Group, ARGV[2]: Consumer 이름, ARGV[3]: 최소 미처리 시간(ms), ARGV[4]: 최대 회수 개수
+-- XAUTOCLAIM 결과를 [id1, value1, id2, value2, ...] 형태로 평탄화하여 반환
+-- 이미 삭제된 엔트리는 결과에서 제외하고 ACK 하여 Pending 목록에서 정리 (Redis 7 이상은 XAUTOCLAIM이 직접 정리)
+-- 한 페이지가 삭제된 엔트리로만 채워져도 회수가 멈추지 않도록, 반환된 커서가 0-0이 되거나 count개를 채울 때까지 이어서 조회
+
+local result = {}
+local limit = tonumber(ARGV[4])
+local cursor = '0-0'
+repeat
+    local remaining = limit - #result / 2
+    local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], cursor, 'COUNT', remaining)
+    cursor = claimed[1]
+    for _, entry in ipairs(claimed[2]) do
+        if entry and entry[2] then
+            table.insert(result, entry[1])
+            table.insert(result, entry[2][2])
+        elseif entry then
+            redis.call('XACK', KEYS[1], ARGV[1], entry[1])
+        end
+    end
+until cursor == '0-0' or #result / 2 >= limit
+return result
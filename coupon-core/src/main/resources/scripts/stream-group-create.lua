@@ -0,0 +1,8 @@
+-- Consumer Group 생성 Lua 스크립트
+-- KEYS[1]: Stream, ARGV[1]: Consumer Group
+-- 그룹이 이미 존재하는 경우(BUSYGROUP) 오류 대신 0 반환
+
+if pcall(redis.call, 'XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM') then
+    return 1
+end
+return 0
@@ -0,0 +1,11 @@
+-- 대기열 입장 처리 Lua 스크립트
+-- KEYS[1]: 대기열 Sorted Set, KEYS[2]: 입장 처리 주기 락
+-- ARGV[1]: 입장 인원, ARGV[2]: 입장 처리 주기(ms)
+
+if redis.call('ZCARD', KEYS[1]) == 0 then
+    return {}
+end
+if not redis.call('SET', KEYS[2], '1', 'NX', 'PX', ARGV[2]) then
+    return {}
+end
+return redis.call('ZPOPMIN', KEYS[1], ARGV[1])
@@ -0,0 +1,8 @@
+-- 대기열 종료 Lua 스크립트
+-- KEYS[1]: 대기열 Sorted Set, KEYS[2]: 입장 결과 Hash
+-- ARGV[1]: 종료 사유 필드, ARGV[2]: 종료 사유, ARGV[3]: 결과 보관 기간(ms)
+
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[3])
+return 1
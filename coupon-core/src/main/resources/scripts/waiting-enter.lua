@@ -0,0 +1,10 @@
+-- 대기열 진입 Lua 스크립트
+-- KEYS[1]: 대기열 Sorted Set, KEYS[2]: 입장 결과 Hash
+-- ARGV[1]: 사용자 ID, ARGV[2]: 도착 시각, ARGV[3]: 종료 사유 필드
+-- 대기열이 종료되었으면 -1, 아니면 진입(이미 대기 중이면 기존 점수 유지) 후 대기 순번 반환
+
+if redis.call('HEXISTS', KEYS[2], ARGV[3]) == 1 then
+    return -1
+end
+redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1])
+return redis.call('ZRANK', KEYS[1], ARGV[1])
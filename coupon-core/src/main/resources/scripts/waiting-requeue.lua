@@ -0,0 +1,13 @@
+-- 대기열 되돌림 Lua 스크립트
+-- KEYS[1]: 대기열 Sorted Set, KEYS[2]: 입장 결과 Hash
+-- ARGV[1]: 종료 사유 필드, ARGV[2..]: (사용자 ID, 대기 점수) 쌍
+-- 대기열이 종료되었으면 0, 아니면 원래 점수로 다시 추가한 인원 반환
+
+if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then
+    return 0
+end
+local requeued = 0
+for i = 2, #ARGV, 2 do
+    requeued = requeued + redis.call('ZADD', KEYS[1], 'NX', ARGV[i + 1], ARGV[i])
+end
+return requeued
@@ -27,7 +27,12 @@ CREATE TABLE `coupon`.`coupon_issues`
     `date_used`    datetime(6) NULL COMMENT '사용 일시',
     `date_created` datetime(6) NOT NULL COMMENT '생성 일시',
     `date_updated` datetime(6) NOT NULL COMMENT '수정 일시',
-    PRIMARY KEY (`id`)
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_coupon_issues_coupon_id_user_id` (`coupon_id`, `user_id`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
-    COMMENT '쿠폰 발급 내역';
\ No newline at end of file
+    COMMENT '쿠폰 발급 내역';
+
+-- 기존 테이블 마이그레이션 (중복 발급 데이터가 없는 상태에서 실행)
+-- ALTER TABLE `coupon`.`coupon_issues`
+--     ADD UNIQUE KEY `uk_coupon_issues_coupon_id_user_id` (`coupon_id`, `user_id`);
\ No newline at end of file
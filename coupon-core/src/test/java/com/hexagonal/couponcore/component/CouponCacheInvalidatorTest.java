@@ -0,0 +1,81 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getCouponCacheInvalidateChannel;
+
+class CouponCacheInvalidatorTest extends TestConfig {
+    @Autowired
+    CouponCacheInvalidator sut;
+
+    @Autowired
+    @Qualifier("localCacheManager")
+    CacheManager localCacheManager;
+
+    Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = localCacheManager.getCache("coupon");
+        cache.clear();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보낸 무효화 메시지를 받으면 로컬 캐시 항목을 제거한다.")
+    void onMessage_1() throws Exception {
+        // given
+        long couponId = 1;
+        cache.put(couponId, coupon(couponId));
+
+        // when
+        sut.onMessage(message("other-node:%s".formatted(couponId)), null);
+
+        // then
+        Assertions.assertNull(cached(couponId));
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 무효화 메시지는 무시한다.")
+    void onMessage_2() throws Exception {
+        // given
+        long couponId = 1;
+        cache.put(couponId, coupon(couponId));
+
+        // when
+        sut.onMessage(message("other-node:invalid"), null);
+
+        // then
+        Assertions.assertNotNull(cached(couponId));
+    }
+
+    /**
+     * 로컬 캐시는 CacheLoader 를 사용하므로 Cache.get 대신 적재 없이 조회
+     */
+    @SuppressWarnings("unchecked")
+    private Object cached(long couponId) {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache()).getIfPresent(couponId);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(getCouponCacheInvalidateChannel().getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CouponRedisEntity coupon(long couponId) {
+        return new CouponRedisEntity(couponId, CouponType.FIRST_COME_FIRST_SERVED, 100, true,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+    }
+}
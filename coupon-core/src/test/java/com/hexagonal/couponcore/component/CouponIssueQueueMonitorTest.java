@@ -0,0 +1,95 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponIssueQueueRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Collection;
+
+class CouponIssueQueueMonitorTest extends TestConfig {
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponIssueQueueRepository couponIssueQueueRepository;
+
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    CouponIssueQueueMonitor sut;
+
+    @BeforeEach
+    void setUp() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+        // 스케줄러가 샘플링하는 Bean과 상태를 공유하지 않도록 별도 인스턴스 사용
+        sut = new CouponIssueQueueMonitor(couponIssueQueueRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("처리 완료 카운터 증가량으로 초당 소진 속도를 계산하고 이전 값과 지수 이동 평균한다.")
+    void drainRate_1() {
+        // given
+        sut.sampleDrainRate(0, 0);
+
+        // when
+        sut.sampleDrainRate(100, 1000);
+        double first = sut.drainRatePerSecond();
+        sut.sampleDrainRate(400, 2000);
+
+        // then
+        Assertions.assertEquals(100.0, first);
+        Assertions.assertEquals(200.0, sut.drainRatePerSecond());
+    }
+
+    @Test
+    @DisplayName("카운터가 초기화되어 값이 줄어든 샘플은 소진 속도에 반영하지 않는다.")
+    void drainRate_2() {
+        // given
+        sut.sampleDrainRate(0, 0);
+        sut.sampleDrainRate(100, 1000);
+
+        // when
+        sut.sampleDrainRate(10, 2000);
+        sut.sampleDrainRate(110, 3000);
+
+        // then
+        Assertions.assertEquals(100.0, sut.drainRatePerSecond());
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간은 Queue 길이를 소진 속도로 나눈 값이다.")
+    void estimatedWaitMillis_1() {
+        // given
+        long couponId = 1;
+        for (long userId = 1; userId <= 10; userId++) {
+            couponIssueRequestRepository.issueRequest(couponId, userId, Integer.MAX_VALUE);
+        }
+        sut.sampleDrainRate(0, 0);
+        sut.sampleDrainRate(5, 1000);
+
+        // when
+        sut.sample();
+
+        // then
+        Assertions.assertEquals(10L, sut.queueSize());
+        Assertions.assertEquals(2000L, sut.estimatedWaitMillis());
+    }
+
+    @Test
+    @DisplayName("Queue가 비어있으면 예상 대기 시간은 0이다.")
+    void estimatedWaitMillis_2() {
+        // when
+        sut.sample();
+
+        // then
+        Assertions.assertEquals(0L, sut.estimatedWaitMillis());
+    }
+}
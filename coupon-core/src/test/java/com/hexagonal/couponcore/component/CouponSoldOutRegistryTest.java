@@ -0,0 +1,84 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getCouponCacheInvalidateChannel;
+
+class CouponSoldOutRegistryTest extends TestConfig {
+    @Autowired
+    CouponSoldOutRegistry sut;
+
+    @Autowired
+    CouponCacheInvalidator couponCacheInvalidator;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("매진 마커가 남아있다면 로컬 매진 기록을 유지한다.")
+    void refresh_1() throws Exception {
+        // given
+        long couponId = 1;
+        redisTemplate.opsForValue().set(couponRedisKeys.getCouponSoldOutKey(couponId), "1", Duration.ofMinutes(1));
+        sut.markSoldOut(couponId);
+
+        // when
+        sut.refresh(couponId);
+
+        // then
+        Assertions.assertTrue(sut.isSoldOut(couponId));
+    }
+
+    @Test
+    @DisplayName("매진 마커가 만료되었다면 주기적 확인 시 로컬 매진 기록을 제거한다.")
+    void refreshAll_1() throws Exception {
+        // given
+        long couponId = 2;
+        sut.markSoldOut(couponId);
+
+        // when
+        sut.refreshAll();
+
+        // then
+        Assertions.assertFalse(sut.isSoldOut(couponId));
+    }
+
+    @Test
+    @DisplayName("쿠폰 캐시 무효화 메시지를 받으면 매진 마커가 사라진 쿠폰의 로컬 매진 기록을 제거한다.")
+    void onInvalidate_1() throws Exception {
+        // given
+        long couponId = 3;
+        sut.markSoldOut(couponId);
+
+        // when
+        couponCacheInvalidator.onMessage(message("other-node:%s".formatted(couponId)), null);
+
+        // then
+        Assertions.assertFalse(sut.isSoldOut(couponId));
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(getCouponCacheInvalidateChannel().getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,233 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.model.Coupon;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.mysql.CouponJpaRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import com.hexagonal.couponcore.repository.redis.CouponWaitingRoomRepository;
+import com.hexagonal.couponcore.repository.redis.dto.CouponWaitingStatus;
+import com.hexagonal.couponcore.service.AsyncCouponIssueServiceV2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+
+@TestPropertySource(properties = {
+        "coupon.issue.waiting-room.enabled=true",
+        "coupon.issue.waiting-room.admit-per-tick=2",
+        "coupon.issue.waiting-room.tick-millis=60000"
+})
+class CouponWaitingRoomTest extends TestConfig {
+    @Autowired
+    CouponWaitingRoom sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
+    @Autowired
+    CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    CouponWaitingRoomRepository couponWaitingRoomRepository;
+
+    @Autowired
+    CouponSoldOutRegistry couponSoldOutRegistry;
+
+    @SpyBean
+    AsyncCouponIssueServiceV2 asyncCouponIssueServiceV2;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("대기열 진입 - 도착 순서대로 대기 순번을 반환한다.")
+    void enter_1() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        sut.enter(coupon.getId(), 1);
+
+        // when
+        CouponWaitingStatus status = sut.enter(coupon.getId(), 2);
+
+        // then
+        Assertions.assertEquals(CouponWaitingStatus.State.WAITING, status.state());
+        Assertions.assertEquals(2L, status.position());
+    }
+
+    @Test
+    @DisplayName("대기열 진입 - 이미 대기 중인 사용자가 다시 진입해도 기존 순번을 유지한다.")
+    void enter_2() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        sut.enter(coupon.getId(), 1);
+        sut.enter(coupon.getId(), 2);
+
+        // when
+        CouponWaitingStatus status = sut.enter(coupon.getId(), 1);
+
+        // then
+        Assertions.assertEquals(1L, status.position());
+        Assertions.assertEquals(2L, redisTemplate.opsForZSet().size(couponRedisKeys.getCouponWaitingKey(coupon.getId())));
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 주기마다 앞에서부터 설정된 인원만 입장시켜 발급 요청을 처리한다.")
+    void admit_1() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        sut.enter(coupon.getId(), 1);
+        sut.enter(coupon.getId(), 2);
+        sut.enter(coupon.getId(), 3);
+
+        // when
+        sut.admit();
+
+        // then
+        Assertions.assertEquals(CouponWaitingStatus.State.ADMITTED, sut.status(coupon.getId(), 1).state());
+        Assertions.assertEquals(CouponWaitingStatus.State.ADMITTED, sut.status(coupon.getId(), 2).state());
+        Assertions.assertEquals(CouponWaitingStatus.waiting(0), sut.status(coupon.getId(), 3));
+        Assertions.assertEquals(2L, redisTemplate.opsForList().size(getIssueRequestQueueKey()));
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 입장 중 수량이 소진되면 남은 대기자와 이후 진입자를 일괄 거절한다.")
+    void admit_2() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(1);
+        sut.enter(coupon.getId(), 1);
+        sut.enter(coupon.getId(), 2);
+        sut.enter(coupon.getId(), 3);
+
+        // when
+        sut.admit();
+
+        // then
+        CouponWaitingStatus rejected = CouponWaitingStatus.finished(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY);
+        Assertions.assertEquals(CouponWaitingStatus.State.ADMITTED, sut.status(coupon.getId(), 1).state());
+        Assertions.assertEquals(rejected, sut.status(coupon.getId(), 2));
+        Assertions.assertEquals(rejected, sut.status(coupon.getId(), 3));
+        Assertions.assertEquals(rejected, sut.enter(coupon.getId(), 4));
+        Assertions.assertFalse(redisTemplate.hasKey(couponRedisKeys.getCouponWaitingKey(coupon.getId())));
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 입장 처리 주기 락이 있으면 다른 노드가 이미 처리한 것으로 보고 입장시키지 않는다.")
+    void admit_3() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        sut.enter(coupon.getId(), 1);
+        redisTemplate.opsForValue().set(couponRedisKeys.getCouponWaitingTickKey(coupon.getId()), "1");
+
+        // when
+        sut.admit();
+
+        // then
+        Assertions.assertEquals(CouponWaitingStatus.waiting(0), sut.status(coupon.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 발급 요청에 실패하면 꺼낸 사용자를 원래 순번으로 대기열에 되돌린다.")
+    void admit_4() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        sut.enter(coupon.getId(), 1);
+        sut.enter(coupon.getId(), 2);
+        sut.enter(coupon.getId(), 3);
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .when(asyncCouponIssueServiceV2).tryIssueBatch(anyLong(), anyList());
+
+        // when
+        sut.admit();
+
+        // then
+        Assertions.assertEquals(CouponWaitingStatus.waiting(0), sut.status(coupon.getId(), 1));
+        Assertions.assertEquals(CouponWaitingStatus.waiting(1), sut.status(coupon.getId(), 2));
+        Assertions.assertEquals(CouponWaitingStatus.waiting(2), sut.status(coupon.getId(), 3));
+        Assertions.assertEquals(3L, redisTemplate.opsForZSet().zCard(couponRedisKeys.getCouponWaitingKey(coupon.getId())));
+    }
+
+    @Test
+    @DisplayName("대기열 종료 - 종료된 대기열에는 진입하거나 되돌릴 수 없다.")
+    void close_1() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        sut.enter(coupon.getId(), 1);
+        Map<Long, Double> admitted = couponWaitingRoomRepository.admitWaitingUsers(coupon.getId(), 1, 60000);
+        couponWaitingRoomRepository.closeWaitingRoom(coupon.getId(), CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY, Duration.ofMinutes(1));
+
+        // when
+        Long rank = couponWaitingRoomRepository.enterWaitingRoom(coupon.getId(), 2, System.currentTimeMillis());
+        long requeued = couponWaitingRoomRepository.requeueWaitingUsers(coupon.getId(), admitted);
+
+        // then
+        Assertions.assertNull(rank);
+        Assertions.assertEquals(0L, requeued);
+        Assertions.assertFalse(redisTemplate.hasKey(couponRedisKeys.getCouponWaitingKey(coupon.getId())));
+        Assertions.assertEquals(CouponWaitingStatus.finished(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY),
+                sut.status(coupon.getId(), 2));
+    }
+
+    @Test
+    @DisplayName("대기열 대상 여부 - 대기 중인 사용자가 없어도 발급 중인 선착순 쿠폰은 대기열을 거쳐야 한다.")
+    void isRequired_1() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+
+        // when
+        boolean required = sut.isRequired(coupon.getId());
+
+        // then
+        Assertions.assertTrue(required);
+        Assertions.assertFalse(redisTemplate.hasKey(couponRedisKeys.getCouponWaitingKey(coupon.getId())));
+    }
+
+    @Test
+    @DisplayName("대기열 대상 여부 - 매진된 쿠폰과 존재하지 않는 쿠폰은 대기열 대상이 아니다.")
+    void isRequired_2() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        couponSoldOutRegistry.markSoldOut(coupon.getId());
+
+        // when
+        boolean soldOut = sut.isRequired(coupon.getId());
+        boolean notExist = sut.isRequired(Long.MAX_VALUE);
+
+        // then
+        Assertions.assertFalse(soldOut);
+        Assertions.assertFalse(notExist);
+    }
+
+    private Coupon saveCoupon(int totalQuantity) {
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+        return couponJpaRepository.save(coupon);
+    }
+}
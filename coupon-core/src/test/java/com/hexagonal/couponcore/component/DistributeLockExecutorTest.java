@@ -0,0 +1,135 @@
+package com.hexagonal.couponcore.component;
+
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.DUPLICATED_COUPON_ISSUE;
+
+class DistributeLockExecutorTest extends TestConfig {
+    @Autowired
+    DistributeLockExecutor sut;
+
+    @Autowired
+    RedissonClient redissonClient;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("비동기 락을 획득하면 로직을 실행하고, 해제된 락은 다음 요청이 다시 획득한다.")
+    void executeAsync_1() {
+        // given
+        String lockName = "lock_async_test_1";
+        AtomicInteger executed = new AtomicInteger();
+
+        // when
+        sut.executeAsync(lockName, 3000, 3000, executed::incrementAndGet).join();
+        sut.executeAsync(lockName, 3000, 3000, executed::incrementAndGet).join();
+
+        // then
+        Assertions.assertEquals(2, executed.get());
+    }
+
+    @Test
+    @DisplayName("락 안의 로직에서 발생한 예외로 Future가 완료된다.")
+    void executeAsync_2() {
+        // given
+        String lockName = "lock_async_test_2";
+
+        // when
+        CompletableFuture<Void> result = sut.executeAsync(lockName, 3000, 3000, () -> {
+            throw new CouponIssueException(DUPLICATED_COUPON_ISSUE, "이미 발급 요청이 처리되었습니다.");
+        });
+
+        // then
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(CouponIssueException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 락을 획득하지 못하면 로직을 실행하지 않고 실패로 완료된다.")
+    void executeAsync_3() {
+        // given
+        String lockName = "lock_async_test_3";
+        RLock lock = redissonClient.getLock(lockName);
+        lock.lock();
+        AtomicInteger executed = new AtomicInteger();
+
+        try {
+            // when
+            CompletableFuture<Void> result = sut.executeAsync(lockName, 100, 3000, executed::incrementAndGet);
+
+            // then
+            CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+            Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+            Assertions.assertEquals(0, executed.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 락 태그의 대기/보유 시간은 하나의 Timer에 누적된다.")
+    void meter_1() {
+        // given
+        String lockTag = "lock_meter_test_{id}";
+        long waitCount = timerCount("coupon.lock.wait", lockTag, "acquired");
+        long holdCount = timerCount("coupon.lock.hold", lockTag, null);
+
+        // when
+        sut.execute("lock_meter_test_1", 3000, 3000, () -> {});
+        sut.execute("lock_meter_test_2", 3000, 3000, () -> {});
+
+        // then
+        Assertions.assertEquals(waitCount + 2, timerCount("coupon.lock.wait", lockTag, "acquired"));
+        Assertions.assertEquals(holdCount + 2, timerCount("coupon.lock.hold", lockTag, null));
+        Assertions.assertEquals(1, meterRegistry.find("coupon.lock.wait").tags("lock", lockTag, "mode", "sync", "result", "acquired").timers().size());
+    }
+
+    @Test
+    @DisplayName("락 획득에 실패하면 실패 사유별 카운터를 증가시킨다.")
+    void meter_2() {
+        // given
+        String lockName = "lock_meter_failed_1";
+        String lockTag = "lock_meter_failed_{id}";
+        RLock lock = redissonClient.getLock(lockName);
+        lock.lock();
+        double failed = failedCount(lockTag);
+
+        try {
+            // when
+            Assertions.assertThrows(CompletionException.class, () -> sut.executeAsync(lockName, 100, 3000, () -> {}).join());
+
+            // then
+            Assertions.assertEquals(failed + 1, failedCount(lockTag));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long timerCount(String name, String lockTag, String result) {
+        var search = meterRegistry.find(name).tags("lock", lockTag, "mode", "sync");
+        if (result != null) {
+            search = search.tag("result", result);
+        }
+        Timer timer = search.timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double failedCount(String lockTag) {
+        var counter = meterRegistry.find("coupon.lock.acquire.failed").tags("lock", lockTag, "mode", "async", "reason", "timeout").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,90 @@
+package com.hexagonal.couponcore.component;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class VirtualThreadPinnedMonitorTest {
+    private static final String PINNED_METER = "coupon.jvm.virtual-thread.pinned";
+    private static final long AWAIT_TIMEOUT_MILLIS = 10000L;
+
+    private final Object monitor = new Object();
+
+    @Test
+    @DisplayName("고정 위치별 Timer는 한 번만 등록되고 같은 위치의 고정 시간은 같은 Timer에 누적된다.")
+    void record_1() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinnedMonitor sut = new VirtualThreadPinnedMonitor(meterRegistry);
+
+        // when
+        sut.record("com.example.Driver.read", Duration.ofMillis(30));
+        sut.record("com.example.Driver.read", Duration.ofMillis(50));
+        sut.record("com.example.Pool.borrow", Duration.ofMillis(40));
+
+        // then
+        Timer driver = meterRegistry.find(PINNED_METER).tag("frame", "com.example.Driver.read").timer();
+        Assertions.assertEquals(2, meterRegistry.find(PINNED_METER).timers().size());
+        Assertions.assertEquals(2, driver.count());
+        Assertions.assertEquals(80, driver.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("가상 스레드가 synchronized 블록 안에서 블로킹되면 JDK 외부의 첫 번째 프레임으로 고정 시간을 기록한다. (Java 21 ~ 23)")
+    void onPinned_1() throws Exception {
+        // 가상 스레드는 Java 21부터 사용 가능하고, Java 24부터는 synchronized 블록에서 블로킹되어도 고정되지 않음 (JEP 491)
+        int feature = Runtime.version().feature();
+        Assumptions.assumeTrue(feature >= 21 && feature < 24, "Java %s 에서는 synchronized 고정이 발생하지 않음".formatted(feature));
+
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinnedMonitor sut = new VirtualThreadPinnedMonitor(meterRegistry);
+        ReflectionTestUtils.setField(sut, "thresholdMillis", 0L);
+        sut.start();
+
+        try {
+            // when
+            // 소스는 Java 17 기준이므로 가상 스레드는 리플렉션으로 시작
+            Thread thread = (Thread) Thread.class.getMethod("startVirtualThread", Runnable.class).invoke(null, (Runnable) this::sleepWhileHoldingMonitor);
+            thread.join();
+
+            // then
+            Assertions.assertTrue(awaitPinnedFrame(meterRegistry, getClass().getName()));
+        } finally {
+            sut.stop();
+        }
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * JFR 이벤트가 스트림으로 전달되어 기록될 때까지 대기
+     */
+    private boolean awaitPinnedFrame(SimpleMeterRegistry meterRegistry, String framePrefix) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            boolean recorded = meterRegistry.find(PINNED_METER).timers().stream()
+                    .anyMatch(timer -> timer.getId().getTag("frame").startsWith(framePrefix));
+            if (recorded) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.hexagonal.couponcore.model.CouponType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+class CouponCacheSerializerTest {
+    private final CouponRedisEntity coupon = new CouponRedisEntity(1L, CouponType.FIRST_COME_FIRST_SERVED, 100, true,
+            LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_000_000), LocalDateTime.of(2024, 1, 31, 23, 59, 59));
+
+    @Test
+    @DisplayName("바이너리 형식으로 저장한 쿠폰 정보를 그대로 복원한다.")
+    void binary_1() throws Exception {
+        // given
+        CouponCacheSerializer sut = new CouponCacheSerializer(CouponCacheFormat.BINARY);
+
+        // when
+        byte[] bytes = sut.serialize(coupon);
+
+        // then
+        Assertions.assertEquals(CouponCacheSerializer.SIZE, bytes.length);
+        Assertions.assertEquals(coupon, sut.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("총 발급 수량이 없는 쿠폰은 null 그대로 복원한다.")
+    void binary_2() throws Exception {
+        // given
+        CouponCacheSerializer sut = new CouponCacheSerializer(CouponCacheFormat.BINARY);
+        CouponRedisEntity unlimited = new CouponRedisEntity(2L, CouponType.FIRST_COME_FIRST_SERVED, null, false,
+                coupon.dateIssuedStart(), coupon.dateIssuedEnd());
+
+        // when
+        Object result = sut.deserialize(sut.serialize(unlimited));
+
+        // then
+        Assertions.assertEquals(unlimited, result);
+    }
+
+    @Test
+    @DisplayName("형식 전환 중에는 JSON과 바이너리 형식을 모두 읽을 수 있다.")
+    void migration_1() throws Exception {
+        // given
+        CouponCacheSerializer json = new CouponCacheSerializer(CouponCacheFormat.JSON);
+        CouponCacheSerializer binary = new CouponCacheSerializer(CouponCacheFormat.BINARY);
+
+        // when & then
+        Assertions.assertEquals(coupon, binary.deserialize(json.serialize(coupon)));
+        Assertions.assertEquals(coupon, json.deserialize(binary.serialize(coupon)));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전의 바이너리 형식은 예외를 반환한다.")
+    void binary_3() throws Exception {
+        // given
+        CouponCacheSerializer sut = new CouponCacheSerializer(CouponCacheFormat.BINARY);
+        byte[] bytes = sut.serialize(coupon);
+        bytes[1] = 99;
+
+        // when & then
+        Assertions.assertThrows(org.springframework.data.redis.serializer.SerializationException.class, () -> sut.deserialize(bytes));
+    }
+}
@@ -0,0 +1,160 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.hexagonal.couponcore.util.CouponRedisKeyLayout;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestCouponsKey;
+
+@TestPropertySource(properties = {
+        "coupon.queue.type=per-coupon",
+        "coupon.redis.key-layout=cluster"
+})
+class CouponIssueQueueRepositoryTest extends TestConfig {
+    @Autowired
+    CouponIssueQueueRepository sut;
+
+    @Autowired
+    CouponIssueRequestRepository couponIssueRequestRepository;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("키 배치 방식은 Spring 설정으로 결정되며, CLUSTER 배치의 발급 요청은 쿠폰 hash tag 키에 적재된다.")
+    void keyLayout_1() {
+        // when
+        couponIssueRequestRepository.issueRequest(1, 1, Integer.MAX_VALUE);
+
+        // then
+        Assertions.assertEquals(CouponRedisKeyLayout.CLUSTER, couponRedisKeys.getKeyLayout());
+        Assertions.assertEquals(1L, redisTemplate.opsForList().size("{coupon:1}:queue"));
+        Assertions.assertTrue(redisTemplate.opsForSet().isMember("{coupon:1}:issued", "1"));
+    }
+
+    @Test
+    @DisplayName("쿠폰별 Queue 길이의 합을 Queue 크기로 반환한다.")
+    void issueRequestQueueSize_1() {
+        // given
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(1, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(1, 2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(2, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(3, 1, totalQuantity);
+
+        // when
+        long size = sut.issueRequestQueueSize();
+
+        // then
+        Assertions.assertEquals(4L, size);
+    }
+
+    @Test
+    @DisplayName("쿠폰별 Queue의 첫 번째 요청 중 가장 먼저 적재된 요청을 Queue의 가장 오래된 요청으로 반환한다.")
+    void issueRequestQueueHead_1() throws Exception {
+        // given
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(2, 1, totalQuantity);
+        Thread.sleep(5);
+        couponIssueRequestRepository.issueRequest(1, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(2, 2, totalQuantity);
+
+        // when
+        String head = sut.issueRequestQueueHead();
+
+        // then
+        CouponIssueRequest request = objectMapper.readValue(head, CouponIssueRequest.class);
+        Assertions.assertEquals(2L, request.couponId());
+        Assertions.assertEquals(1L, request.userId());
+    }
+
+    @Test
+    @DisplayName("Queue가 비어있으면 Queue 크기는 0이고 가장 오래된 요청은 없다.")
+    void issueRequestQueueHead_2() {
+        // when & then
+        Assertions.assertEquals(0L, sut.issueRequestQueueSize());
+        Assertions.assertNull(sut.issueRequestQueueHead());
+    }
+
+    @Test
+    @DisplayName("쿠폰 ID 목록에 등록되지 못한 쿠폰별 Queue를 SCAN으로 찾아 다시 등록한다.")
+    void recoverCouponQueues_1() {
+        // given
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(1, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(2, 1, totalQuantity);
+        redisTemplate.opsForSet().remove(getIssueRequestCouponsKey(), "2");
+
+        // when
+        long recovered = sut.recoverCouponQueues();
+
+        // then
+        Assertions.assertEquals(1L, recovered);
+        Assertions.assertEquals(List.of(1L, 2L), sut.issueRequestQueueCoupons().stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("쿠폰별 Queue 처리 권한은 한 Consumer만 얻을 수 있고, 처리를 마치면 처리한 요청만 제거하고 권한을 반납한다.")
+    void completeCouponQueue_1() {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 3, totalQuantity);
+        Duration ttl = Duration.ofSeconds(30);
+
+        // when
+        boolean claimed = sut.claimCouponQueue(couponId, "consumer-1", ttl);
+        boolean claimedByOther = sut.claimCouponQueue(couponId, "consumer-2", ttl);
+        boolean completed = sut.completeCouponQueue(couponId, "consumer-1", 2);
+
+        // then
+        Assertions.assertTrue(claimed);
+        Assertions.assertFalse(claimedByOther);
+        Assertions.assertTrue(completed);
+        Assertions.assertEquals(1L, redisTemplate.opsForList().size(couponRedisKeys.getCouponIssueQueueKey(couponId)));
+        Assertions.assertTrue(sut.claimCouponQueue(couponId, "consumer-2", ttl));
+    }
+
+    @Test
+    @DisplayName("처리 권한을 다른 Consumer가 가져간 뒤에는 처리를 마쳐도 Queue에서 요청을 제거하지 않는다.")
+    void completeCouponQueue_2() {
+        // given
+        long couponId = 1;
+        int totalQuantity = Integer.MAX_VALUE;
+        couponIssueRequestRepository.issueRequest(couponId, 1, totalQuantity);
+        couponIssueRequestRepository.issueRequest(couponId, 2, totalQuantity);
+        sut.claimCouponQueue(couponId, "consumer-2", Duration.ofSeconds(30));
+
+        // when
+        boolean completed = sut.completeCouponQueue(couponId, "consumer-1", 2);
+
+        // then
+        Assertions.assertFalse(completed);
+        Assertions.assertEquals(2L, redisTemplate.opsForList().size(couponRedisKeys.getCouponIssueQueueKey(couponId)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.hexagonal.couponcore.TestConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Collection;
+
+class CouponIssueRequestRepositoryTest extends TestConfig {
+    @Autowired
+    CouponIssueRequestRepository sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("발급 결과는 결과 코드와 쿠폰 버킷별 카운터에 누적된다.")
+    void recordResult_1() throws Exception {
+        // given
+        long couponId = 1;
+        double success = requestCount("SUCCESS", couponId);
+        double duplicated = requestCount("DUPLICATED_COUPON_ISSUE", couponId);
+
+        // when
+        sut.tryIssueRequest(couponId, 1, 10);
+        sut.tryIssueRequest(couponId, 2, 10);
+        sut.tryIssueRequest(couponId, 1, 10);
+
+        // then
+        Assertions.assertEquals(success + 2, requestCount("SUCCESS", couponId));
+        Assertions.assertEquals(duplicated + 1, requestCount("DUPLICATED_COUPON_ISSUE", couponId));
+        Assertions.assertEquals(1, meterRegistry.find("coupon.issue.request").tags("result", "SUCCESS", "coupon.bucket", bucket(couponId)).counters().size());
+    }
+
+    @Test
+    @DisplayName("발급 스크립트 실행 시간은 스크립트별 하나의 Timer에 누적된다.")
+    void executeIssueScript_1() throws Exception {
+        // given
+        long couponId = 1;
+        long count = scriptCount("issue");
+
+        // when
+        sut.tryIssueRequest(couponId, 1, 10);
+        sut.tryIssueRequest(couponId, 2, 10);
+
+        // then
+        Assertions.assertEquals(count + 2, scriptCount("issue"));
+        Assertions.assertEquals(1, meterRegistry.find("coupon.issue.redis.script").tag("script", "issue").timers().size());
+    }
+
+    private double requestCount(String result, long couponId) {
+        Counter counter = meterRegistry.find("coupon.issue.request").tags("result", result, "coupon.bucket", bucket(couponId)).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long scriptCount(String script) {
+        Timer timer = meterRegistry.find("coupon.issue.redis.script").tag("script", script).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private String bucket(long couponId) {
+        return String.valueOf(Math.floorMod(couponId, 16));
+    }
+}
@@ -0,0 +1,73 @@
+package com.hexagonal.couponcore.repository.redis;
+
+import com.hexagonal.couponcore.util.CouponRedisKeyLayout;
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+
+class CouponRedisKeysTest {
+    private final CouponRedisKeys standard = new CouponRedisKeys(CouponRedisKeyLayout.STANDARD);
+    private final CouponRedisKeys cluster = new CouponRedisKeys(CouponRedisKeyLayout.CLUSTER);
+
+    @Test
+    @DisplayName("STANDARD 배치에서는 쿠폰 ID를 포함한 기존 키 형식을 사용한다.")
+    void couponKey_1() {
+        // when & then
+        Assertions.assertEquals("issue.request.couponId=123", standard.getIssueRequestKey(123));
+        Assertions.assertEquals("issue.request.queue.couponId=123", standard.getCouponIssueQueueKey(123));
+        Assertions.assertEquals("coupon.sold-out.couponId=123", standard.getCouponSoldOutKey(123));
+    }
+
+    @Test
+    @DisplayName("CLUSTER 배치에서는 한 쿠폰의 키가 모두 {coupon:쿠폰ID} hash tag를 가져 같은 슬롯에 배치된다.")
+    void couponKey_2() {
+        // given
+        long couponId = 123;
+
+        // when
+        List<String> keys = couponKeys(cluster, couponId);
+
+        // then
+        keys.forEach(key -> Assertions.assertTrue(key.startsWith("{coupon:123}:"), key));
+        Assertions.assertEquals(keys.size(), Set.copyOf(keys).size());
+        Set<Integer> slots = keys.stream().map(SlotHash::getSlot).collect(Collectors.toSet());
+        Assertions.assertEquals(Set.of(SlotHash.getSlot("{coupon:123}")), slots);
+    }
+
+    @Test
+    @DisplayName("쿠폰별 Queue 키 패턴으로 쿠폰 ID를 추출하고, 같은 쿠폰의 다른 키는 Queue 키로 보지 않는다.")
+    void couponIssueQueueKey_1() {
+        // when & then
+        Assertions.assertEquals("{coupon:*}:queue", cluster.getCouponIssueQueueKeyPattern());
+        Assertions.assertEquals(123L, cluster.getCouponIdFromIssueQueueKey(cluster.getCouponIssueQueueKey(123)));
+        Assertions.assertNull(cluster.getCouponIdFromIssueQueueKey(cluster.getCouponIssueQueueClaimKey(123)));
+        Assertions.assertNull(cluster.getCouponIdFromIssueQueueKey("{coupon:abc}:queue"));
+        Assertions.assertNull(cluster.getCouponIdFromIssueQueueKey(getIssueRequestQueueKey()));
+        Assertions.assertEquals(123L, standard.getCouponIdFromIssueQueueKey(standard.getCouponIssueQueueKey(123)));
+        Assertions.assertNull(standard.getCouponIdFromIssueQueueKey(standard.getCouponIssueQueueClaimKey(123)));
+    }
+
+    private List<String> couponKeys(CouponRedisKeys couponRedisKeys, long couponId) {
+        return List.of(
+                couponRedisKeys.getIssueRequestKey(couponId),
+                couponRedisKeys.getCouponIssueQueueKey(couponId),
+                couponRedisKeys.getCouponIssueQueueClaimKey(couponId),
+                couponRedisKeys.getIssueStockKey(couponId),
+                couponRedisKeys.getIssueStockLeaseKey(couponId),
+                couponRedisKeys.getCouponSoldOutKey(couponId),
+                couponRedisKeys.getCouponMetaKey(couponId),
+                couponRedisKeys.getCouponWaitingKey(couponId),
+                couponRedisKeys.getCouponWaitingResultKey(couponId),
+                couponRedisKeys.getCouponWaitingTickKey(couponId),
+                couponRedisKeys.getIssueResultKey(couponId),
+                couponRedisKeys.getIssueResultRecordedKey(couponId)
+        );
+    }
+}
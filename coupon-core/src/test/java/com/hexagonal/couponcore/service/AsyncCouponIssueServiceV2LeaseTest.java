@@ -0,0 +1,162 @@
+package com.hexagonal.couponcore.service;
+
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.component.CouponStockLeaseManager;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.model.Coupon;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.mysql.CouponJpaRepository;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.DUPLICATED_COUPON_ISSUE;
+import static com.hexagonal.couponcore.exception.ErrorCode.INVALID_COUPON_ISSUE_QUANTITY;
+
+@TestPropertySource(properties = {"coupon.issue.lease.enabled=true", "coupon.issue.lease.size=3"})
+class AsyncCouponIssueServiceV2LeaseTest extends TestConfig {
+    @Autowired
+    AsyncCouponIssueServiceV2 sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
+    @Autowired
+    CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    CouponStockLeaseManager couponStockLeaseManager;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("재고 임대 - 첫 발급 요청 시 임대 수량만큼 미할당 재고를 차감하고 발급을 기록한다.")
+    void issue_1() throws Exception {
+        // given
+        long userId = 1;
+        Coupon coupon = saveCoupon(10);
+
+        // when
+        sut.issue(coupon.getId(), userId);
+
+        // then
+        Assertions.assertEquals("7", redisTemplate.opsForValue().get(couponRedisKeys.getIssueStockKey(coupon.getId())));
+        Assertions.assertTrue(redisTemplate.opsForSet().isMember(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(userId)));
+    }
+
+    @Test
+    @DisplayName("재고 임대 - 임대 가능한 재고가 없다면 예외를 반환한다.")
+    void issue_2() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(4);
+        IntStream.range(0, 4).forEach(userId -> sut.issue(coupon.getId(), userId));
+
+        // when & then
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.issue(coupon.getId(), 1000));
+        Assertions.assertEquals(INVALID_COUPON_ISSUE_QUANTITY, exception.getErrorCode());
+        Assertions.assertEquals(4, redisTemplate.opsForSet().size(couponRedisKeys.getIssueRequestKey(coupon.getId())));
+    }
+
+    @Test
+    @DisplayName("재고 임대 - 중복 발급 요청이라면 예외를 반환하고 확보한 수량은 다시 사용할 수 있다.")
+    void issue_3() throws Exception {
+        // given
+        long userId = 1;
+        Coupon coupon = saveCoupon(2);
+        sut.issue(coupon.getId(), userId);
+
+        // when
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.issue(coupon.getId(), userId));
+
+        // then
+        Assertions.assertEquals(DUPLICATED_COUPON_ISSUE, exception.getErrorCode());
+        sut.issue(coupon.getId(), 2);
+        Assertions.assertEquals(2, redisTemplate.opsForSet().size(couponRedisKeys.getIssueRequestKey(coupon.getId())));
+    }
+
+    @Test
+    @DisplayName("재고 임대 - 노드별 미사용 임대 수량과 만료 시각을 Redis에 기록한다.")
+    void lease_1() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        String leaseKey = couponRedisKeys.getIssueStockLeaseKey(coupon.getId());
+        String nodeId = couponStockLeaseManager.nodeId();
+
+        // when
+        sut.issue(coupon.getId(), 1);
+
+        // then
+        Assertions.assertEquals("2", redisTemplate.opsForHash().get(leaseKey, nodeId));
+        Assertions.assertNotNull(redisTemplate.opsForHash().get(leaseKey, nodeId + ":expires"));
+    }
+
+    @Test
+    @DisplayName("재고 임대 - 만료된 노드의 미사용 임대 수량은 다른 노드의 임대 요청 시 회수된다.")
+    void lease_2() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(5);
+        String leaseKey = couponRedisKeys.getIssueStockLeaseKey(coupon.getId());
+        String deadNodeId = "dead-node";
+        redisTemplate.opsForValue().set(couponRedisKeys.getIssueStockKey(coupon.getId()), "0");
+        redisTemplate.opsForHash().put(leaseKey, deadNodeId, "5");
+        redisTemplate.opsForHash().put(leaseKey, deadNodeId + ":expires", "1");
+
+        // when
+        sut.issue(coupon.getId(), 1);
+
+        // then
+        Assertions.assertEquals("2", redisTemplate.opsForValue().get(couponRedisKeys.getIssueStockKey(coupon.getId())));
+        Assertions.assertFalse(redisTemplate.opsForHash().hasKey(leaseKey, deadNodeId));
+        Assertions.assertFalse(redisTemplate.opsForHash().hasKey(leaseKey, deadNodeId + ":expires"));
+    }
+
+    @Test
+    @DisplayName("재고 임대 - 노드의 임대가 회수되었다면 로컬 임대를 폐기하고 다음 요청에서 새로 임대받는다.")
+    void lease_3() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(10);
+        String leaseKey = couponRedisKeys.getIssueStockLeaseKey(coupon.getId());
+        sut.issue(coupon.getId(), 1);
+        redisTemplate.delete(leaseKey);
+
+        // when
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.issue(coupon.getId(), 2));
+        sut.issue(coupon.getId(), 3);
+
+        // then
+        Assertions.assertEquals(INVALID_COUPON_ISSUE_QUANTITY, exception.getErrorCode());
+        Assertions.assertEquals("4", redisTemplate.opsForValue().get(couponRedisKeys.getIssueStockKey(coupon.getId())));
+        Assertions.assertEquals("2", redisTemplate.opsForHash().get(leaseKey, couponStockLeaseManager.nodeId()));
+    }
+
+    private Coupon saveCoupon(int totalQuantity) {
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+        return couponJpaRepository.save(coupon);
+    }
+}
@@ -2,10 +2,13 @@ package com.hexagonal.couponcore.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.component.CouponSoldOutRegistry;
 import com.hexagonal.couponcore.exception.CouponIssueException;
 import com.hexagonal.couponcore.model.Coupon;
 import com.hexagonal.couponcore.model.CouponType;
 import com.hexagonal.couponcore.repository.mysql.CouponJpaRepository;
+import com.hexagonal.couponcore.repository.redis.CouponIssueRequestCode;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
 import com.hexagonal.couponcore.repository.redis.dto.CouponIssueRequest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,12 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.IntStream;
 
 import static com.hexagonal.couponcore.exception.ErrorCode.*;
-import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestKey;
 import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
 
 class AsyncCouponIssueServiceV2Test extends TestConfig {
@@ -29,9 +33,15 @@ class AsyncCouponIssueServiceV2Test extends TestConfig {
     @Autowired
     RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
     @Autowired
     CouponJpaRepository couponJpaRepository;
 
+    @Autowired
+    CouponSoldOutRegistry couponSoldOutRegistry;
+
     @BeforeEach
     void clear() {
         Collection<String> redisKeys = redisTemplate.keys("*");
@@ -42,7 +52,7 @@ class AsyncCouponIssueServiceV2Test extends TestConfig {
     @DisplayName("쿠폰 발급 - 쿠폰이 존재하지 않는다면 예외를 반환한다.")
     void issue_1() throws Exception {
         // given
-        long couponId = 1;
+        long couponId = Long.MAX_VALUE - 1;
         long userId = 1;
 
         // when & then
@@ -67,7 +77,7 @@ class AsyncCouponIssueServiceV2Test extends TestConfig {
 
         couponJpaRepository.save(coupon);
         IntStream.range(0, coupon.getTotalQuantity()).forEach(idx ->
-                redisTemplate.opsForSet().add(getIssueRequestKey(coupon.getId()), String.valueOf(idx)));
+                redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(idx)));
 
         // when & then
         CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
@@ -90,7 +100,7 @@ class AsyncCouponIssueServiceV2Test extends TestConfig {
                 .build();
 
         couponJpaRepository.save(coupon);
-        redisTemplate.opsForSet().add(getIssueRequestKey(coupon.getId()), String.valueOf(userId));
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(userId));
 
         // when & then
         CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
@@ -113,7 +123,7 @@ class AsyncCouponIssueServiceV2Test extends TestConfig {
                 .build();
 
         couponJpaRepository.save(coupon);
-        redisTemplate.opsForSet().add(getIssueRequestKey(coupon.getId()), String.valueOf(userId));
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(userId));
 
         // when & then
         CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
@@ -141,7 +151,7 @@ class AsyncCouponIssueServiceV2Test extends TestConfig {
         sut.issue(coupon.getId(), userId);
 
         // then
-        Boolean isSaved = redisTemplate.opsForSet().isMember(getIssueRequestKey(coupon.getId()), String.valueOf(userId));
+        Boolean isSaved = redisTemplate.opsForSet().isMember(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(userId));
         Assertions.assertTrue(isSaved);
     }
 
@@ -160,13 +170,187 @@ class AsyncCouponIssueServiceV2Test extends TestConfig {
                 .build();
 
         couponJpaRepository.save(coupon);
-        CouponIssueRequest request = new CouponIssueRequest(coupon.getId(), userId);
+        long requestedAt = System.currentTimeMillis();
 
         // when
         sut.issue(coupon.getId(), userId);
 
         // then
         String savedIssueRequest = redisTemplate.opsForList().leftPop(getIssueRequestQueueKey());
-        Assertions.assertEquals(new ObjectMapper().writeValueAsString(request), savedIssueRequest);
+        CouponIssueRequest request = new ObjectMapper().readValue(savedIssueRequest, CouponIssueRequest.class);
+        Assertions.assertEquals(coupon.getId(), request.couponId());
+        Assertions.assertEquals(userId, request.userId());
+        Assertions.assertNotNull(request.requestId());
+        Assertions.assertTrue(request.enqueuedAt() >= requestedAt);
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 - 발급 수량이 처음 소진되면 발급 종료 시각에 만료되는 매진 마커를 기록하고 현재 노드에 매진으로 등록한다.")
+    void issue_7() throws Exception {
+        // given
+        long userId = 1000;
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+
+        couponJpaRepository.save(coupon);
+        IntStream.range(0, coupon.getTotalQuantity()).forEach(idx ->
+                redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(idx)));
+
+        // when
+        Assertions.assertThrows(CouponIssueException.class, () -> sut.issue(coupon.getId(), userId));
+
+        // then
+        Assertions.assertTrue(redisTemplate.hasKey(couponRedisKeys.getCouponSoldOutKey(coupon.getId())));
+        Assertions.assertTrue(couponSoldOutRegistry.isSoldOut(coupon.getId()));
+        long ttlSeconds = redisTemplate.getExpire(couponRedisKeys.getCouponSoldOutKey(coupon.getId()));
+        Assertions.assertTrue(ttlSeconds > 0 && ttlSeconds <= Duration.ofDays(1).toSeconds());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 - 매진으로 등록된 쿠폰은 쿠폰 조회 없이 수량 초과 예외를 반환한다.")
+    void issue_8() throws Exception {
+        // given
+        long couponId = Long.MAX_VALUE;
+        long userId = 1;
+        couponSoldOutRegistry.markSoldOut(couponId);
+
+        // when & then
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.issue(couponId, userId));
+        Assertions.assertEquals(INVALID_COUPON_ISSUE_QUANTITY, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 결과 코드 - 이미 발급된 유저라면 예외 없이 중복 발급 코드를 반환한다.")
+    void tryIssue_1() throws Exception {
+        // given
+        long userId = 1;
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+
+        couponJpaRepository.save(coupon);
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(userId));
+
+        // when
+        CouponIssueRequestCode code = sut.tryIssue(coupon.getId(), userId);
+
+        // then
+        Assertions.assertEquals(CouponIssueRequestCode.DUPLICATED_COUPON_ISSUE, code);
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 결과 코드 - 발급 기한이 유효하지 않다면 Redis 요청 없이 기간 오류 코드를 반환한다.")
+    void tryIssue_2() throws Exception {
+        // given
+        long userId = 1;
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().plusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(2))
+                .build();
+
+        couponJpaRepository.save(coupon);
+
+        // when
+        CouponIssueRequestCode code = sut.tryIssue(coupon.getId(), userId);
+
+        // then
+        Assertions.assertEquals(CouponIssueRequestCode.INVALID_COUPON_ISSUE_DATE, code);
+        Assertions.assertFalse(redisTemplate.hasKey(couponRedisKeys.getIssueRequestKey(coupon.getId())));
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 결과 코드 - 발급 요청이 성공하면 성공 코드를 반환한다.")
+    void tryIssue_3() throws Exception {
+        // given
+        long userId = 1;
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+
+        couponJpaRepository.save(coupon);
+
+        // when
+        CouponIssueRequestCode code = sut.tryIssue(coupon.getId(), userId);
+
+        // then
+        Assertions.assertEquals(CouponIssueRequestCode.SUCCESS, code);
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 요청 - 쿠폰이 존재하지 않는다면 예외 없이 쿠폰 없음 코드를 반환한다.")
+    void tryIssue_4() throws Exception {
+        // given
+        long couponId = Long.MAX_VALUE - 3;
+
+        // when
+        CouponIssueRequestCode first = sut.tryIssue(couponId, 1);
+        CouponIssueRequestCode second = sut.tryIssue(couponId, 2);
+
+        // then
+        Assertions.assertEquals(CouponIssueRequestCode.COUPON_NOT_EXIST, first);
+        Assertions.assertEquals(CouponIssueRequestCode.COUPON_NOT_EXIST, second);
+    }
+
+    @Test
+    @DisplayName("일괄 쿠폰 발급 - 요청 순서대로 중복, 수량을 검증하고 항목별 결과 코드를 반환한다.")
+    void tryIssueBatch_1() throws Exception {
+        // given
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(2)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+
+        couponJpaRepository.save(coupon);
+
+        // when
+        List<CouponIssueRequestCode> codes = sut.tryIssueBatch(coupon.getId(), List.of(1L, 2L, 1L, 3L));
+
+        // then
+        Assertions.assertEquals(List.of(
+                CouponIssueRequestCode.SUCCESS,
+                CouponIssueRequestCode.SUCCESS,
+                CouponIssueRequestCode.DUPLICATED_COUPON_ISSUE,
+                CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY
+        ), codes);
+        Assertions.assertEquals(2L, redisTemplate.opsForList().size(getIssueRequestQueueKey()));
+        Assertions.assertTrue(couponSoldOutRegistry.isSoldOut(coupon.getId()));
+    }
+
+    @Test
+    @DisplayName("일괄 쿠폰 발급 - 쿠폰이 존재하지 않는다면 모든 항목에 쿠폰 없음 코드를 반환한다.")
+    void tryIssueBatch_2() throws Exception {
+        // given
+        long couponId = Long.MAX_VALUE - 1;
+
+        // when
+        List<CouponIssueRequestCode> codes = sut.tryIssueBatch(couponId, List.of(1L, 2L));
+
+        // then
+        Assertions.assertEquals(List.of(CouponIssueRequestCode.COUPON_NOT_EXIST, CouponIssueRequestCode.COUPON_NOT_EXIST), codes);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.hexagonal.couponcore.service;
+
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.component.CouponCacheInvalidator;
+import com.hexagonal.couponcore.exception.CouponIssueException;
+import com.hexagonal.couponcore.model.Coupon;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.mysql.CouponJpaRepository;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import static com.hexagonal.couponcore.exception.ErrorCode.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@TestPropertySource(properties = "coupon.issue.server-side-validation.enabled=true")
+class AsyncCouponIssueServiceV2ValidationTest extends TestConfig {
+    @Autowired
+    AsyncCouponIssueServiceV2 sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
+    @Autowired
+    CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    CouponCacheInvalidator couponCacheInvalidator;
+
+    @SpyBean
+    CouponIssueService couponIssueService;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+    }
+
+    @Test
+    @DisplayName("서버 측 검증 - 쿠폰이 존재하지 않는다면 예외를 반환한다.")
+    void issue_1() throws Exception {
+        // given
+        long couponId = 1;
+        long userId = 1;
+
+        // when & then
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.issue(couponId, userId));
+        Assertions.assertEquals(COUPON_NOT_EXIST, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("서버 측 검증 - 메타 정보가 없다면 저장한 뒤 발급을 기록한다.")
+    void issue_2() throws Exception {
+        // given
+        long userId = 1;
+        Coupon coupon = saveCoupon(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+        // when
+        sut.issue(coupon.getId(), userId);
+
+        // then
+        Assertions.assertEquals("10", redisTemplate.opsForHash().get(couponRedisKeys.getCouponMetaKey(coupon.getId()), "total"));
+        Assertions.assertTrue(redisTemplate.opsForSet().isMember(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(userId)));
+    }
+
+    @Test
+    @DisplayName("서버 측 검증 - 발급 기한이 유효하지 않다면 예외를 반환한다.")
+    void issue_3() throws Exception {
+        // given
+        long userId = 1;
+        Coupon coupon = saveCoupon(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+
+        // when & then
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.issue(coupon.getId(), userId));
+        Assertions.assertEquals(INVALID_COUPON_ISSUE_DATE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("서버 측 검증 - 발급 가능 수량이 존재하지 않는다면 예외를 반환한다.")
+    void issue_4() throws Exception {
+        // given
+        long userId = 1000;
+        Coupon coupon = saveCoupon(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        IntStream.range(0, coupon.getTotalQuantity()).forEach(idx ->
+                redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(coupon.getId()), String.valueOf(idx)));
+
+        // when & then
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.issue(coupon.getId(), userId));
+        Assertions.assertEquals(INVALID_COUPON_ISSUE_QUANTITY, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("서버 측 검증 - 쿠폰 메타 정보는 만료 시간과 함께 저장된다.")
+    void meta_1() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+        // when
+        sut.issue(coupon.getId(), 1);
+
+        // then
+        long ttlSeconds = redisTemplate.getExpire(couponRedisKeys.getCouponMetaKey(coupon.getId()));
+        Assertions.assertTrue(ttlSeconds > 0 && ttlSeconds <= 600);
+    }
+
+    @Test
+    @DisplayName("서버 측 검증 - 존재하지 않는 쿠폰은 짧게 기록하여 반복 요청 시 쿠폰을 다시 조회하지 않는다.")
+    void meta_2() throws Exception {
+        // given
+        long couponId = 1;
+
+        // when
+        CouponIssueException first = Assertions.assertThrows(CouponIssueException.class, () -> sut.issue(couponId, 1));
+        CouponIssueException second = Assertions.assertThrows(CouponIssueException.class, () -> sut.issue(couponId, 2));
+
+        // then
+        Assertions.assertEquals(COUPON_NOT_EXIST, first.getErrorCode());
+        Assertions.assertEquals(COUPON_NOT_EXIST, second.getErrorCode());
+        verify(couponIssueService, times(1)).findCoupon(couponId);
+        long ttlSeconds = redisTemplate.getExpire(couponRedisKeys.getCouponMetaKey(couponId));
+        Assertions.assertTrue(ttlSeconds > 0 && ttlSeconds <= 5);
+    }
+
+    @Test
+    @DisplayName("서버 측 검증 - 쿠폰 캐시 무효화를 전파하면 쿠폰 메타 정보를 삭제한다.")
+    void meta_3() throws Exception {
+        // given
+        Coupon coupon = saveCoupon(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        sut.issue(coupon.getId(), 1);
+
+        // when
+        couponCacheInvalidator.publish(coupon.getId());
+
+        // then
+        Assertions.assertFalse(redisTemplate.hasKey(couponRedisKeys.getCouponMetaKey(coupon.getId())));
+    }
+
+    private Coupon saveCoupon(LocalDateTime dateIssuedStart, LocalDateTime dateIssuedEnd) {
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .dateIssuedStart(dateIssuedStart)
+                .dateIssuedEnd(dateIssuedEnd)
+                .build();
+        return couponJpaRepository.save(coupon);
+    }
+}
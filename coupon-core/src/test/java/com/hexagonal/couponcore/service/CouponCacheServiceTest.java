@@ -0,0 +1,146 @@
+package com.hexagonal.couponcore.service;
+
+import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.model.Coupon;
+import com.hexagonal.couponcore.model.CouponType;
+import com.hexagonal.couponcore.repository.redis.CouponRedisEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = "coupon.cache.local.refresh-after-write-seconds=1")
+class CouponCacheServiceTest extends TestConfig {
+    private static final long AWAIT_TIMEOUT_MILLIS = 5000L;
+
+    @Autowired
+    CouponCacheService sut;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    @Qualifier("localCacheManager")
+    CacheManager localCacheManager;
+
+    @SpyBean
+    CouponIssueService couponIssueService;
+
+    @BeforeEach
+    void clear() {
+        Collection<String> redisKeys = redisTemplate.keys("*");
+        redisTemplate.delete(redisKeys);
+        localCacheManager.getCache("coupon").clear();
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰의 로컬 캐시 미스가 동시에 발생해도 쿠폰 조회는 한 번만 수행된다.")
+    void getCouponLocalCache_1() throws Exception {
+        // given
+        long couponId = 1;
+        int threadCount = 10;
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return coupon(couponId, 10);
+        }).when(couponIssueService).findCoupon(couponId);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<CouponRedisEntity>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return sut.getCouponLocalCache(couponId);
+            }));
+        }
+        startLatch.countDown();
+
+        // then
+        for (Future<CouponRedisEntity> future : futures) {
+            Assertions.assertEquals(couponId, future.get(AWAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).id());
+        }
+        verify(couponIssueService, times(1)).findCoupon(couponId);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("refresh-after-write 시간이 지난 항목은 기존 값을 반환하고 CacheLoader로 다시 적재한다.")
+    void getCouponLocalCache_2() throws Exception {
+        // given
+        long couponId = 1;
+        doReturn(coupon(couponId, 10)).when(couponIssueService).findCoupon(couponId);
+        sut.getCouponLocalCache(couponId);
+        redisTemplate.delete(redisTemplate.keys("*"));
+        doReturn(coupon(couponId, 20)).when(couponIssueService).findCoupon(couponId);
+        Thread.sleep(1100);
+
+        // when
+        CouponRedisEntity stale = sut.getCouponLocalCache(couponId);
+
+        // then
+        Assertions.assertEquals(10, stale.totalQuantity());
+        verify(couponIssueService, timeout(AWAIT_TIMEOUT_MILLIS).times(2)).findCoupon(couponId);
+        Assertions.assertEquals(20, awaitLocalCacheTotalQuantity(couponId, 20));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 예외 없이 빈 값을 반환하고, 반복 조회는 DB를 다시 조회하지 않는다.")
+    void findCouponLocalCache_1() throws Exception {
+        // given
+        long couponId = Long.MAX_VALUE - 2;
+
+        // when
+        Optional<CouponRedisEntity> first = sut.findCouponLocalCache(couponId);
+        Optional<CouponRedisEntity> second = sut.findCouponLocalCache(couponId);
+
+        // then
+        Assertions.assertTrue(first.isEmpty());
+        Assertions.assertTrue(second.isEmpty());
+        verify(couponIssueService, times(1)).findCoupon(couponId);
+    }
+
+    /**
+     * 백그라운드 갱신으로 로컬 캐시 항목이 교체될 때까지 대기
+     */
+    private int awaitLocalCacheTotalQuantity(long couponId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MILLIS;
+        CouponRedisEntity cached = localCacheManager.getCache("coupon").get(couponId, CouponRedisEntity.class);
+        while (cached.totalQuantity() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            cached = localCacheManager.getCache("coupon").get(couponId, CouponRedisEntity.class);
+        }
+        return cached.totalQuantity();
+    }
+
+    private Coupon coupon(long couponId, int totalQuantity) {
+        return Coupon.builder()
+                .id(couponId)
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
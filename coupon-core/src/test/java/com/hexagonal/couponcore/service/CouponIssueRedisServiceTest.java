@@ -1,6 +1,7 @@
 package com.hexagonal.couponcore.service;
 
 import com.hexagonal.couponcore.TestConfig;
+import com.hexagonal.couponcore.repository.redis.CouponRedisKeys;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +12,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 import java.util.Collection;
 import java.util.stream.IntStream;
 
-import static com.hexagonal.couponcore.util.CouponRedisUtils.getIssueRequestKey;
-
 class CouponIssueRedisServiceTest extends TestConfig {
     @Autowired
     CouponIssueRedisService sut;
@@ -20,6 +19,9 @@ class CouponIssueRedisServiceTest extends TestConfig {
     @Autowired
     RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    CouponRedisKeys couponRedisKeys;
+
     @BeforeEach
     void clear() {
         Collection<String> redisKeys = redisTemplate.keys("*");
@@ -48,7 +50,7 @@ class CouponIssueRedisServiceTest extends TestConfig {
         long couponId = 1;
 
         IntStream.range(0, totalIssueQuantity).forEach(userId -> {
-            redisTemplate.opsForSet().add(getIssueRequestKey(couponId), String.valueOf(userId));
+            redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(couponId), String.valueOf(userId));
         });
 
         // when
@@ -78,7 +80,7 @@ class CouponIssueRedisServiceTest extends TestConfig {
         // given
         long couponId = 1;
         long userId = 1;
-        redisTemplate.opsForSet().add(getIssueRequestKey(couponId), String.valueOf(userId));
+        redisTemplate.opsForSet().add(couponRedisKeys.getIssueRequestKey(couponId), String.valueOf(userId));
 
         // when
         boolean result = sut.availableUserIssueQuantity(couponId, userId);
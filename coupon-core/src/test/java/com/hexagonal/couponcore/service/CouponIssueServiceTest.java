@@ -8,16 +8,22 @@ import com.hexagonal.couponcore.model.CouponIssue;
 import com.hexagonal.couponcore.model.CouponType;
 import com.hexagonal.couponcore.repository.mysql.CouponIssueJpaRepository;
 import com.hexagonal.couponcore.repository.mysql.CouponJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static com.hexagonal.couponcore.exception.ErrorCode.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class CouponIssueServiceTest extends TestConfig {
     @Autowired
@@ -61,6 +67,16 @@ class CouponIssueServiceTest extends TestConfig {
         assertTrue(couponIssueJpaRepository.findById(result.getId()).isPresent());
     }
     @Test
+    @DisplayName("중복 발급이 아닌 무결성 제약 위반은 중복 발급 예외로 변환하지 않는다.")
+    void saveCouponIssue_3() throws Exception {
+        // given
+        CouponIssueJpaRepository failingRepository = mock(CouponIssueJpaRepository.class);
+        when(failingRepository.save(any())).thenThrow(new DataIntegrityViolationException("NULL not allowed for column \"COUPON_ID\""));
+        CouponIssueService service = new CouponIssueService(couponJpaRepository, failingRepository, null, null, new SimpleMeterRegistry());
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> service.saveCouponIssue(1L, 1L));
+    }
+    @Test
     @DisplayName("발급 수량, 기한, 중복 발급 문제가 없다면 쿠폰을 발급한다.")
     void issue_1() throws Exception {
         // given
@@ -160,4 +176,70 @@ class CouponIssueServiceTest extends TestConfig {
         );
         assertEquals(COUPON_NOT_EXIST, exception.getErrorCode());
     }
+
+    @Test
+    @DisplayName("일괄 발급 - 요청된 사용자 수만큼 발급 수량을 증가시키고 발급 이력을 저장한다.")
+    void issueBatch_1() throws Exception {
+        // given
+        List<Long> userIds = List.of(1L, 2L, 3L);
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(100)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+        couponJpaRepository.save(coupon);
+        // when
+        List<Long> result = sut.issueBatch(coupon.getId(), userIds);
+        // then
+        assertEquals(userIds, result);
+        Coupon couponResult = couponJpaRepository.findById(coupon.getId()).get();
+        assertEquals(userIds.size(), couponResult.getIssuedQuantity());
+        userIds.forEach(userId -> assertNotNull(couponIssueJpaRepository.findFirstCouponIssue(coupon.getId(), userId)));
+    }
+    @Test
+    @DisplayName("일괄 발급 - 이미 발급된 사용자는 제외하고 발급한다.")
+    void issueBatch_2() throws Exception {
+        // given
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(100)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+        couponJpaRepository.save(coupon);
+        couponIssueJpaRepository.save(CouponIssue.builder()
+                .couponId(coupon.getId())
+                .userId(1L)
+                .build());
+        // when
+        List<Long> result = sut.issueBatch(coupon.getId(), List.of(1L, 2L, 2L));
+        // then
+        assertEquals(List.of(2L), result);
+        Coupon couponResult = couponJpaRepository.findById(coupon.getId()).get();
+        assertEquals(1, couponResult.getIssuedQuantity());
+    }
+    @Test
+    @DisplayName("일괄 발급 - 남은 수량보다 많은 요청이면 예외를 반환한다.")
+    void issueBatch_3() throws Exception {
+        // given
+        Coupon coupon = Coupon.builder()
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .title("선착순 테스트 쿠폰")
+                .totalQuantity(2)
+                .issuedQuantity(0)
+                .dateIssuedStart(LocalDateTime.now().minusDays(1))
+                .dateIssuedEnd(LocalDateTime.now().plusDays(1))
+                .build();
+        couponJpaRepository.save(coupon);
+        // when & then
+        CouponIssueException exception = Assertions.assertThrows(CouponIssueException.class, () ->
+                sut.issueBatch(coupon.getId(), List.of(1L, 2L, 3L))
+        );
+        assertEquals(INVALID_COUPON_ISSUE_QUANTITY, exception.getErrorCode());
+    }
 }
\ No newline at end of file
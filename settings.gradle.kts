@@ -3,5 +3,6 @@ rootProject.name = "coupon_service"
 include(
     "coupon-core",
     "coupon-api",
-    "coupon-consumer"
+    "coupon-consumer",
+    "coupon-benchmark"
 )